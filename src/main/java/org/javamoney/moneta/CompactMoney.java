@@ -0,0 +1,837 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.javamoney.moneta.internal.CompactMoneyAmountBuilder;
+import org.javamoney.moneta.spi.DefaultNumberValue;
+import org.javamoney.moneta.spi.FixedPointArithmetic;
+import org.javamoney.moneta.spi.FixedPointNumberValue;
+import org.javamoney.moneta.spi.MoneyUtils;
+
+import javax.money.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Platform RI: Compact variant of {@link Money}. As long as possible, the numeric value is held as an unscaled
+ * {@code long} and a scale, so additions, subtractions, multiplications and comparisons are performed with
+ * {@code long} arithmetic, without creating any {@link BigDecimal}. Only if a result exceeds the {@code long}
+ * range, or an operation such as a division requires it, the value is represented as {@link BigDecimal}.
+ * <p>
+ * Results are the same as for {@link Money}: trailing zeros are removed from numbers with a positive scale,
+ * divisions use the {@link MathContext} of the {@link MonetaryContext}. Additionally the precision of the
+ * {@link MonetaryContext} is applied to all results, which keep the {@link MonetaryContext} of the instance
+ * they were created from.
+ * </p>
+ * <p>
+ * As required by {@link MonetaryAmount} this class is final, thread-safe, immutable and serializable.
+ * </p>
+ *
+ * @author Anatole Tresch
+ */
+public final class CompactMoney implements MonetaryAmount, Comparable<MonetaryAmount>, Serializable{
+
+    /**
+     * serialVersionUID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default {@link MonetaryContext} applied, if not set explicitly on creation. It has the same
+     * precision and {@link RoundingMode} as {@link Money#DEFAULT_MONETARY_CONTEXT}.
+     */
+    public static final MonetaryContext DEFAULT_MONETARY_CONTEXT =
+            MonetaryContext.from(Money.DEFAULT_MONETARY_CONTEXT, CompactMoney.class);
+
+    private static final MathContext DEFAULT_MATH_CONTEXT =
+            MoneyUtils.getMathContext(DEFAULT_MONETARY_CONTEXT, RoundingMode.HALF_EVEN);
+
+    /**
+     * The currency of this amount.
+     */
+    private final CurrencyUnit currency;
+
+    /**
+     * the {@link MonetaryContext} used by this instance, e.g. on division.
+     */
+    private final MonetaryContext monetaryContext;
+
+    /**
+     * The {@link MathContext} evaluated from {@link #monetaryContext}.
+     */
+    private final MathContext mathContext;
+
+    /**
+     * The unscaled numeric value, valid if {@link #inflated} is null.
+     */
+    private final long unscaled;
+
+    /**
+     * The scale of {@link #unscaled}.
+     */
+    private final int scale;
+
+    /**
+     * The numeric value, if it can not be represented as unscaled {@code long}, null otherwise.
+     */
+    private final BigDecimal inflated;
+
+    private CompactMoney(long unscaled, int scale, BigDecimal inflated, CurrencyUnit currency,
+                         MonetaryContext monetaryContext, MathContext mathContext){
+        this.unscaled = unscaled;
+        this.scale = scale;
+        this.inflated = inflated;
+        this.currency = currency;
+        this.monetaryContext = monetaryContext;
+        this.mathContext = mathContext;
+    }
+
+    /**
+     * Creates a new instance of {@link CompactMoney}, using the default {@link MonetaryContext}.
+     *
+     * @param number   The numeric part, not null.
+     * @param currency The target currency, not null.
+     * @return A new instance of {@link CompactMoney}.
+     */
+    public static CompactMoney of(Number number, CurrencyUnit currency){
+        return of(number, currency, null);
+    }
+
+    /**
+     * Creates a new instance of {@link CompactMoney}, using an explicit {@link MonetaryContext}.
+     *
+     * @param number          The numeric part, not null.
+     * @param currency        The target currency, not null.
+     * @param monetaryContext the {@link MonetaryContext} to be used, if {@code null} the default
+     *                        {@link MonetaryContext} is used.
+     * @return A new instance of {@link CompactMoney}.
+     * @throws ArithmeticException If the number exceeds the capabilities of the {@link MonetaryContext} used.
+     */
+    public static CompactMoney of(Number number, CurrencyUnit currency, MonetaryContext monetaryContext){
+        Objects.requireNonNull(currency, "Currency is required.");
+        Objects.requireNonNull(number, "Number is required.");
+        MonetaryContext context = monetaryContext;
+        MathContext mathContext = DEFAULT_MATH_CONTEXT;
+        if(Objects.isNull(context)){
+            context = DEFAULT_MONETARY_CONTEXT;
+        }else if(!context.equals(DEFAULT_MONETARY_CONTEXT)){
+            mathContext = MoneyUtils.getMathContext(context);
+        }
+        if(number instanceof Long || number instanceof Integer || number instanceof Short ||
+                number instanceof Byte){
+            return create(number.longValue(), 0, currency, context, mathContext);
+        }
+        return create(MoneyUtils.getBigDecimal(number), currency, context, mathContext);
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link CompactMoney}.
+     *
+     * @param number       The numeric part, not null.
+     * @param currencyCode The target currency as ISO currency code.
+     * @return A new instance of {@link CompactMoney}.
+     */
+    public static CompactMoney of(Number number, String currencyCode){
+        return of(number, MonetaryCurrencies.getCurrency(currencyCode), null);
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link CompactMoney}.
+     *
+     * @param number          The numeric part, not null.
+     * @param currencyCode    The target currency as ISO currency code.
+     * @param monetaryContext the {@link MonetaryContext} to be used, if {@code null} the default
+     *                        {@link MonetaryContext} is used.
+     * @return A new instance of {@link CompactMoney}.
+     */
+    public static CompactMoney of(Number number, String currencyCode, MonetaryContext monetaryContext){
+        return of(number, MonetaryCurrencies.getCurrency(currencyCode), monetaryContext);
+    }
+
+    /**
+     * Converts (if necessary) the given {@link MonetaryAmount} to a {@link CompactMoney} instance, using the
+     * {@link MonetaryContext} of the given amount.
+     *
+     * @param amount the amount to be converted
+     * @return an according {@link CompactMoney} instance.
+     */
+    public static CompactMoney from(MonetaryAmount amount){
+        if(amount instanceof CompactMoney){
+            return (CompactMoney) amount;
+        }
+        return of(getBigDecimal(amount), amount.getCurrency(), amount.getMonetaryContext());
+    }
+
+    /**
+     * Creates a new instance from an unscaled value, removing trailing zeros of a positive scale and applying
+     * the precision of the {@link MathContext}, as {@link Money} does.
+     */
+    private static CompactMoney create(long unscaled, int scale, CurrencyUnit currency,
+                                       MonetaryContext monetaryContext, MathContext mathContext){
+        if(unscaled == 0L){
+            return new CompactMoney(0L, 0, null, currency, monetaryContext, mathContext);
+        }
+        long value = unscaled;
+        int valueScale = scale;
+        if(valueScale > 0){
+            while(value % 10L == 0L){
+                value /= 10L;
+                valueScale--;
+            }
+        }
+        int precision = mathContext.getPrecision();
+        if(precision > 0 && precision <= FixedPointArithmetic.MAX_POWER_OF_TEN &&
+                Math.abs(value) >= FixedPointArithmetic.powerOfTen(precision)){
+            return createRounded(BigDecimal.valueOf(value, valueScale), currency, monetaryContext, mathContext);
+        }
+        return new CompactMoney(value, valueScale, null, currency, monetaryContext, mathContext);
+    }
+
+    /**
+     * Creates a new instance from a {@link BigDecimal}, removing trailing zeros of a positive scale and applying
+     * the precision of the {@link MathContext}, as {@link Money} does.
+     */
+    private static CompactMoney create(BigDecimal number, CurrencyUnit currency, MonetaryContext monetaryContext,
+                                       MathContext mathContext){
+        if(number.signum() == 0){
+            return new CompactMoney(0L, 0, null, currency, monetaryContext, mathContext);
+        }
+        BigDecimal value = number.scale() > 0 ? number.stripTrailingZeros() : number;
+        return createRounded(value, currency, monetaryContext, mathContext);
+    }
+
+    private static CompactMoney createRounded(BigDecimal number, CurrencyUnit currency,
+                                              MonetaryContext monetaryContext, MathContext mathContext){
+        BigDecimal value = number;
+        if(mathContext.getPrecision() > 0 && value.precision() > mathContext.getPrecision()){
+            value = value.round(mathContext);
+        }
+        BigInteger unscaledValue = value.unscaledValue();
+        if(unscaledValue.bitLength() < Long.SIZE){
+            return new CompactMoney(unscaledValue.longValue(), value.scale(), null, currency, monetaryContext,
+                                    mathContext);
+        }
+        return new CompactMoney(0L, 0, value, currency, monetaryContext, mathContext);
+    }
+
+    private CompactMoney create(long unscaledValue, int valueScale){
+        return create(unscaledValue, valueScale, currency, monetaryContext, mathContext);
+    }
+
+    private CompactMoney create(BigDecimal number){
+        return create(number, currency, monetaryContext, mathContext);
+    }
+
+    /**
+     * Evaluates if this instance is held as unscaled {@code long}.
+     *
+     * @return true, if the numeric value is held as {@code long}.
+     */
+    boolean isCompact(){
+        return Objects.isNull(inflated);
+    }
+
+    private BigDecimal getBigDecimal(){
+        if(Objects.isNull(inflated)){
+            return BigDecimal.valueOf(unscaled, scale);
+        }
+        return inflated;
+    }
+
+    private static BigDecimal getBigDecimal(MonetaryAmount amount){
+        if(amount instanceof CompactMoney){
+            return ((CompactMoney) amount).getBigDecimal();
+        }
+        if(amount instanceof Money){
+            return ((Money) amount).getBigDecimal();
+        }
+        return amount.getNumber().numberValue(BigDecimal.class);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#getCurrency()
+     */
+    @Override
+    public CurrencyUnit getCurrency(){
+        return currency;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#getMonetaryContext()
+     */
+    @Override
+    public MonetaryContext getMonetaryContext(){
+        return monetaryContext;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#getNumber()
+     */
+    @Override
+    public NumberValue getNumber(){
+        if(Objects.isNull(inflated)){
+            return new FixedPointNumberValue(unscaled, scale);
+        }
+        return new DefaultNumberValue(inflated);
+    }
+
+    // Arithmetic Operations
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#add(javax.money.MonetaryAmount)
+     */
+    @Override
+    public CompactMoney add(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        if(amount.isZero()){
+            return this;
+        }
+        CompactMoney result = addCompact(amount, false);
+        if(Objects.nonNull(result)){
+            return result;
+        }
+        return create(getBigDecimal().add(getBigDecimal(amount)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#subtract(javax.money.MonetaryAmount)
+     */
+    @Override
+    public CompactMoney subtract(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        if(amount.isZero()){
+            return this;
+        }
+        CompactMoney result = addCompact(amount, true);
+        if(Objects.nonNull(result)){
+            return result;
+        }
+        return create(getBigDecimal().subtract(getBigDecimal(amount)));
+    }
+
+    /**
+     * Adds or subtracts the given amount using {@code long} arithmetic.
+     *
+     * @return the result, or null, if it can not be evaluated using {@code long} arithmetic.
+     */
+    private CompactMoney addCompact(MonetaryAmount amount, boolean subtract){
+        if(Objects.nonNull(inflated)){
+            return null;
+        }
+        long otherUnscaled;
+        int otherScale;
+        if(amount instanceof CompactMoney && ((CompactMoney) amount).isCompact()){
+            otherUnscaled = ((CompactMoney) amount).unscaled;
+            otherScale = ((CompactMoney) amount).scale;
+        }else if(amount instanceof FastMoney){
+            otherUnscaled = ((FastMoney) amount).getUnscaledValue();
+            otherScale = FastMoney.SCALE;
+        }else{
+            return null;
+        }
+        try{
+            long value = this.unscaled;
+            int resultScale = Math.max(this.scale, otherScale);
+            if(otherScale > this.scale){
+                value = Math.multiplyExact(value, powerOfTen((long) otherScale - this.scale));
+            }else if(otherScale < this.scale){
+                otherUnscaled = Math.multiplyExact(otherUnscaled, powerOfTen((long) this.scale - otherScale));
+            }
+            return create(subtract ? Math.subtractExact(value, otherUnscaled) : Math.addExact(value, otherUnscaled),
+                          resultScale);
+        }
+        catch(ArithmeticException e){
+            // exceeds the long range
+            return null;
+        }
+    }
+
+    private static long powerOfTen(long n){
+        if(n > FixedPointArithmetic.MAX_POWER_OF_TEN){
+            throw new ArithmeticException("Overflow");
+        }
+        return FixedPointArithmetic.powerOfTen((int) n);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#multiply(long)
+     */
+    @Override
+    public CompactMoney multiply(long multiplicand){
+        if(multiplicand == 1L){
+            return this;
+        }
+        if(Objects.isNull(inflated)){
+            try{
+                return create(Math.multiplyExact(this.unscaled, multiplicand), this.scale);
+            }
+            catch(ArithmeticException e){
+                // exceeds the long range, use BigDecimal
+            }
+        }
+        return create(getBigDecimal().multiply(BigDecimal.valueOf(multiplicand)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#multiply(double)
+     */
+    @Override
+    public CompactMoney multiply(double multiplicand){
+        if(multiplicand == 1.0d){
+            return this;
+        }
+        return multiply(new BigDecimal(String.valueOf(multiplicand)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#multiply(java.lang.Number)
+     */
+    @Override
+    public CompactMoney multiply(Number multiplicand){
+        BigDecimal multiplicandBD = MoneyUtils.getBigDecimal(multiplicand);
+        if(multiplicandBD.equals(BigDecimal.ONE)){
+            return this;
+        }
+        if(Objects.isNull(inflated) && multiplicandBD.precision() <= FixedPointArithmetic.MAX_POWER_OF_TEN){
+            long factor = multiplicandBD.scale() == 0 ? multiplicandBD.longValue() :
+                    multiplicandBD.unscaledValue().longValue();
+            try{
+                return create(Math.multiplyExact(this.unscaled, factor),
+                              Math.addExact(this.scale, multiplicandBD.scale()));
+            }
+            catch(ArithmeticException e){
+                // exceeds the long range, use BigDecimal
+            }
+        }
+        return create(getBigDecimal().multiply(multiplicandBD));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divide(long)
+     */
+    @Override
+    public CompactMoney divide(long divisor){
+        if(divisor == 1L){
+            return this;
+        }
+        if(Objects.isNull(inflated) && divisor != 0L && !(this.unscaled == Long.MIN_VALUE && divisor == -1L) &&
+                this.unscaled % divisor == 0L){
+            return create(this.unscaled / divisor, this.scale);
+        }
+        return divide(BigDecimal.valueOf(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divide(double)
+     */
+    @Override
+    public CompactMoney divide(double divisor){
+        if(divisor == 1.0d){
+            return this;
+        }
+        return divide(new BigDecimal(String.valueOf(divisor)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divide(java.lang.Number)
+     */
+    @Override
+    public CompactMoney divide(Number divisor){
+        BigDecimal divisorBD = MoneyUtils.getBigDecimal(divisor);
+        if(divisorBD.equals(BigDecimal.ONE)){
+            return this;
+        }
+        return create(getBigDecimal().divide(divisorBD, mathContext));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divideAndRemainder(long)
+     */
+    @Override
+    public CompactMoney[] divideAndRemainder(long divisor){
+        return divideAndRemainder(BigDecimal.valueOf(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divideAndRemainder(double)
+     */
+    @Override
+    public CompactMoney[] divideAndRemainder(double divisor){
+        return divideAndRemainder(new BigDecimal(String.valueOf(divisor)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divideAndRemainder(java.lang.Number)
+     */
+    @Override
+    public CompactMoney[] divideAndRemainder(Number divisor){
+        BigDecimal divisorBD = MoneyUtils.getBigDecimal(divisor);
+        if(divisorBD.equals(BigDecimal.ONE)){
+            return new CompactMoney[]{this, create(0L, 0)};
+        }
+        BigDecimal[] dec = getBigDecimal().divideAndRemainder(divisorBD);
+        return new CompactMoney[]{create(dec[0]), create(dec[1])};
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divideToIntegralValue(long)
+     */
+    @Override
+    public CompactMoney divideToIntegralValue(long divisor){
+        return divideToIntegralValue(BigDecimal.valueOf(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divideToIntegralValue(double)
+     */
+    @Override
+    public CompactMoney divideToIntegralValue(double divisor){
+        return divideToIntegralValue(new BigDecimal(String.valueOf(divisor)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divideToIntegralValue(java.lang.Number)
+     */
+    @Override
+    public CompactMoney divideToIntegralValue(Number divisor){
+        return create(getBigDecimal().divideToIntegralValue(MoneyUtils.getBigDecimal(divisor)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#remainder(long)
+     */
+    @Override
+    public CompactMoney remainder(long divisor){
+        return remainder(BigDecimal.valueOf(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#remainder(double)
+     */
+    @Override
+    public CompactMoney remainder(double divisor){
+        return remainder(new BigDecimal(String.valueOf(divisor)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#remainder(java.lang.Number)
+     */
+    @Override
+    public CompactMoney remainder(Number divisor){
+        return create(getBigDecimal().remainder(MoneyUtils.getBigDecimal(divisor)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#scaleByPowerOfTen(int)
+     */
+    @Override
+    public CompactMoney scaleByPowerOfTen(int power){
+        if(Objects.isNull(inflated)){
+            return create(this.unscaled, Math.subtractExact(this.scale, power));
+        }
+        return create(inflated.scaleByPowerOfTen(power));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#negate()
+     */
+    @Override
+    public CompactMoney negate(){
+        if(Objects.isNull(inflated) && this.unscaled != Long.MIN_VALUE){
+            return create(-this.unscaled, this.scale);
+        }
+        return create(getBigDecimal().negate());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#abs()
+     */
+    @Override
+    public CompactMoney abs(){
+        if(isPositiveOrZero()){
+            return this;
+        }
+        return negate();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#plus()
+     */
+    @Override
+    public CompactMoney plus(){
+        return this;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#stripTrailingZeros()
+     */
+    @Override
+    public CompactMoney stripTrailingZeros(){
+        if(Objects.nonNull(inflated)){
+            return create(inflated.stripTrailingZeros());
+        }
+        if(this.unscaled == 0L || this.unscaled % 10L != 0L){
+            return this;
+        }
+        long value = this.unscaled;
+        int valueScale = this.scale;
+        while(value % 10L == 0L){
+            value /= 10L;
+            valueScale--;
+        }
+        return new CompactMoney(value, valueScale, null, currency, monetaryContext, mathContext);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#signum()
+     */
+    @Override
+    public int signum(){
+        if(Objects.isNull(inflated)){
+            return Long.signum(this.unscaled);
+        }
+        return inflated.signum();
+    }
+
+    @Override
+    public boolean isZero(){
+        return signum() == 0;
+    }
+
+    @Override
+    public boolean isPositive(){
+        return signum() > 0;
+    }
+
+    @Override
+    public boolean isPositiveOrZero(){
+        return signum() >= 0;
+    }
+
+    @Override
+    public boolean isNegative(){
+        return signum() < 0;
+    }
+
+    @Override
+    public boolean isNegativeOrZero(){
+        return signum() <= 0;
+    }
+
+    @Override
+    public boolean isLessThan(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        return compareNumber(amount) < 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqualTo(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        return compareNumber(amount) <= 0;
+    }
+
+    @Override
+    public boolean isGreaterThan(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        return compareNumber(amount) > 0;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqualTo(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        return compareNumber(amount) >= 0;
+    }
+
+    @Override
+    public boolean isEqualTo(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        return compareNumber(amount) == 0;
+    }
+
+    /*
+     * @see java.lang.Comparable#compareTo(java.lang.Object)
+     */
+    @Override
+    public int compareTo(MonetaryAmount o){
+        Objects.requireNonNull(o);
+        int compare = getCurrency().getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
+        if(compare == 0){
+            compare = compareNumber(o);
+        }
+        return compare;
+    }
+
+    /**
+     * Compares the numeric values, ignoring the scale, as {@link BigDecimal#compareTo(BigDecimal)} does.
+     */
+    private int compareNumber(MonetaryAmount amount){
+        if(Objects.isNull(inflated) && amount instanceof CompactMoney && ((CompactMoney) amount).isCompact()){
+            CompactMoney other = (CompactMoney) amount;
+            if(this.scale == other.scale){
+                return Long.compare(this.unscaled, other.unscaled);
+            }
+            try{
+                if(this.scale < other.scale){
+                    return Long.compare(
+                            Math.multiplyExact(this.unscaled, powerOfTen((long) other.scale - this.scale)),
+                            other.unscaled);
+                }
+                return Long.compare(this.unscaled,
+                                    Math.multiplyExact(other.unscaled, powerOfTen((long) this.scale - other.scale)));
+            }
+            catch(ArithmeticException e){
+                // exceeds the long range, use BigDecimal
+            }
+        }
+        return getBigDecimal().compareTo(getBigDecimal(amount));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#query(javax.money.MonetaryQuery)
+     */
+    @Override
+    public <R> R query(MonetaryQuery<R> query){
+        Objects.requireNonNull(query);
+        try{
+            return query.queryFrom(this);
+        }
+        catch(MonetaryException e){
+            throw e;
+        }
+        catch(Exception e){
+            throw new MonetaryException("Query failed: " + query, e);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#with(javax.money.MonetaryOperator)
+     */
+    @Override
+    public CompactMoney with(MonetaryOperator operator){
+        Objects.requireNonNull(operator);
+        try{
+            return CompactMoney.class.cast(operator.apply(this));
+        }
+        catch(MonetaryException e){
+            throw e;
+        }
+        catch(Exception e){
+            throw new MonetaryException("Operator failed: " + operator, e);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#getFactory()
+     */
+    @Override
+    public MonetaryAmountFactory<CompactMoney> getFactory(){
+        return new CompactMoneyAmountBuilder().setAmount(this);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj){
+        if(obj == this){
+            return true;
+        }
+        if(obj instanceof CompactMoney){
+            CompactMoney other = (CompactMoney) obj;
+            return Objects.equals(getCurrency(), other.getCurrency()) && compareNumber(other) == 0;
+        }
+        return false;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode(){
+        // based on the value with trailing zeros removed, so equal values have the same hash code
+        long value;
+        int valueScale;
+        if(Objects.isNull(inflated)){
+            value = this.unscaled;
+            valueScale = this.scale;
+        }else{
+            BigDecimal stripped = inflated.stripTrailingZeros();
+            if(stripped.precision() > FixedPointArithmetic.MAX_POWER_OF_TEN){
+                return 31 * (31 + Objects.hashCode(currency)) + stripped.hashCode();
+            }
+            value = stripped.unscaledValue().longValue();
+            valueScale = stripped.scale();
+        }
+        if(value == 0L){
+            valueScale = 0;
+        }else{
+            while(value % 10L == 0L){
+                value /= 10L;
+                valueScale--;
+            }
+        }
+        if(Math.abs(value) >= FixedPointArithmetic.powerOfTen(FixedPointArithmetic.MAX_POWER_OF_TEN)){
+            return 31 * (31 + Objects.hashCode(currency)) + BigDecimal.valueOf(value, valueScale).hashCode();
+        }
+        return 31 * (31 * (31 + Objects.hashCode(currency)) + Long.hashCode(value)) + valueScale;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString(){
+        return getCurrency().getCurrencyCode() + ' ' + getBigDecimal();
+    }
+
+}
@@ -0,0 +1,244 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe accumulator for summing up {@link MonetaryAmount} instances into {@link FastMoney} totals, one
+ * per currency. Similar to {@link java.util.concurrent.atomic.LongAdder}, each total is spread over several
+ * padded {@code long} stripes, so concurrent writers mostly update different stripes without contending on
+ * a shared value. Writers neither lock nor fail on overflow: a stripe that would overflow leaves the amount
+ * to a rarely used, synchronized spill. Overflow is detected exactly when the stripes are summed up, so
+ * {@link #sum(CurrencyUnit)} only throws an {@link ArithmeticException} if the total itself can not be
+ * represented as {@link FastMoney}.
+ * <p>
+ * As with {@link java.util.concurrent.atomic.LongAdder#sum()}, the totals returned are not atomic snapshots:
+ * amounts added concurrently while summing up may or may not be included. Totals read after all writers
+ * completed are exact.
+ * </p>
+ *
+ * @author Anatole Tresch
+ */
+public final class ConcurrentFastMoneyAccumulator{
+
+    /**
+     * The number of {@code long} slots per stripe, so each stripe is on its own cache line.
+     */
+    private static final int PADDING = 8;
+
+    /**
+     * The maximal number of stripes per currency.
+     */
+    private static final int MAX_STRIPES = 1 << 10;
+
+    /**
+     * The totals, keyed by currency code.
+     */
+    private final Map<String, StripedTotal> totals = new ConcurrentHashMap<>();
+
+    /**
+     * The number of stripes per currency, a power of two.
+     */
+    private final int stripes;
+
+    /**
+     * Creates a new accumulator, using a number of stripes matching the available processors.
+     */
+    public ConcurrentFastMoneyAccumulator(){
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Creates a new accumulator.
+     *
+     * @param stripes the number of stripes per currency, rounded up to the next power of two, at least 1
+     *                and at most 1024.
+     */
+    public ConcurrentFastMoneyAccumulator(int stripes){
+        if(stripes < 1){
+            throw new IllegalArgumentException("Stripes must be > 0: " + stripes);
+        }
+        int capped = Math.min(stripes, MAX_STRIPES);
+        this.stripes = capped == 1 ? 1 : Integer.highestOneBit(capped - 1) << 1;
+    }
+
+    /**
+     * Adds the given amount to the total of its currency.
+     *
+     * @param amount the amount, not null.
+     * @throws ArithmeticException if the amount can not be represented as {@link FastMoney}.
+     */
+    public void add(MonetaryAmount amount){
+        long number = getInternalNumber(amount);
+        getTotal(amount.getCurrency()).add(number);
+    }
+
+    /**
+     * Subtracts the given amount from the total of its currency.
+     *
+     * @param amount the amount, not null.
+     * @throws ArithmeticException if the amount can not be represented as {@link FastMoney}.
+     */
+    public void subtract(MonetaryAmount amount){
+        long number = getInternalNumber(amount);
+        StripedTotal total = getTotal(amount.getCurrency());
+        if(number == Long.MIN_VALUE){
+            total.spill(BigInteger.valueOf(number).negate());
+        }else{
+            total.add(-number);
+        }
+    }
+
+    /**
+     * Access the total for the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the total, or zero, if no amount of the given currency was added.
+     * @throws ArithmeticException if the total can not be represented as {@link FastMoney}.
+     */
+    public FastMoney sum(CurrencyUnit currency){
+        Objects.requireNonNull(currency, "Currency is required.");
+        StripedTotal total = totals.get(currency.getCurrencyCode());
+        if(Objects.isNull(total)){
+            return FastMoney.of(0, currency);
+        }
+        return total.sum();
+    }
+
+    /**
+     * Access the totals of all currencies accumulated.
+     *
+     * @return the totals, keyed by currency, never null.
+     * @throws ArithmeticException if a total can not be represented as {@link FastMoney}.
+     */
+    public Map<CurrencyUnit, FastMoney> sums(){
+        Map<CurrencyUnit, FastMoney> result = new HashMap<>();
+        for(StripedTotal total : totals.values()){
+            result.put(total.currency, total.sum());
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static long getInternalNumber(MonetaryAmount amount){
+        Objects.requireNonNull(amount, "Amount must not be null.");
+        if(amount instanceof FastMoney){
+            return ((FastMoney) amount).getUnscaledValue();
+        }
+        return FastMoney.getInternalNumber(amount.getNumber(), false);
+    }
+
+    private StripedTotal getTotal(CurrencyUnit currency){
+        StripedTotal total = totals.get(currency.getCurrencyCode());
+        if(Objects.isNull(total)){
+            total = totals.computeIfAbsent(currency.getCurrencyCode(), c -> new StripedTotal(currency, stripes));
+        }
+        return total;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString(){
+        return "ConcurrentFastMoneyAccumulator [currencies=" + totals.keySet() + ", stripes=" + stripes + ']';
+    }
+
+    /**
+     * The striped total of one currency.
+     */
+    private static final class StripedTotal{
+
+        private final CurrencyUnit currency;
+
+        private final AtomicLongArray values;
+
+        private final int mask;
+
+        /**
+         * The sum of the amounts, which would have overflowed a stripe, guarded by this instance.
+         */
+        private BigInteger spill = BigInteger.ZERO;
+
+        StripedTotal(CurrencyUnit currency, int stripes){
+            this.currency = currency;
+            this.mask = stripes - 1;
+            // the first and last slots are left empty, to separate the stripes from other objects
+            this.values = new AtomicLongArray((stripes + 1) * PADDING);
+        }
+
+        void add(long number){
+            long id = Thread.currentThread().getId();
+            int probe = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32);
+            while(true){
+                int index = ((probe & mask) + 1) * PADDING;
+                long current = values.get(index);
+                long next = current + number;
+                if(((current ^ next) & (number ^ next)) < 0L){
+                    // this stripe would overflow
+                    spill(BigInteger.valueOf(number));
+                    return;
+                }
+                if(values.compareAndSet(index, current, next)){
+                    return;
+                }
+                // contended, try another stripe
+                probe++;
+            }
+        }
+
+        synchronized void spill(BigInteger number){
+            spill = spill.add(number);
+        }
+
+        synchronized BigInteger getSpill(){
+            return spill;
+        }
+
+        FastMoney sum(){
+            // sum up the stripes as 128 bit value (high, low)
+            long high = 0L;
+            long low = 0L;
+            for(int i = 0; i <= mask; i++){
+                long value = values.get((i + 1) * PADDING);
+                long sum = low + value;
+                high += (value >> 63) + (Long.compareUnsigned(sum, low) < 0 ? 1L : 0L);
+                low = sum;
+            }
+            BigInteger spilled = getSpill();
+            if(spilled.signum() == 0 && high == (low >> 63)){
+                return FastMoney.ofInternal(low, currency);
+            }
+            BigInteger total = BigInteger.valueOf(high).shiftLeft(64).add(BigInteger.valueOf(low >>> 1).shiftLeft(1))
+                    .add(BigInteger.valueOf(low & 1L)).add(spilled);
+            if(total.bitLength() > 63){
+                throw new ArithmeticException(
+                        "Overflow: total of " + currency.getCurrencyCode() + " exceeds the range of FastMoney.");
+            }
+            return FastMoney.ofInternal(total.longValue(), currency);
+        }
+    }
+
+}
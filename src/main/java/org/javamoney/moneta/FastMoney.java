@@ -17,16 +17,22 @@ package org.javamoney.moneta;
 
 import org.javamoney.moneta.ToStringMonetaryAmountFormat.ToStringMonetaryAmountFormatStyle;
 import org.javamoney.moneta.internal.FastMoneyAmountBuilder;
-import org.javamoney.moneta.spi.DefaultNumberValue;
+import org.javamoney.moneta.spi.FixedPointArithmetic;
+import org.javamoney.moneta.spi.FixedPointNumberValue;
 import org.javamoney.moneta.spi.MonetaryConfig;
 import org.javamoney.moneta.spi.MoneyUtils;
 
 import javax.money.*;
 import javax.money.format.MonetaryAmountFormat;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -97,18 +103,47 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     /**
      * The current scale represented by the number.
      */
-    private static final int SCALE = 5;
+    static final int SCALE = 5;
+
+    /**
+     * The factor between the internal number and its numeric value, 10^SCALE.
+     */
+    private static final long SCALE_FACTOR = FixedPointArithmetic.powerOfTen(SCALE);
+
+    /**
+     * The {@link RoundingMode} applied, when results of multiplication or division exceed the scale
+     * supported. It can be configured by {@code org.javamoney.moneta.FastMoney.roundingMode} in
+     * {@code javamoney.properties}.
+     */
+    private static final RoundingMode ROUNDING_MODE = RoundingMode.valueOf(
+            MonetaryConfig.getConfig().getOrDefault("org.javamoney.moneta.FastMoney.roundingMode", "HALF_EVEN"));
 
     /**
      * the {@link MonetaryContext} used by this instance, e.g. on division.
      */
     private static final MonetaryContext MONETARY_CONTEXT =
-            MonetaryContextBuilder.of(FastMoney.class).setMaxScale(SCALE).setFixedScale(true).setPrecision(19).build();
+            MonetaryContextBuilder.of(FastMoney.class).setMaxScale(SCALE).setFixedScale(true).setPrecision(19)
+                    .set(ROUNDING_MODE).build();
     /**
      * Default rounding context used.
      */
     //    private static final MathContext CALC_CONTEXT = new MathContext(19, RoundingMode.HALF_EVEN);
 
+    /**
+     * The number of small integral amounts (0, 1, ..., CACHED_VALUES - 1) cached per currency.
+     */
+    private static final int CACHED_VALUES = 11;
+
+    /**
+     * The maximal number of currencies, whose small integral amounts are cached.
+     */
+    static final int MAX_CACHED_CURRENCIES = 256;
+
+    /**
+     * Canonical instances for small integral amounts, lazily populated per {@link CurrencyUnit}.
+     */
+    private static final Map<CurrencyUnit, FastMoney[]> CACHED_AMOUNTS = new ConcurrentHashMap<>();
+
     /**
      * Maximum possible value supported, using XX (no currency).
      */
@@ -127,32 +162,6 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     private static final BigDecimal MIN_BD = MIN_VALUE.getBigDecimal();
 
 
-    /**
-     * Creates a new instance os {@link FastMoney}.
-     *
-     * @param currency the currency, not null.
-     * @param number   the amount, not null.
-     */
-    private FastMoney(Number number, CurrencyUnit currency, boolean allowInternalRounding){
-        Objects.requireNonNull(currency, "Currency is required.");
-        this.currency = currency;
-        Objects.requireNonNull(number, "Number is required.");
-        this.number = getInternalNumber(number, allowInternalRounding);
-    }
-
-    /**
-     * Creates a new instance os {@link FastMoney}.
-     *
-     * @param currency    the currency, not null.
-     * @param numberValue the numeric value, not null.
-     */
-    private FastMoney(NumberValue numberValue, CurrencyUnit currency, boolean allowInternalRounding){
-        Objects.requireNonNull(currency, "Currency is required.");
-        this.currency = currency;
-        Objects.requireNonNull(numberValue, "Number is required.");
-        this.number = getInternalNumber(numberValue.numberValue(BigDecimal.class), allowInternalRounding);
-    }
-
     /**
      * Creates a new instance os {@link FastMoney}.
      *
@@ -189,7 +198,16 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         return MONETARY_CONTEXT;
     }
 
-    private long getInternalNumber(Number number, boolean allowInternalRounding){
+    /**
+     * Evaluates the internal number for the given numeric value.
+     *
+     * @param number                the number, not null.
+     * @param allowInternalRounding if true, numbers exceeding the scale are truncated, otherwise an
+     *                              {@link ArithmeticException} is thrown.
+     * @return the internal number
+     * @throws ArithmeticException if the number can not be represented by this class.
+     */
+    static long getInternalNumber(Number number, boolean allowInternalRounding){
         BigDecimal bd = MoneyUtils.getBigDecimal(number);
         if(!allowInternalRounding && bd.scale() > SCALE){
             throw new ArithmeticException(number + " can not be represented by this class, scale > " + SCALE);
@@ -211,7 +229,8 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      * @return A new instance of {@link FastMoney}.
      */
     public static FastMoney of(NumberValue numberBinding, CurrencyUnit currency){
-        return new FastMoney(numberBinding, currency, false);
+        Objects.requireNonNull(numberBinding, "Number is required.");
+        return ofInternal(getInternalNumber(numberBinding.numberValue(BigDecimal.class), false), currency);
     }
 
     /**
@@ -222,7 +241,65 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      * @return A new instance of {@link FastMoney}.
      */
     public static FastMoney of(Number number, CurrencyUnit currency){
-        return new FastMoney(number, currency, false);
+        Objects.requireNonNull(number, "Number is required.");
+        return ofInternal(getInternalNumber(number, false), currency);
+    }
+
+    /**
+     * Creates an instance for the given internal number. Small integral amounts, such as zero or one, are
+     * served from a per currency cache of canonical instances.
+     *
+     * @param number   The internal number value
+     * @param currency the currency, not null.
+     * @return the according {@link FastMoney}, never null.
+     */
+    static FastMoney ofInternal(long number, CurrencyUnit currency){
+        Objects.requireNonNull(currency, "Currency is required.");
+        if(number >= 0L && number < CACHED_VALUES * SCALE_FACTOR && number % SCALE_FACTOR == 0L){
+            FastMoney[] amounts = CACHED_AMOUNTS.get(currency);
+            if(amounts == null){
+                if(CACHED_AMOUNTS.size() >= MAX_CACHED_CURRENCIES){
+                    return new FastMoney(number, currency);
+                }
+                amounts = CACHED_AMOUNTS.computeIfAbsent(currency, FastMoney::createCachedAmounts);
+            }
+            FastMoney cached = amounts[(int) (number / SCALE_FACTOR)];
+            // only use the cached value, if it references the same currency instance
+            if(cached.currency == currency){
+                return cached;
+            }
+        }
+        return new FastMoney(number, currency);
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link FastMoney} from its unscaled value, which is
+     * the numeric value multiplied by 10^{@link #getScale()}.
+     *
+     * @param unscaledValue the unscaled value.
+     * @param currency      The target currency, not null.
+     * @return A new instance of {@link FastMoney}.
+     * @see #getUnscaledValue()
+     */
+    public static FastMoney ofUnscaled(long unscaledValue, CurrencyUnit currency){
+        return ofInternal(unscaledValue, currency);
+    }
+
+    private static FastMoney[] createCachedAmounts(CurrencyUnit currency){
+        FastMoney[] amounts = new FastMoney[CACHED_VALUES];
+        for(int i = 0; i < amounts.length; i++){
+            amounts[i] = new FastMoney(i * SCALE_FACTOR, currency);
+        }
+        return amounts;
+    }
+
+    /**
+     * Access the currencies, whose small integral amounts are cached, for testing.
+     *
+     * @return the modifiable key set of the cache.
+     */
+    static Set<CurrencyUnit> getCachedCurrencies(){
+        return CACHED_AMOUNTS.keySet();
     }
 
     /**
@@ -243,6 +320,14 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     @Override
 	public int compareTo(MonetaryAmount o){
         Objects.requireNonNull(o);
+        if(o instanceof FastMoney){
+            FastMoney other = (FastMoney) o;
+            int compare = compareCurrency(other.currency);
+            if(compare == 0){
+                compare = Long.compare(this.number, other.number);
+            }
+            return compare;
+        }
         int compare = getCurrency().getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
         if(compare == 0){
             compare = getNumber().numberValue(BigDecimal.class).compareTo(o.getNumber().numberValue(BigDecimal.class));
@@ -256,7 +341,8 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      */
     @Override
     public int hashCode(){
-        return Objects.hash(currency, number);
+        // same value as Objects.hash(currency, number), without boxing the number
+        return 31 * (31 + currency.hashCode()) + Long.hashCode(number);
     }
 
     /*
@@ -270,7 +356,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         }
         if(obj instanceof FastMoney){
             FastMoney other = (FastMoney) obj;
-            return Objects.equals(currency, other.currency) && Objects.equals(number, other.number);
+            return number == other.number && Objects.equals(currency, other.currency);
         }
         return false;
     }
@@ -296,11 +382,19 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      */
     @Override
 	public FastMoney add(MonetaryAmount amount){
+        if(amount instanceof FastMoney){
+            FastMoney other = (FastMoney) amount;
+            checkCurrency(other.currency);
+            if(other.number == 0L){
+                return this;
+            }
+            return ofInternal(Math.addExact(this.number, other.number), this.currency);
+        }
         checkAmountParameter(amount);
         if(amount.isZero()){
             return this;
         }
-        return new FastMoney(Math.addExact(this.number, getInternalNumber(amount.getNumber(), false)), getCurrency());
+        return ofInternal(Math.addExact(this.number, getInternalNumber(amount.getNumber(), false)), getCurrency());
     }
 
     private void checkAmountParameter(MonetaryAmount amount){
@@ -314,18 +408,60 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         }
     }
 
+    /**
+     * Checks the currency of another {@link FastMoney} to be compatible with this instance. Since both
+     * amounts share the same scale no further numeric checks are required.
+     *
+     * @param otherCurrency the currency of the other amount, not null.
+     * @throws MonetaryException if the currency codes differ.
+     */
+    private void checkCurrency(CurrencyUnit otherCurrency){
+        if(compareCurrency(otherCurrency) != 0){
+            throw new MonetaryException("Currency mismatch: " + this.currency + '/' + otherCurrency);
+        }
+    }
+
+    private int compareCurrency(CurrencyUnit otherCurrency){
+        if(this.currency == otherCurrency){
+            return 0;
+        }
+        return this.currency.getCurrencyCode().compareTo(otherCurrency.getCurrencyCode());
+    }
+
+    /**
+     * Compares the numeric value of this instance with the given amount, hereby also checking the
+     * currency. Instances of {@link FastMoney} are compared on their internal long value directly.
+     *
+     * @param amount the amount to be compared, not null.
+     * @return a negative integer, zero, or a positive integer as this amount's number is less than,
+     * equal to, or greater than the given amount's number.
+     */
+    private int compareNumber(MonetaryAmount amount){
+        if(amount instanceof FastMoney){
+            FastMoney other = (FastMoney) amount;
+            checkCurrency(other.currency);
+            return Long.compare(this.number, other.number);
+        }
+        checkAmountParameter(amount);
+        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class));
+    }
+
 
     /*
-         * (non-Javadoc)
-         * @see javax.money.MonetaryAmount#divide(java.lang.Number)
-         */
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divide(java.lang.Number)
+     */
     @Override
 	public FastMoney divide(Number divisor){
         checkNumber(divisor);
+        return divideInternal(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    private FastMoney divideInternal(BigDecimal divisor){
         if(isOne(divisor)){
             return this;
         }
-        return new FastMoney(Math.round(this.number / divisor.doubleValue()), getCurrency());
+        return new FastMoney(FixedPointArithmetic.divide(this.number, divisor, ROUNDING_MODE), getCurrency());
     }
 
     /*
@@ -335,12 +471,16 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     @Override
 	public FastMoney[] divideAndRemainder(Number divisor){
         checkNumber(divisor);
-        if(isOne(divisor)){
-            return new FastMoney[]{this, FastMoney.of(0, getCurrency())};
-        }
         BigDecimal div = MoneyUtils.getBigDecimal(divisor);
+        long internalDivisor = getExactInternalNumber(div);
+        if(internalDivisor != 0L){
+            long quotient = FixedPointArithmetic.divide(this.number, internalDivisor, RoundingMode.DOWN);
+            return new FastMoney[]{ofInternal(Math.multiplyExact(quotient, SCALE_FACTOR), getCurrency()),
+                    ofInternal(this.number % internalDivisor, getCurrency())};
+        }
         BigDecimal[] res = getBigDecimal().divideAndRemainder(div);
-        return new FastMoney[]{new FastMoney(res[0], getCurrency(), true), new FastMoney(res[1], getCurrency(), true)};
+        return new FastMoney[]{ofInternal(getInternalNumber(res[0], true), getCurrency()),
+                ofInternal(getInternalNumber(res[1], true), getCurrency())};
     }
 
     /*
@@ -350,23 +490,26 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     @Override
 	public FastMoney divideToIntegralValue(Number divisor){
         checkNumber(divisor);
-        if(isOne(divisor)){
-            return this;
-        }
         BigDecimal div = MoneyUtils.getBigDecimal(divisor);
-        return new FastMoney(getBigDecimal().divideToIntegralValue(div), getCurrency(), false);
+        long internalDivisor = getExactInternalNumber(div);
+        if(internalDivisor != 0L){
+            long quotient = FixedPointArithmetic.divide(this.number, internalDivisor, RoundingMode.DOWN);
+            return ofInternal(Math.multiplyExact(quotient, SCALE_FACTOR), getCurrency());
+        }
+        return ofInternal(getInternalNumber(getBigDecimal().divideToIntegralValue(div), false), getCurrency());
     }
 
     @Override
 	public FastMoney multiply(Number multiplicand){
         checkNumber(multiplicand);
+        return multiplyInternal(MoneyUtils.getBigDecimal(multiplicand));
+    }
+
+    private FastMoney multiplyInternal(BigDecimal multiplicand){
         if(isOne(multiplicand)){
             return this;
         }
-        return new FastMoney(Math.round(this.number * multiplicand.doubleValue()), getCurrency());
-        //        BigDecimal mult = MoneyUtils.getBigDecimal(multiplicand);
-        //            return new FastMoney(mult.multiply(BigDecimal.valueOf(this.number),
-        // CALC_CONTEXT).longValueExact(), getCurrency());
+        return new FastMoney(FixedPointArithmetic.multiply(this.number, multiplicand, ROUNDING_MODE), getCurrency());
     }
 
     /*
@@ -375,7 +518,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      */
     @Override
 	public FastMoney negate(){
-        return new FastMoney(this.number * -1, getCurrency());
+        return new FastMoney(Math.negateExact(this.number), getCurrency());
     }
 
     /*
@@ -396,12 +539,20 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      */
     @Override
 	public FastMoney subtract(MonetaryAmount subtrahend){
+        if(subtrahend instanceof FastMoney){
+            FastMoney other = (FastMoney) subtrahend;
+            checkCurrency(other.currency);
+            if(other.number == 0L){
+                return this;
+            }
+            return ofInternal(Math.subtractExact(this.number, other.number), this.currency);
+        }
         checkAmountParameter(subtrahend);
         if(subtrahend.isZero()){
             return this;
         }
         long subtrahendAsLong = getInternalNumber(subtrahend.getNumber(), false);
-        return new FastMoney(Math.addExact(this.number, -1L * subtrahendAsLong), getCurrency());
+        return ofInternal(Math.subtractExact(this.number, subtrahendAsLong), getCurrency());
     }
 
     /*
@@ -411,21 +562,36 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     @Override
 	public FastMoney remainder(Number divisor){
         checkNumber(divisor);
-        if(isOne(divisor)){
-            return new FastMoney(0, getCurrency());
+        BigDecimal div = MoneyUtils.getBigDecimal(divisor);
+        long internalDivisor = getExactInternalNumber(div);
+        if(internalDivisor != 0L){
+            return ofInternal(this.number % internalDivisor, getCurrency());
         }
-        return new FastMoney(this.number % getInternalNumber(divisor, true), getCurrency());
+        return ofInternal(getInternalNumber(getBigDecimal().remainder(div), true), getCurrency());
     }
 
-    private boolean isOne(Number number){
-        BigDecimal bd = MoneyUtils.getBigDecimal(number);
+    private static boolean isOne(BigDecimal number){
+        return number.compareTo(BigDecimal.ONE) == 0;
+    }
+
+    /**
+     * Evaluates the internal (scaled) representation of the given number, if it can be represented
+     * exactly by this class.
+     *
+     * @param number the number, not null.
+     * @return the internal number, or 0, if the number is zero or can not be represented exactly.
+     */
+    private static long getExactInternalNumber(BigDecimal number){
+        if(number.scale() > SCALE || number.precision() > FixedPointArithmetic.MAX_POWER_OF_TEN){
+            return 0L;
+        }
         try{
-            return bd.scale() == 0 && bd.longValueExact() == 1L;
+            return FixedPointArithmetic.scaleByPowerOfTen(number.unscaledValue().longValue(), SCALE - number.scale(),
+                                                          RoundingMode.UNNECESSARY);
         }
-        catch(Exception e){
-            // The only way to end up here is that longValueExact throws an ArithmeticException,
-            // so the amount is definitively not equal to 1.
-            return false;
+        catch(ArithmeticException e){
+            // overflow, the number is out of the range supported.
+            return 0L;
         }
     }
 
@@ -435,7 +601,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      */
     @Override
 	public FastMoney scaleByPowerOfTen(int n){
-        return new FastMoney(getNumber().numberValue(BigDecimal.class).scaleByPowerOfTen(n), getCurrency(), true);
+        return new FastMoney(FixedPointArithmetic.scaleByPowerOfTen(this.number, n, ROUNDING_MODE), getCurrency());
     }
 
     /*
@@ -521,8 +687,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      */
     @Override
 	public boolean isLessThan(MonetaryAmount amount){
-        checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) < 0;
+        return compareNumber(amount) < 0;
     }
 
     /*
@@ -540,8 +705,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      */
     @Override
 	public boolean isLessThanOrEqualTo(MonetaryAmount amount){
-        checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) <= 0;
+        return compareNumber(amount) <= 0;
     }
 
     /*
@@ -559,8 +723,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      */
     @Override
 	public boolean isGreaterThan(MonetaryAmount amount){
-        checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) > 0;
+        return compareNumber(amount) > 0;
     }
 
     /*
@@ -578,8 +741,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      */
     @Override
 	public boolean isGreaterThanOrEqualTo(MonetaryAmount amount){
-        checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) >= 0;
+        return compareNumber(amount) >= 0;
     }
 
     /*
@@ -597,8 +759,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      */
     @Override
 	public boolean isEqualTo(MonetaryAmount amount){
-        checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) == 0;
+        return compareNumber(amount) == 0;
     }
 
     /*
@@ -623,12 +784,66 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      */
     @Override
     public NumberValue getNumber(){
-        return new DefaultNumberValue(getBigDecimal());
+        return new FixedPointNumberValue(this.number, SCALE);
     }
 
     @Override
     public String toString(){
-        return currency.toString() + ' ' + getBigDecimal();
+        return appendTo(new StringBuilder(32)).toString();
+    }
+
+    /**
+     * Appends the textual representation of this amount, as returned by {@link #toString()}, e.g.
+     * {@code EUR 25.25000}. The digits are written directly from the internal number, without creating any
+     * intermediate objects.
+     *
+     * @param builder the target, not null.
+     * @return the builder passed, for chaining.
+     */
+    public StringBuilder appendTo(StringBuilder builder){
+        try{
+            appendTo((Appendable) builder);
+        }
+        catch(IOException e){
+            // not thrown by StringBuilder
+            throw new IllegalStateException(e);
+        }
+        return builder;
+    }
+
+    /**
+     * Appends the textual representation of this amount, as returned by {@link #toString()}, e.g.
+     * {@code EUR 25.25000}. The digits are written directly from the internal number, without creating any
+     * intermediate objects.
+     *
+     * @param appendable the target, not null.
+     * @throws IOException if thrown by the {@link Appendable}.
+     */
+    public void appendTo(Appendable appendable) throws IOException{
+        appendable.append(currency.toString()).append(' ');
+        if(this.number < 0L){
+            appendable.append('-');
+        }
+        // the absolute values are taken after dividing, so Long.MIN_VALUE is handled as well
+        long integral = Math.abs(this.number / SCALE_FACTOR);
+        long fraction = Math.abs(this.number % SCALE_FACTOR);
+        int digits = 1;
+        while(digits <= FixedPointArithmetic.MAX_POWER_OF_TEN && integral >= FixedPointArithmetic.powerOfTen(digits)){
+            digits++;
+        }
+        appendDigits(appendable, integral, digits);
+        appendable.append('.');
+        appendDigits(appendable, fraction, SCALE);
+    }
+
+    /**
+     * Appends the given number of least significant decimal digits of a non negative value, including leading
+     * zeros.
+     */
+    private static void appendDigits(Appendable appendable, long value, int digits) throws IOException{
+        for(int i = digits - 1; i >= 0; i--){
+            appendable.append((char) ('0' + (value / FixedPointArithmetic.powerOfTen(i)) % 10L));
+        }
     }
 
     // Internal helper methods
@@ -701,7 +916,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 		if (FastMoney.class.isInstance(amount)) {
 			return FastMoney.class.cast(amount);
         }
-        return new FastMoney(amount.getNumber(), amount.getCurrency(), false);
+        return of(amount.getNumber(), amount.getCurrency());
     }
 
 	/**
@@ -713,8 +928,73 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 	 * @throws UnknownCurrencyException
 	 */
 	public static FastMoney parse(CharSequence text) {
+		Objects.requireNonNull(text);
+		int separator = indexOf(text, ' ');
+		if (separator > 0) {
+			long number = parseInternalNumber(text, separator + 1);
+			if (number != PARSE_FAILED) {
+				return ofInternal(number,
+						MonetaryCurrencies.getCurrency(text.subSequence(0, separator).toString()));
+			}
+		}
+		// anything beyond plain decimal notation is handled by the formatter
 		return parse(text, DEFAULT_FORMATTER);
 	}
+
+	/**
+	 * Marker returned by {@link #parseInternalNumber(CharSequence, int)}, if the text is not in plain
+	 * decimal notation. The only valid text mapping to this value, is parsed by the formatter instead.
+	 */
+	private static final long PARSE_FAILED = Long.MIN_VALUE;
+
+	private static int indexOf(CharSequence text, char ch) {
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) == ch) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Parses a number in plain decimal notation, such as {@code -123.45}, directly into the internal number.
+	 * @param text the text
+	 * @param start the start index of the number
+	 * @return the internal number, or {@link #PARSE_FAILED}, if the text is not in plain decimal notation.
+	 * @throws ArithmeticException if the number exceeds the scale or range supported.
+	 */
+	private static long parseInternalNumber(CharSequence text, int start) {
+		int length = text.length();
+		int index = start;
+		boolean negative = false;
+		if (index < length && (text.charAt(index) == '-' || text.charAt(index) == '+')) {
+			negative = text.charAt(index) == '-';
+			index++;
+		}
+		// accumulated negatively, so Long.MIN_VALUE can be represented
+		long result = 0L;
+		int digits = 0;
+		int fractionDigits = -1;
+		for (; index < length; index++) {
+			char ch = text.charAt(index);
+			if (ch == '.' && fractionDigits < 0) {
+				fractionDigits = 0;
+			} else if (ch >= '0' && ch <= '9') {
+				if (fractionDigits >= 0 && ++fractionDigits > SCALE) {
+					throw new ArithmeticException(text + " can not be represented by this class, scale > " + SCALE);
+				}
+				result = Math.subtractExact(Math.multiplyExact(result, 10L), ch - '0');
+				digits++;
+			} else {
+				return PARSE_FAILED;
+			}
+		}
+		if (digits == 0) {
+			return PARSE_FAILED;
+		}
+		result = Math.multiplyExact(result, FixedPointArithmetic.powerOfTen(SCALE - Math.max(fractionDigits, 0)));
+		return negative ? result : Math.negateExact(result);
+	}
 	/**
 	 * Obtains an instance of FastMoney from a text using specific formatter.
 	 * @param text  the text to parse not null
@@ -728,6 +1008,15 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 	private static ToStringMonetaryAmountFormat DEFAULT_FORMATTER = ToStringMonetaryAmountFormat
 			.of(ToStringMonetaryAmountFormatStyle.FAST_MONEY);
 
+    /**
+     * Access the unscaled value, which is the numeric value multiplied by 10^{@link #getScale()}.
+     *
+     * @return the unscaled value.
+     */
+    public long getUnscaledValue(){
+        return this.number;
+    }
+
     private BigDecimal getBigDecimal(){
         return BigDecimal.valueOf(this.number).movePointLeft(SCALE);
     }
@@ -738,9 +1027,9 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
             return this;
         }
         if(amount == 0.0){
-            return new FastMoney(0, this.currency);
+            return ofInternal(0L, this.currency);
         }
-        return new FastMoney(Math.round(this.number * amount), this.currency);
+        return multiplyInternal(MoneyUtils.getBigDecimal(amount));
     }
 
     @Override
@@ -748,7 +1037,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         if(amount == 1L){
             return this;
         }
-        return new FastMoney(this.number / amount, this.currency);
+        return new FastMoney(FixedPointArithmetic.divide(this.number, amount, ROUNDING_MODE), this.currency);
     }
 
     @Override
@@ -756,7 +1045,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         if(number == 1.0d){
             return this;
         }
-        return new FastMoney(Math.round(this.number / number), getCurrency());
+        return divideInternal(MoneyUtils.getBigDecimal(number));
     }
 
     @Override
@@ -790,9 +1079,9 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
             return this;
         }
         if(multiplicand == 0){
-            return new FastMoney(0L, this.currency);
+            return ofInternal(0L, this.currency);
         }
-        return new FastMoney(multiplicand * this.number, this.currency);
+        return new FastMoney(Math.multiplyExact(multiplicand, this.number), this.currency);
     }
 
     @Override
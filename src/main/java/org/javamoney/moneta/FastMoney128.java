@@ -0,0 +1,608 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.javamoney.moneta.internal.FastMoney128AmountBuilder;
+import org.javamoney.moneta.spi.DefaultNumberValue;
+import org.javamoney.moneta.spi.MonetaryConfig;
+import org.javamoney.moneta.spi.MoneyUtils;
+
+import javax.money.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * 128 bit fixed point implementation of {@link MonetaryAmount}. This class internally uses two longs, which
+ * together form a signed 128 bit two's complement number, interpreted with the same fixed scale of
+ * {@value #SCALE} as {@link FastMoney}. This extends the range supported to roughly 38 significant
+ * digits, e.g. for aggregated notional positions exceeding {@link FastMoney#MAX_VALUE}.
+ * <p>
+ * Addition, subtraction, negation and comparison are performed on the two longs directly, using carry
+ * arithmetic, so no {@link BigDecimal} is created for these operations. Multiplication and division are
+ * delegated to {@link BigDecimal}, the results are rounded to the scale of this class using the
+ * {@link RoundingMode} configured by {@code org.javamoney.moneta.FastMoney128.roundingMode} in
+ * {@code javamoney.properties} (default {@link RoundingMode#HALF_EVEN}).
+ * </p>
+ *
+ * @author Anatole Tresch
+ */
+public final class FastMoney128 implements MonetaryAmount, Comparable<MonetaryAmount>, Serializable{
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The scale represented by the number.
+     */
+    public static final int SCALE = 5;
+
+    /**
+     * The number of decimal digits of the maximal value supported.
+     */
+    private static final int PRECISION = 39;
+
+    /**
+     * The {@link RoundingMode} applied, when results of multiplication or division exceed the scale supported.
+     */
+    private static final RoundingMode ROUNDING_MODE = RoundingMode.valueOf(
+            MonetaryConfig.getConfig().getOrDefault("org.javamoney.moneta.FastMoney128.roundingMode", "HALF_EVEN"));
+
+    /**
+     * the {@link MonetaryContext} used by this instance, e.g. on division.
+     */
+    private static final MonetaryContext MONETARY_CONTEXT =
+            MonetaryContextBuilder.of(FastMoney128.class).setMaxScale(SCALE).setFixedScale(true)
+                    .setPrecision(PRECISION).set(ROUNDING_MODE).build();
+
+    /**
+     * Maximum possible value supported, using XXX (no currency).
+     */
+    public static final FastMoney128 MAX_VALUE =
+            new FastMoney128(Long.MAX_VALUE, -1L, MonetaryCurrencies.getCurrency("XXX"));
+
+    /**
+     * Minimum possible value supported, using XXX (no currency).
+     */
+    public static final FastMoney128 MIN_VALUE =
+            new FastMoney128(Long.MIN_VALUE, 0L, MonetaryCurrencies.getCurrency("XXX"));
+
+    /**
+     * The currency of this amount.
+     */
+    private final CurrencyUnit currency;
+
+    /**
+     * The high 64 bits of the numeric part, including the sign.
+     */
+    private final long high;
+
+    /**
+     * The low 64 bits of the numeric part.
+     */
+    private final long low;
+
+    /**
+     * Creates a new instance of {@link FastMoney128}.
+     *
+     * @param high     the high 64 bits of the internal number
+     * @param low      the low 64 bits of the internal number
+     * @param currency the currency, not null.
+     */
+    private FastMoney128(long high, long low, CurrencyUnit currency){
+        Objects.requireNonNull(currency, "Currency is required.");
+        this.currency = currency;
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Creates a new instance of {@link FastMoney128}.
+     *
+     * @param number                the number, not null.
+     * @param currency              the currency, not null.
+     * @param allowInternalRounding if true, numbers exceeding the scale are rounded, otherwise an
+     *                              {@link ArithmeticException} is thrown.
+     */
+    private FastMoney128(BigDecimal number, CurrencyUnit currency, boolean allowInternalRounding){
+        Objects.requireNonNull(currency, "Currency is required.");
+        Objects.requireNonNull(number, "Number is required.");
+        if(!allowInternalRounding && number.scale() > SCALE){
+            throw new ArithmeticException(number + " can not be represented by this class, scale > " + SCALE);
+        }
+        BigInteger unscaled = number.setScale(SCALE, ROUNDING_MODE).unscaledValue();
+        if(unscaled.bitLength() > 127){
+            throw new ArithmeticException("Overflow: " + number + " exceeds the range of FastMoney128.");
+        }
+        this.currency = currency;
+        this.high = unscaled.shiftRight(64).longValue();
+        this.low = unscaled.longValue();
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link FastMoney128}.
+     *
+     * @param number   The numeric part, not null.
+     * @param currency The target currency, not null.
+     * @return A new instance of {@link FastMoney128}.
+     * @throws ArithmeticException if the number exceeds the scale or the range supported.
+     */
+    public static FastMoney128 of(Number number, CurrencyUnit currency){
+        Objects.requireNonNull(number, "Number is required.");
+        return new FastMoney128(MoneyUtils.getBigDecimal(number), currency, false);
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link FastMoney128}.
+     *
+     * @param number       The numeric part, not null.
+     * @param currencyCode The target currency as currency code.
+     * @return A new instance of {@link FastMoney128}.
+     */
+    public static FastMoney128 of(Number number, String currencyCode){
+        return of(number, MonetaryCurrencies.getCurrency(currencyCode));
+    }
+
+    /**
+     * Converts (if necessary) the given {@link MonetaryAmount} to a {@link FastMoney128} instance.
+     *
+     * @param amount the amount to be converted, not null.
+     * @return an according {@link FastMoney128} instance.
+     * @throws ArithmeticException if the amount can not be represented by this class.
+     */
+    public static FastMoney128 from(MonetaryAmount amount){
+        if(amount instanceof FastMoney128){
+            return (FastMoney128) amount;
+        }
+        return new FastMoney128(amount.getNumber().numberValue(BigDecimal.class), amount.getCurrency(), false);
+    }
+
+    /**
+     * Returns the amount’s currency, modelled as {@link CurrencyUnit}.
+     *
+     * @return the currency, never {@code null}
+     * @see javax.money.MonetaryAmount#getCurrency()
+     */
+    @Override
+    public CurrencyUnit getCurrency(){
+        return currency;
+    }
+
+    /**
+     * Access the {@link MonetaryContext} used by this instance.
+     *
+     * @return the {@link MonetaryContext} used, never null.
+     * @see javax.money.MonetaryAmount#getMonetaryContext()
+     */
+    @Override
+    public MonetaryContext getMonetaryContext(){
+        return MONETARY_CONTEXT;
+    }
+
+    /**
+     * Gets the number representation of the numeric value of this item.
+     *
+     * @return The {@link Number} represention matching best.
+     */
+    @Override
+    public NumberValue getNumber(){
+        return new DefaultNumberValue(getBigDecimal());
+    }
+
+    private BigDecimal getBigDecimal(){
+        if(high == (low >> 63)){
+            // value fits into a single long
+            return BigDecimal.valueOf(low, SCALE);
+        }
+        BigInteger lowPart = BigInteger.valueOf(low & Long.MAX_VALUE);
+        if(low < 0L){
+            lowPart = lowPart.setBit(63);
+        }
+        return new BigDecimal(BigInteger.valueOf(high).shiftLeft(64).or(lowPart), SCALE);
+    }
+
+    /*
+     * @see java.lang.Comparable#compareTo(java.lang.Object)
+     */
+    @Override
+    public int compareTo(MonetaryAmount o){
+        Objects.requireNonNull(o);
+        int compare = getCurrency().getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
+        if(compare == 0){
+            if(o instanceof FastMoney128){
+                return compareNumber((FastMoney128) o);
+            }
+            compare = getBigDecimal().compareTo(o.getNumber().numberValue(BigDecimal.class));
+        }
+        return compare;
+    }
+
+    private int compareNumber(FastMoney128 other){
+        int compare = Long.compare(this.high, other.high);
+        if(compare == 0){
+            compare = Long.compareUnsigned(this.low, other.low);
+        }
+        return compare;
+    }
+
+    private int compareNumber(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        if(amount instanceof FastMoney128){
+            return compareNumber((FastMoney128) amount);
+        }
+        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode(){
+        return 31 * (31 * (31 + currency.hashCode()) + Long.hashCode(high)) + Long.hashCode(low);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj){
+        if(obj == this){
+            return true;
+        }
+        if(obj instanceof FastMoney128){
+            FastMoney128 other = (FastMoney128) obj;
+            return high == other.high && low == other.low && Objects.equals(currency, other.currency);
+        }
+        return false;
+    }
+
+    // Arithmetic Operations
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#add(javax.money.MonetaryAmount)
+     */
+    @Override
+    public FastMoney128 add(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        FastMoney128 other = from(amount);
+        if(other.isZero()){
+            return this;
+        }
+        long resultLow = this.low + other.low;
+        long carry = Long.compareUnsigned(resultLow, this.low) < 0 ? 1L : 0L;
+        long resultHigh = this.high + other.high + carry;
+        // overflow, if both operands have the same sign, but the result's sign differs
+        if(((this.high ^ resultHigh) & (other.high ^ resultHigh)) < 0L){
+            throw new ArithmeticException("Overflow: " + this + " + " + amount);
+        }
+        return new FastMoney128(resultHigh, resultLow, currency);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#subtract(javax.money.MonetaryAmount)
+     */
+    @Override
+    public FastMoney128 subtract(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        FastMoney128 other = from(amount);
+        if(other.isZero()){
+            return this;
+        }
+        long resultLow = this.low - other.low;
+        long borrow = Long.compareUnsigned(this.low, other.low) < 0 ? 1L : 0L;
+        long resultHigh = this.high - other.high - borrow;
+        // overflow, if the operands have different signs and the result's sign differs from the minuend
+        if(((this.high ^ other.high) & (this.high ^ resultHigh)) < 0L){
+            throw new ArithmeticException("Overflow: " + this + " - " + amount);
+        }
+        return new FastMoney128(resultHigh, resultLow, currency);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#negate()
+     */
+    @Override
+    public FastMoney128 negate(){
+        if(this.high == Long.MIN_VALUE && this.low == 0L){
+            throw new ArithmeticException("Overflow: -" + this);
+        }
+        long resultLow = -this.low;
+        long resultHigh = ~this.high + (this.low == 0L ? 1L : 0L);
+        return new FastMoney128(resultHigh, resultLow, currency);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#abs()
+     */
+    @Override
+    public FastMoney128 abs(){
+        if(this.isPositiveOrZero()){
+            return this;
+        }
+        return this.negate();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#plus()
+     */
+    @Override
+    public FastMoney128 plus(){
+        return this;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#multiply(java.lang.Number)
+     */
+    @Override
+    public FastMoney128 multiply(Number multiplicand){
+        MoneyUtils.checkNumberParameter(multiplicand);
+        return multiplyInternal(MoneyUtils.getBigDecimal(multiplicand));
+    }
+
+    private FastMoney128 multiplyInternal(BigDecimal multiplicand){
+        if(multiplicand.compareTo(BigDecimal.ONE) == 0){
+            return this;
+        }
+        return new FastMoney128(getBigDecimal().multiply(multiplicand), currency, true);
+    }
+
+    @Override
+    public FastMoney128 multiply(long multiplicand){
+        if(multiplicand == 1L){
+            return this;
+        }
+        return multiplyInternal(BigDecimal.valueOf(multiplicand));
+    }
+
+    @Override
+    public FastMoney128 multiply(double multiplicand){
+        if(multiplicand == 1.0d){
+            return this;
+        }
+        return multiplyInternal(MoneyUtils.getBigDecimal(multiplicand));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divide(java.lang.Number)
+     */
+    @Override
+    public FastMoney128 divide(Number divisor){
+        MoneyUtils.checkNumberParameter(divisor);
+        return divideInternal(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    private FastMoney128 divideInternal(BigDecimal divisor){
+        if(divisor.compareTo(BigDecimal.ONE) == 0){
+            return this;
+        }
+        return new FastMoney128(getBigDecimal().divide(divisor, SCALE, ROUNDING_MODE), currency, false);
+    }
+
+    @Override
+    public FastMoney128 divide(long divisor){
+        if(divisor == 1L){
+            return this;
+        }
+        return divideInternal(BigDecimal.valueOf(divisor));
+    }
+
+    @Override
+    public FastMoney128 divide(double divisor){
+        if(divisor == 1.0d){
+            return this;
+        }
+        return divideInternal(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divideAndRemainder(java.lang.Number)
+     */
+    @Override
+    public FastMoney128[] divideAndRemainder(Number divisor){
+        MoneyUtils.checkNumberParameter(divisor);
+        BigDecimal[] res = getBigDecimal().divideAndRemainder(MoneyUtils.getBigDecimal(divisor));
+        return new FastMoney128[]{new FastMoney128(res[0], currency, true), new FastMoney128(res[1], currency, true)};
+    }
+
+    @Override
+    public FastMoney128[] divideAndRemainder(long divisor){
+        return divideAndRemainder(BigDecimal.valueOf(divisor));
+    }
+
+    @Override
+    public FastMoney128[] divideAndRemainder(double divisor){
+        return divideAndRemainder(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divideToIntegralValue(java.lang.Number)
+     */
+    @Override
+    public FastMoney128 divideToIntegralValue(Number divisor){
+        MoneyUtils.checkNumberParameter(divisor);
+        return new FastMoney128(getBigDecimal().divideToIntegralValue(MoneyUtils.getBigDecimal(divisor)), currency,
+                                true);
+    }
+
+    @Override
+    public FastMoney128 divideToIntegralValue(long divisor){
+        return divideToIntegralValue(BigDecimal.valueOf(divisor));
+    }
+
+    @Override
+    public FastMoney128 divideToIntegralValue(double divisor){
+        return divideToIntegralValue(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#remainder(java.lang.Number)
+     */
+    @Override
+    public FastMoney128 remainder(Number divisor){
+        MoneyUtils.checkNumberParameter(divisor);
+        return new FastMoney128(getBigDecimal().remainder(MoneyUtils.getBigDecimal(divisor)), currency, true);
+    }
+
+    @Override
+    public FastMoney128 remainder(long divisor){
+        return remainder(BigDecimal.valueOf(divisor));
+    }
+
+    @Override
+    public FastMoney128 remainder(double divisor){
+        return remainder(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#scaleByPowerOfTen(int)
+     */
+    @Override
+    public FastMoney128 scaleByPowerOfTen(int n){
+        return new FastMoney128(getBigDecimal().scaleByPowerOfTen(n), currency, true);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#stripTrailingZeros()
+     */
+    @Override
+    public FastMoney128 stripTrailingZeros(){
+        return this;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#signum()
+     */
+    @Override
+    public int signum(){
+        if(this.high < 0L){
+            return -1;
+        }
+        if(this.high == 0L && this.low == 0L){
+            return 0;
+        }
+        return 1;
+    }
+
+    @Override
+    public boolean isZero(){
+        return this.high == 0L && this.low == 0L;
+    }
+
+    @Override
+    public boolean isPositive(){
+        return signum() > 0;
+    }
+
+    @Override
+    public boolean isPositiveOrZero(){
+        return this.high >= 0L;
+    }
+
+    @Override
+    public boolean isNegative(){
+        return this.high < 0L;
+    }
+
+    @Override
+    public boolean isNegativeOrZero(){
+        return signum() <= 0;
+    }
+
+    @Override
+    public boolean isLessThan(MonetaryAmount amount){
+        return compareNumber(amount) < 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqualTo(MonetaryAmount amount){
+        return compareNumber(amount) <= 0;
+    }
+
+    @Override
+    public boolean isGreaterThan(MonetaryAmount amount){
+        return compareNumber(amount) > 0;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqualTo(MonetaryAmount amount){
+        return compareNumber(amount) >= 0;
+    }
+
+    @Override
+    public boolean isEqualTo(MonetaryAmount amount){
+        return compareNumber(amount) == 0;
+    }
+
+    /*
+     * }(non-Javadoc)
+     * @see javax.money.MonetaryAmount#adjust(javax.money.AmountAdjuster)
+     */
+    @Override
+    public FastMoney128 with(MonetaryOperator operator){
+        Objects.requireNonNull(operator);
+        try{
+            return FastMoney128.class.cast(operator.apply(this));
+        }
+        catch(ArithmeticException e){
+            throw e;
+        }
+        catch(Exception e){
+            throw new MonetaryException("Operator failed: " + operator, e);
+        }
+    }
+
+    @Override
+    public <R> R query(MonetaryQuery<R> query){
+        Objects.requireNonNull(query);
+        try{
+            return query.queryFrom(this);
+        }
+        catch(MonetaryException | ArithmeticException e){
+            throw e;
+        }
+        catch(Exception e){
+            throw new MonetaryException("Query failed: " + query, e);
+        }
+    }
+
+    @Override
+    public MonetaryAmountFactory<FastMoney128> getFactory(){
+        return new FastMoney128AmountBuilder().setAmount(this);
+    }
+
+    @Override
+    public String toString(){
+        return currency.toString() + ' ' + getBigDecimal();
+    }
+
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.javamoney.moneta.spi.MoneyUtils;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import java.util.Objects;
+
+/**
+ * Mutable accumulator for summing up {@link MonetaryAmount} instances of one currency into a {@link FastMoney}.
+ * The running total is held as primitive {@code long}, using the same scale as {@link FastMoney}, so adding
+ * {@link FastMoney} instances does not create any intermediate amounts, as {@link FastMoney#add} does.
+ * <p>
+ * This class is not thread-safe. Use one instance per thread, or an accumulator designed for concurrent
+ * access, when summing up amounts from multiple threads.
+ * </p>
+ * <pre>
+ * FastMoneyAccumulator acc = new FastMoneyAccumulator(EURO);
+ * acc.addAll(amounts);
+ * FastMoney total = acc.toAmount();
+ * </pre>
+ *
+ * @author Anatole Tresch
+ */
+public final class FastMoneyAccumulator{
+
+    /**
+     * The currency of the amounts accumulated.
+     */
+    private final CurrencyUnit currency;
+
+    /**
+     * The running total, as internal number of {@link FastMoney}.
+     */
+    private long number;
+
+    /**
+     * Creates a new accumulator with a total of zero.
+     *
+     * @param currency the currency of the amounts accumulated, not null.
+     */
+    public FastMoneyAccumulator(CurrencyUnit currency){
+        this.currency = Objects.requireNonNull(currency, "Currency is required.");
+    }
+
+    /**
+     * Creates a new accumulator, using the given amount as initial total.
+     *
+     * @param initial the initial total, not null.
+     */
+    public FastMoneyAccumulator(FastMoney initial){
+        this(initial.getCurrency());
+        this.number = initial.getUnscaledValue();
+    }
+
+    /**
+     * Access the currency of this accumulator.
+     *
+     * @return the currency, never null.
+     */
+    public CurrencyUnit getCurrency(){
+        return currency;
+    }
+
+    /**
+     * Adds the given amount to the total.
+     *
+     * @param amount the amount, not null.
+     * @return this accumulator, for chaining.
+     * @throws javax.money.MonetaryException if the amount's currency is not compatible.
+     * @throws ArithmeticException           if the amount can not be represented as {@link FastMoney}, or the
+     *                                       total overflows.
+     */
+    public FastMoneyAccumulator add(MonetaryAmount amount){
+        this.number = Math.addExact(this.number, getInternalNumber(amount));
+        return this;
+    }
+
+    /**
+     * Subtracts the given amount from the total.
+     *
+     * @param amount the amount, not null.
+     * @return this accumulator, for chaining.
+     * @throws javax.money.MonetaryException if the amount's currency is not compatible.
+     * @throws ArithmeticException           if the amount can not be represented as {@link FastMoney}, or the
+     *                                       total overflows.
+     */
+    public FastMoneyAccumulator subtract(MonetaryAmount amount){
+        this.number = Math.subtractExact(this.number, getInternalNumber(amount));
+        return this;
+    }
+
+    /**
+     * Adds all the given amounts to the total.
+     *
+     * @param amounts the amounts, not null.
+     * @return this accumulator, for chaining.
+     * @throws javax.money.MonetaryException if an amount's currency is not compatible.
+     * @throws ArithmeticException           if an amount can not be represented as {@link FastMoney}, or the
+     *                                       total overflows.
+     */
+    public FastMoneyAccumulator addAll(Iterable<? extends MonetaryAmount> amounts){
+        Objects.requireNonNull(amounts, "Amounts required.");
+        for(MonetaryAmount amount : amounts){
+            add(amount);
+        }
+        return this;
+    }
+
+    /**
+     * Resets the total to zero.
+     *
+     * @return this accumulator, for chaining.
+     */
+    public FastMoneyAccumulator reset(){
+        this.number = 0L;
+        return this;
+    }
+
+    /**
+     * Creates a {@link FastMoney} with the current total.
+     *
+     * @return the current total, never null.
+     */
+    public FastMoney toAmount(){
+        return FastMoney.ofInternal(this.number, this.currency);
+    }
+
+    private long getInternalNumber(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        if(amount instanceof FastMoney){
+            return ((FastMoney) amount).getUnscaledValue();
+        }
+        return FastMoney.getInternalNumber(amount.getNumber(), false);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString(){
+        return "FastMoneyAccumulator [" + toAmount() + ']';
+    }
+
+}
@@ -0,0 +1,769 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.javamoney.moneta.spi.FixedPointNumberValue;
+import org.javamoney.moneta.spi.MoneyUtils;
+
+import javax.money.*;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.*;
+
+/**
+ * Store of amounts outside of the Java heap, backed by direct or memory-mapped {@link ByteBuffer}s. Each amount
+ * is encoded as fixed size record of {@link #RECORD_SIZE} bytes: the ISO 4217 numeric code of its currency as
+ * {@code int}, followed by its unscaled value as returned by {@link FastMoney#getUnscaledValue()}. Records are
+ * spread over several buffers, so a store can hold more than {@link Integer#MAX_VALUE} bytes, and a mapped
+ * store can hold more amounts than fit on the heap.
+ * <p>
+ * Records are read by a reusable {@link Cursor}, which is a {@link MonetaryAmount} view of the record at its
+ * position, or by the aggregation methods, such as {@link #sum(CurrencyUnit)}, which scan the buffers
+ * sequentially. Neither allocates per record.
+ * </p>
+ * <p>
+ * This class is not thread-safe. Only currencies with a numeric code can be stored.
+ * </p>
+ * <pre>
+ * try(FileChannel channel = FileChannel.open(path, READ)){
+ *     FastMoneyBuffer buffer = FastMoneyBuffer.map(channel, FileChannel.MapMode.READ_ONLY);
+ *     FastMoneyBuffer.Cursor cursor = buffer.cursor();
+ *     while(cursor.next()){
+ *         if(cursor.isGreaterThan(limit)){
+ *             ...
+ *         }
+ *     }
+ *     Map&lt;CurrencyUnit, FastMoney&gt; totals = buffer.sumByCurrency();
+ * }
+ * </pre>
+ *
+ * @author Anatole Tresch
+ */
+public final class FastMoneyBuffer{
+
+    /**
+     * The size of a record in bytes.
+     */
+    public static final int RECORD_SIZE = 12;
+
+    /**
+     * The offset of the unscaled value within a record.
+     */
+    private static final int VALUE_OFFSET = 4;
+
+    /**
+     * The exclusive upper bound of ISO 4217 numeric codes.
+     */
+    private static final int MAX_NUMERIC_CODE = 1000;
+
+    /**
+     * The base 2 logarithm of the number of records per buffer, so a buffer stays below 2 GB.
+     */
+    private static final int DEFAULT_SEGMENT_SHIFT = 27;
+
+    /**
+     * The currencies per numeric code, of all currencies available.
+     */
+    private static volatile CurrencyUnit[] availableCurrencies;
+
+    private final ByteBuffer[] segments;
+
+    private final int segmentShift;
+
+    private final long segmentMask;
+
+    private final long capacity;
+
+    private long size;
+
+    /**
+     * The currencies per numeric code, as stored or read by this instance.
+     */
+    private final CurrencyUnit[] currencies = new CurrencyUnit[MAX_NUMERIC_CODE];
+
+    private FastMoneyBuffer(ByteBuffer[] segments, int segmentShift, long capacity, long size){
+        this.segments = segments;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+        this.capacity = capacity;
+        this.size = size;
+    }
+
+    /**
+     * Creates a new, empty store backed by direct buffers.
+     *
+     * @param capacity the maximal number of amounts to be stored.
+     * @return the new store.
+     */
+    public static FastMoneyBuffer allocateDirect(long capacity){
+        return allocateDirect(capacity, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    static FastMoneyBuffer allocateDirect(long capacity, int segmentShift){
+        checkCapacity(capacity);
+        ByteBuffer[] segments = new ByteBuffer[segmentCount(capacity, segmentShift)];
+        for(int i = 0; i < segments.length; i++){
+            segments[i] = ByteBuffer.allocateDirect(segmentRecords(capacity, segmentShift, i) * RECORD_SIZE);
+        }
+        return new FastMoneyBuffer(segments, segmentShift, capacity, 0L);
+    }
+
+    /**
+     * Maps all records of the given file into a store, e.g. for reading the records written by a previous
+     * process.
+     *
+     * @param channel the file channel, not null.
+     * @param mode    the mapping mode, not null.
+     * @return the new store, containing one amount per record of the file.
+     * @throws IOException if the file can not be mapped.
+     */
+    public static FastMoneyBuffer map(FileChannel channel, FileChannel.MapMode mode) throws IOException{
+        return map(channel, mode, channel.size() / RECORD_SIZE);
+    }
+
+    /**
+     * Maps the records of the given file into a store. The store contains the records already in the file,
+     * further amounts added are appended. If mapped with {@link FileChannel.MapMode#READ_WRITE}, the file
+     * grows as needed to hold {@code capacity} records. Since records are not counted in the file itself,
+     * truncate the file to {@code size() * RECORD_SIZE} bytes after writing, so it can be mapped again.
+     *
+     * @param channel  the file channel, not null.
+     * @param mode     the mapping mode, not null.
+     * @param capacity the maximal number of amounts to be stored.
+     * @return the new store.
+     * @throws IOException if the file can not be mapped.
+     */
+    public static FastMoneyBuffer map(FileChannel channel, FileChannel.MapMode mode, long capacity)
+            throws IOException{
+        return map(channel, mode, capacity, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    static FastMoneyBuffer map(FileChannel channel, FileChannel.MapMode mode, long capacity, int segmentShift)
+            throws IOException{
+        Objects.requireNonNull(channel, "Channel required.");
+        Objects.requireNonNull(mode, "Mode required.");
+        checkCapacity(capacity);
+        long records = channel.size() / RECORD_SIZE;
+        if(mode == FileChannel.MapMode.READ_ONLY){
+            capacity = Math.min(capacity, records);
+        }
+        ByteBuffer[] segments = new ByteBuffer[segmentCount(capacity, segmentShift)];
+        for(int i = 0; i < segments.length; i++){
+            segments[i] = channel.map(mode, ((long) i << segmentShift) * RECORD_SIZE,
+                                      (long) segmentRecords(capacity, segmentShift, i) * RECORD_SIZE);
+        }
+        return new FastMoneyBuffer(segments, segmentShift, capacity, Math.min(capacity, records));
+    }
+
+    private static void checkCapacity(long capacity){
+        if(capacity < 0){
+            throw new IllegalArgumentException("capacity < 0");
+        }
+    }
+
+    private static int segmentCount(long capacity, int segmentShift){
+        return (int) ((capacity + (1L << segmentShift) - 1) >>> segmentShift);
+    }
+
+    private static int segmentRecords(long capacity, int segmentShift, int segment){
+        return (int) Math.min(1L << segmentShift, capacity - ((long) segment << segmentShift));
+    }
+
+    /**
+     * Access the number of amounts stored.
+     *
+     * @return the number of amounts.
+     */
+    public long size(){
+        return size;
+    }
+
+    /**
+     * Access the maximal number of amounts to be stored.
+     *
+     * @return the capacity.
+     */
+    public long capacity(){
+        return capacity;
+    }
+
+    /**
+     * Appends the given amount.
+     *
+     * @param amount the amount, not null.
+     * @return this store, for chaining.
+     * @throws ArithmeticException     if the amount can not be represented as {@link FastMoney}.
+     * @throws BufferOverflowException if the store is full.
+     */
+    public FastMoneyBuffer add(MonetaryAmount amount){
+        Objects.requireNonNull(amount, "Amount required.");
+        if(amount instanceof FastMoney){
+            return addUnscaled(((FastMoney) amount).getUnscaledValue(), amount.getCurrency());
+        }
+        return addUnscaled(FastMoney.getInternalNumber(amount.getNumber(), false), amount.getCurrency());
+    }
+
+    /**
+     * Appends an amount given as unscaled value.
+     *
+     * @param unscaledValue the unscaled value, as returned by {@link FastMoney#getUnscaledValue()}.
+     * @param currency      the currency, not null.
+     * @return this store, for chaining.
+     * @throws IllegalArgumentException if the currency has no ISO 4217 numeric code.
+     * @throws BufferOverflowException  if the store is full.
+     */
+    public FastMoneyBuffer addUnscaled(long unscaledValue, CurrencyUnit currency){
+        Objects.requireNonNull(currency, "Currency is required.");
+        int numericCode = currency.getNumericCode();
+        if(numericCode < 0 || numericCode >= MAX_NUMERIC_CODE){
+            throw new IllegalArgumentException("Currency has no numeric code: " + currency);
+        }
+        if(size == capacity){
+            throw new BufferOverflowException();
+        }
+        if(currencies[numericCode] == null){
+            currencies[numericCode] = currency;
+        }
+        ByteBuffer segment = segments[(int) (size >>> segmentShift)];
+        int offset = (int) (size & segmentMask) * RECORD_SIZE;
+        segment.putInt(offset, numericCode);
+        segment.putLong(offset + VALUE_OFFSET, unscaledValue);
+        size++;
+        return this;
+    }
+
+    /**
+     * Access the amount at the given position.
+     *
+     * @param index the position, 0 &lt;= index &lt; {@link #size()}.
+     * @return the amount, never null.
+     */
+    public FastMoney get(long index){
+        checkIndex(index);
+        ByteBuffer segment = segments[(int) (index >>> segmentShift)];
+        int offset = (int) (index & segmentMask) * RECORD_SIZE;
+        return FastMoney.ofInternal(segment.getLong(offset + VALUE_OFFSET), getCurrency(segment.getInt(offset)));
+    }
+
+    /**
+     * Creates a new cursor, positioned before the first amount.
+     *
+     * @return the new cursor.
+     */
+    public Cursor cursor(){
+        return new Cursor();
+    }
+
+    /**
+     * Counts the amounts of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the number of amounts with the given currency.
+     */
+    public long count(CurrencyUnit currency){
+        int numericCode = getNumericCode(currency);
+        long count = 0L;
+        for(int s = 0; s < segments.length; s++){
+            ByteBuffer segment = segments[s];
+            int end = segmentEnd(s);
+            for(int offset = 0; offset < end; offset += RECORD_SIZE){
+                if(segment.getInt(offset) == numericCode){
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Sums up the amounts of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the total, zero if no amounts of the given currency are stored.
+     * @throws ArithmeticException if the total exceeds the range of {@link FastMoney}.
+     */
+    public FastMoney sum(CurrencyUnit currency){
+        int numericCode = getNumericCode(currency);
+        long sum = 0L;
+        for(int s = 0; s < segments.length; s++){
+            ByteBuffer segment = segments[s];
+            int end = segmentEnd(s);
+            for(int offset = 0; offset < end; offset += RECORD_SIZE){
+                if(segment.getInt(offset) == numericCode){
+                    sum = Math.addExact(sum, segment.getLong(offset + VALUE_OFFSET));
+                }
+            }
+        }
+        return FastMoney.ofInternal(sum, currency);
+    }
+
+    /**
+     * Evaluates the minimal amount of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the minimal amount, or empty, if no amounts of the given currency are stored.
+     */
+    public Optional<FastMoney> min(CurrencyUnit currency){
+        return extremum(currency, false);
+    }
+
+    /**
+     * Evaluates the maximal amount of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the maximal amount, or empty, if no amounts of the given currency are stored.
+     */
+    public Optional<FastMoney> max(CurrencyUnit currency){
+        return extremum(currency, true);
+    }
+
+    private Optional<FastMoney> extremum(CurrencyUnit currency, boolean max){
+        int numericCode = getNumericCode(currency);
+        boolean found = false;
+        long result = 0L;
+        for(int s = 0; s < segments.length; s++){
+            ByteBuffer segment = segments[s];
+            int end = segmentEnd(s);
+            for(int offset = 0; offset < end; offset += RECORD_SIZE){
+                if(segment.getInt(offset) == numericCode){
+                    long value = segment.getLong(offset + VALUE_OFFSET);
+                    if(!found || (max ? value > result : value < result)){
+                        result = value;
+                        found = true;
+                    }
+                }
+            }
+        }
+        return found ? Optional.of(FastMoney.ofInternal(result, currency)) : Optional.empty();
+    }
+
+    /**
+     * Sums up the amounts per currency in one pass.
+     *
+     * @return the totals per currency, ordered by numeric code.
+     * @throws ArithmeticException if a total exceeds the range of {@link FastMoney}.
+     * @throws MonetaryException   if a numeric code stored can not be resolved to a currency.
+     */
+    public Map<CurrencyUnit, FastMoney> sumByCurrency(){
+        long[] sums = new long[MAX_NUMERIC_CODE];
+        boolean[] found = new boolean[MAX_NUMERIC_CODE];
+        for(int s = 0; s < segments.length; s++){
+            ByteBuffer segment = segments[s];
+            int end = segmentEnd(s);
+            for(int offset = 0; offset < end; offset += RECORD_SIZE){
+                int numericCode = segment.getInt(offset);
+                if(numericCode < 0 || numericCode >= MAX_NUMERIC_CODE){
+                    throw new MonetaryException("No currency with numeric code: " + numericCode);
+                }
+                sums[numericCode] = Math.addExact(sums[numericCode], segment.getLong(offset + VALUE_OFFSET));
+                found[numericCode] = true;
+            }
+        }
+        Map<CurrencyUnit, FastMoney> result = new LinkedHashMap<>();
+        for(int numericCode = 0; numericCode < MAX_NUMERIC_CODE; numericCode++){
+            if(found[numericCode]){
+                CurrencyUnit currency = getCurrency(numericCode);
+                result.put(currency, FastMoney.ofInternal(sums[numericCode], currency));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Forces changes to mapped buffers to be written to the storage device, see
+     * {@link MappedByteBuffer#force()}. Does nothing for direct buffers.
+     */
+    public void force(){
+        for(ByteBuffer segment : segments){
+            if(segment instanceof MappedByteBuffer){
+                ((MappedByteBuffer) segment).force();
+            }
+        }
+    }
+
+    private int segmentEnd(int segment){
+        return (int) Math.max(0L, Math.min(1L << segmentShift, size - ((long) segment << segmentShift))) *
+                RECORD_SIZE;
+    }
+
+    private void checkIndex(long index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static int getNumericCode(CurrencyUnit currency){
+        Objects.requireNonNull(currency, "Currency is required.");
+        return currency.getNumericCode();
+    }
+
+    private CurrencyUnit getCurrency(int numericCode){
+        CurrencyUnit currency = numericCode >= 0 && numericCode < MAX_NUMERIC_CODE ? currencies[numericCode] : null;
+        if(currency == null){
+            currency = getAvailableCurrency(numericCode);
+            currencies[numericCode] = currency;
+        }
+        return currency;
+    }
+
+    private static CurrencyUnit getAvailableCurrency(int numericCode){
+        CurrencyUnit[] available = availableCurrencies;
+        if(available == null){
+            available = new CurrencyUnit[MAX_NUMERIC_CODE];
+            for(CurrencyUnit currency : MonetaryCurrencies.getCurrencies()){
+                int code = currency.getNumericCode();
+                if(code >= 0 && code < MAX_NUMERIC_CODE && available[code] == null){
+                    available[code] = currency;
+                }
+            }
+            availableCurrencies = available;
+        }
+        CurrencyUnit currency = numericCode >= 0 && numericCode < MAX_NUMERIC_CODE ? available[numericCode] : null;
+        if(currency == null){
+            throw new MonetaryException("No currency with numeric code: " + numericCode);
+        }
+        return currency;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString(){
+        return "FastMoneyBuffer [size=" + size + ", capacity=" + capacity + ']';
+    }
+
+    /**
+     * Reusable, mutable view of the amount at the cursor's position. Reading the position's value, currency or
+     * comparing it does not allocate, operations returning amounts, such as {@link #add(MonetaryAmount)}, return
+     * new {@link FastMoney} instances. Since the view changes when the cursor moves, use {@link #toFastMoney()}
+     * to keep an amount.
+     */
+    public final class Cursor implements MonetaryAmount{
+
+        private long index = -1L;
+
+        private int numericCode;
+
+        private long value;
+
+        private Cursor(){
+        }
+
+        /**
+         * Moves the cursor to the next amount.
+         *
+         * @return true, if the cursor is positioned on an amount, false if there are no more amounts.
+         */
+        public boolean next(){
+            if(index + 1 >= size){
+                index = size;
+                return false;
+            }
+            load(index + 1);
+            return true;
+        }
+
+        /**
+         * Moves the cursor to the given position.
+         *
+         * @param index the position, 0 &lt;= index &lt; {@link FastMoneyBuffer#size()}.
+         * @return this cursor.
+         */
+        public Cursor moveTo(long index){
+            checkIndex(index);
+            load(index);
+            return this;
+        }
+
+        /**
+         * Moves the cursor before the first amount.
+         *
+         * @return this cursor.
+         */
+        public Cursor reset(){
+            index = -1L;
+            return this;
+        }
+
+        private void load(long index){
+            ByteBuffer segment = segments[(int) (index >>> segmentShift)];
+            int offset = (int) (index & segmentMask) * RECORD_SIZE;
+            this.numericCode = segment.getInt(offset);
+            this.value = segment.getLong(offset + VALUE_OFFSET);
+            this.index = index;
+        }
+
+        private void checkPosition(){
+            if(index < 0 || index >= size){
+                throw new NoSuchElementException("Cursor is not positioned on an amount.");
+            }
+        }
+
+        /**
+         * Access the cursor's position.
+         *
+         * @return the position, -1 before the first amount.
+         */
+        public long getIndex(){
+            return index;
+        }
+
+        /**
+         * Access the unscaled value of the amount at the cursor's position.
+         *
+         * @return the unscaled value, as returned by {@link FastMoney#getUnscaledValue()}.
+         */
+        public long getUnscaledValue(){
+            checkPosition();
+            return value;
+        }
+
+        /**
+         * Access the numeric code of the currency of the amount at the cursor's position.
+         *
+         * @return the ISO 4217 numeric code.
+         */
+        public int getNumericCode(){
+            checkPosition();
+            return numericCode;
+        }
+
+        /**
+         * Creates an amount with the value at the cursor's position.
+         *
+         * @return the new amount.
+         */
+        public FastMoney toFastMoney(){
+            return FastMoney.ofInternal(getUnscaledValue(), getCurrency());
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see javax.money.CurrencySupplier#getCurrency()
+         */
+        @Override
+        public CurrencyUnit getCurrency(){
+            checkPosition();
+            return FastMoneyBuffer.this.getCurrency(numericCode);
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see javax.money.NumberSupplier#getNumber()
+         */
+        @Override
+        public NumberValue getNumber(){
+            return new FixedPointNumberValue(getUnscaledValue(), FastMoney.SCALE);
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see javax.money.MonetaryAmount#getMonetaryContext()
+         */
+        @Override
+        public MonetaryContext getMonetaryContext(){
+            return FastMoney.MAX_VALUE.getMonetaryContext();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see javax.money.MonetaryAmount#getFactory()
+         */
+        @Override
+        public MonetaryAmountFactory<FastMoney> getFactory(){
+            return toFastMoney().getFactory();
+        }
+
+        private int compareNumber(MonetaryAmount amount){
+            MoneyUtils.checkAmountParameter(amount, getCurrency());
+            if(amount instanceof FastMoney){
+                return Long.compare(value, ((FastMoney) amount).getUnscaledValue());
+            }
+            if(amount instanceof Cursor){
+                return Long.compare(value, ((Cursor) amount).getUnscaledValue());
+            }
+            return BigDecimal.valueOf(value, FastMoney.SCALE)
+                    .compareTo(amount.getNumber().numberValue(BigDecimal.class));
+        }
+
+        @Override
+        public boolean isGreaterThan(MonetaryAmount amount){
+            return compareNumber(amount) > 0;
+        }
+
+        @Override
+        public boolean isGreaterThanOrEqualTo(MonetaryAmount amount){
+            return compareNumber(amount) >= 0;
+        }
+
+        @Override
+        public boolean isLessThan(MonetaryAmount amount){
+            return compareNumber(amount) < 0;
+        }
+
+        @Override
+        public boolean isLessThanOrEqualTo(MonetaryAmount amount){
+            return compareNumber(amount) <= 0;
+        }
+
+        @Override
+        public boolean isEqualTo(MonetaryAmount amount){
+            return compareNumber(amount) == 0;
+        }
+
+        @Override
+        public int signum(){
+            return Long.signum(getUnscaledValue());
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.lang.Comparable#compareTo(java.lang.Object)
+         */
+        @Override
+        public int compareTo(MonetaryAmount o){
+            Objects.requireNonNull(o);
+            int compare = getCurrency().getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
+            return compare == 0 ? compareNumber(o) : compare;
+        }
+
+        @Override
+        public FastMoney add(MonetaryAmount amount){
+            return toFastMoney().add(amount);
+        }
+
+        @Override
+        public FastMoney subtract(MonetaryAmount amount){
+            return toFastMoney().subtract(amount);
+        }
+
+        @Override
+        public FastMoney multiply(long multiplicand){
+            return toFastMoney().multiply(multiplicand);
+        }
+
+        @Override
+        public FastMoney multiply(double multiplicand){
+            return toFastMoney().multiply(multiplicand);
+        }
+
+        @Override
+        public FastMoney multiply(Number multiplicand){
+            return toFastMoney().multiply(multiplicand);
+        }
+
+        @Override
+        public FastMoney divide(long divisor){
+            return toFastMoney().divide(divisor);
+        }
+
+        @Override
+        public FastMoney divide(double divisor){
+            return toFastMoney().divide(divisor);
+        }
+
+        @Override
+        public FastMoney divide(Number divisor){
+            return toFastMoney().divide(divisor);
+        }
+
+        @Override
+        public FastMoney remainder(long divisor){
+            return toFastMoney().remainder(divisor);
+        }
+
+        @Override
+        public FastMoney remainder(double divisor){
+            return toFastMoney().remainder(divisor);
+        }
+
+        @Override
+        public FastMoney remainder(Number divisor){
+            return toFastMoney().remainder(divisor);
+        }
+
+        @Override
+        public FastMoney[] divideAndRemainder(long divisor){
+            return toFastMoney().divideAndRemainder(divisor);
+        }
+
+        @Override
+        public FastMoney[] divideAndRemainder(double divisor){
+            return toFastMoney().divideAndRemainder(divisor);
+        }
+
+        @Override
+        public FastMoney[] divideAndRemainder(Number divisor){
+            return toFastMoney().divideAndRemainder(divisor);
+        }
+
+        @Override
+        public FastMoney divideToIntegralValue(long divisor){
+            return toFastMoney().divideToIntegralValue(divisor);
+        }
+
+        @Override
+        public FastMoney divideToIntegralValue(double divisor){
+            return toFastMoney().divideToIntegralValue(divisor);
+        }
+
+        @Override
+        public FastMoney divideToIntegralValue(Number divisor){
+            return toFastMoney().divideToIntegralValue(divisor);
+        }
+
+        @Override
+        public FastMoney scaleByPowerOfTen(int power){
+            return toFastMoney().scaleByPowerOfTen(power);
+        }
+
+        @Override
+        public FastMoney abs(){
+            return toFastMoney().abs();
+        }
+
+        @Override
+        public FastMoney negate(){
+            return toFastMoney().negate();
+        }
+
+        @Override
+        public FastMoney plus(){
+            return toFastMoney();
+        }
+
+        @Override
+        public FastMoney stripTrailingZeros(){
+            return toFastMoney();
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.lang.Object#toString()
+         */
+        @Override
+        public String toString(){
+            return index < 0 || index >= size ? "Cursor [index=" + index + ']' : toFastMoney().toString();
+        }
+    }
+
+}
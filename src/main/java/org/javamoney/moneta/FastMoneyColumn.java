@@ -0,0 +1,439 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import java.util.*;
+
+/**
+ * Mutable, columnar store of amounts, where each amount is held as the unscaled {@code long} value of a
+ * {@link FastMoney} in one primitive array, and its currency as index into the (few) distinct currencies in a
+ * second, compact array. Compared to a {@code List<MonetaryAmount>} this avoids an object and a reference per
+ * amount. The aggregation methods, such as {@link #sum(CurrencyUnit)}, {@link #min(CurrencyUnit)} or
+ * {@link #sumByCurrency()}, run over the primitive arrays, {@link FastMoney} instances are only created for
+ * their results.
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ * <pre>
+ * FastMoneyColumn column = FastMoneyColumn.of(amounts);
+ * FastMoney total = column.sum(EURO);
+ * Map&lt;CurrencyUnit, FastMoney&gt; totals = column.sumByCurrency();
+ * </pre>
+ *
+ * @author Anatole Tresch
+ */
+public final class FastMoneyColumn implements Iterable<FastMoney>{
+
+    /**
+     * The maximal number of distinct currencies, limited by the {@code short} currency index.
+     */
+    private static final int MAX_CURRENCIES = Short.MAX_VALUE + 1;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The unscaled values, as returned by {@link FastMoney#getUnscaledValue()}.
+     */
+    private long[] values;
+
+    /**
+     * The index of each value's currency in {@link #currencies}.
+     */
+    private short[] currencyIndices;
+
+    /**
+     * The number of amounts stored.
+     */
+    private int size;
+
+    /**
+     * The distinct currencies, in order of their first occurrence.
+     */
+    private final List<CurrencyUnit> currencies = new ArrayList<>();
+
+    /**
+     * The index in {@link #currencies} per currency code.
+     */
+    private final Map<String, Integer> currencyIndexByCode = new HashMap<>();
+
+    /**
+     * Creates a new, empty column.
+     */
+    public FastMoneyColumn(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new, empty column.
+     *
+     * @param initialCapacity the number of amounts the column can hold without growing.
+     */
+    public FastMoneyColumn(int initialCapacity){
+        if(initialCapacity < 0){
+            throw new IllegalArgumentException("initialCapacity < 0");
+        }
+        this.values = new long[initialCapacity];
+        this.currencyIndices = new short[initialCapacity];
+    }
+
+    /**
+     * Creates a new column containing the given amounts.
+     *
+     * @param amounts the amounts, not null.
+     * @return the new column.
+     * @throws ArithmeticException if an amount can not be represented as {@link FastMoney}.
+     */
+    public static FastMoneyColumn of(Iterable<? extends MonetaryAmount> amounts){
+        Objects.requireNonNull(amounts, "Amounts required.");
+        FastMoneyColumn column = amounts instanceof Collection ?
+                new FastMoneyColumn(((Collection<?>) amounts).size()) : new FastMoneyColumn();
+        return column.addAll(amounts);
+    }
+
+    /**
+     * Adds the given amount.
+     *
+     * @param amount the amount, not null.
+     * @return this column, for chaining.
+     * @throws ArithmeticException if the amount can not be represented as {@link FastMoney}.
+     */
+    public FastMoneyColumn add(MonetaryAmount amount){
+        Objects.requireNonNull(amount, "Amount required.");
+        if(amount instanceof FastMoney){
+            return addUnscaled(((FastMoney) amount).getUnscaledValue(), amount.getCurrency());
+        }
+        return addUnscaled(FastMoney.getInternalNumber(amount.getNumber(), false), amount.getCurrency());
+    }
+
+    /**
+     * Adds an amount given as unscaled value.
+     *
+     * @param unscaledValue the unscaled value, as returned by {@link FastMoney#getUnscaledValue()}.
+     * @param currency      the currency, not null.
+     * @return this column, for chaining.
+     */
+    public FastMoneyColumn addUnscaled(long unscaledValue, CurrencyUnit currency){
+        short currencyIndex = getOrCreateCurrencyIndex(currency);
+        if(size == values.length){
+            int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+            values = Arrays.copyOf(values, capacity);
+            currencyIndices = Arrays.copyOf(currencyIndices, capacity);
+        }
+        values[size] = unscaledValue;
+        currencyIndices[size] = currencyIndex;
+        size++;
+        return this;
+    }
+
+    /**
+     * Adds all the given amounts.
+     *
+     * @param amounts the amounts, not null.
+     * @return this column, for chaining.
+     * @throws ArithmeticException if an amount can not be represented as {@link FastMoney}.
+     */
+    public FastMoneyColumn addAll(Iterable<? extends MonetaryAmount> amounts){
+        Objects.requireNonNull(amounts, "Amounts required.");
+        for(MonetaryAmount amount : amounts){
+            add(amount);
+        }
+        return this;
+    }
+
+    /**
+     * Access the number of amounts stored.
+     *
+     * @return the number of amounts.
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * Evaluates if no amounts are stored.
+     *
+     * @return true, if the column is empty.
+     */
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    /**
+     * Access the amount at the given position.
+     *
+     * @param index the position, 0 &lt;= index &lt; {@link #size()}.
+     * @return the amount, never null.
+     */
+    public FastMoney get(int index){
+        checkIndex(index);
+        return FastMoney.ofInternal(values[index], currencies.get(currencyIndices[index]));
+    }
+
+    /**
+     * Access the unscaled value of the amount at the given position.
+     *
+     * @param index the position, 0 &lt;= index &lt; {@link #size()}.
+     * @return the unscaled value, as returned by {@link FastMoney#getUnscaledValue()}.
+     */
+    public long getUnscaledValue(int index){
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Access the currency of the amount at the given position.
+     *
+     * @param index the position, 0 &lt;= index &lt; {@link #size()}.
+     * @return the currency, never null.
+     */
+    public CurrencyUnit getCurrency(int index){
+        checkIndex(index);
+        return currencies.get(currencyIndices[index]);
+    }
+
+    /**
+     * Access the distinct currencies of the amounts stored, in order of their first occurrence.
+     *
+     * @return the currencies, never null.
+     */
+    public List<CurrencyUnit> getCurrencies(){
+        return Collections.unmodifiableList(currencies);
+    }
+
+    /**
+     * Counts the amounts of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the number of amounts with the given currency.
+     */
+    public int count(CurrencyUnit currency){
+        int currencyIndex = getCurrencyIndex(currency);
+        if(currencyIndex < 0){
+            return 0;
+        }
+        if(currencies.size() == 1){
+            return size;
+        }
+        int count = 0;
+        for(int i = 0; i < size; i++){
+            if(currencyIndices[i] == currencyIndex){
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Sums up the amounts of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the total, zero if no amounts of the given currency are stored.
+     * @throws ArithmeticException if the total exceeds the range of {@link FastMoney}.
+     */
+    public FastMoney sum(CurrencyUnit currency){
+        int currencyIndex = getCurrencyIndex(currency);
+        long sum = 0L;
+        if(currencyIndex >= 0){
+            if(currencies.size() == 1){
+                for(int i = 0; i < size; i++){
+                    sum = Math.addExact(sum, values[i]);
+                }
+            }else{
+                for(int i = 0; i < size; i++){
+                    if(currencyIndices[i] == currencyIndex){
+                        sum = Math.addExact(sum, values[i]);
+                    }
+                }
+            }
+        }
+        return FastMoney.ofInternal(sum, currency);
+    }
+
+    /**
+     * Evaluates the minimal amount of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the minimal amount, or empty, if no amounts of the given currency are stored.
+     */
+    public Optional<FastMoney> min(CurrencyUnit currency){
+        int currencyIndex = getCurrencyIndex(currency);
+        int found = -1;
+        long min = Long.MAX_VALUE;
+        for(int i = 0; i < size; i++){
+            if(currencyIndices[i] == currencyIndex && (found < 0 || values[i] < min)){
+                min = values[i];
+                found = i;
+            }
+        }
+        return found < 0 ? Optional.empty() : Optional.of(get(found));
+    }
+
+    /**
+     * Evaluates the maximal amount of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the maximal amount, or empty, if no amounts of the given currency are stored.
+     */
+    public Optional<FastMoney> max(CurrencyUnit currency){
+        int currencyIndex = getCurrencyIndex(currency);
+        int found = -1;
+        long max = Long.MIN_VALUE;
+        for(int i = 0; i < size; i++){
+            if(currencyIndices[i] == currencyIndex && (found < 0 || values[i] > max)){
+                max = values[i];
+                found = i;
+            }
+        }
+        return found < 0 ? Optional.empty() : Optional.of(get(found));
+    }
+
+    /**
+     * Sums up the amounts per currency in one pass.
+     *
+     * @return the totals per currency, in order of the currencies' first occurrence.
+     * @throws ArithmeticException if a total exceeds the range of {@link FastMoney}.
+     */
+    public Map<CurrencyUnit, FastMoney> sumByCurrency(){
+        long[] sums = new long[currencies.size()];
+        for(int i = 0; i < size; i++){
+            int currencyIndex = currencyIndices[i];
+            sums[currencyIndex] = Math.addExact(sums[currencyIndex], values[i]);
+        }
+        Map<CurrencyUnit, FastMoney> result = new LinkedHashMap<>();
+        for(int c = 0; c < sums.length; c++){
+            result.put(currencies.get(c), FastMoney.ofInternal(sums[c], currencies.get(c)));
+        }
+        return result;
+    }
+
+    /**
+     * Counts the amounts per currency in one pass.
+     *
+     * @return the number of amounts per currency, in order of the currencies' first occurrence.
+     */
+    public Map<CurrencyUnit, Integer> countByCurrency(){
+        int[] counts = new int[currencies.size()];
+        for(int i = 0; i < size; i++){
+            counts[currencyIndices[i]]++;
+        }
+        Map<CurrencyUnit, Integer> result = new LinkedHashMap<>();
+        for(int c = 0; c < counts.length; c++){
+            result.put(currencies.get(c), counts[c]);
+        }
+        return result;
+    }
+
+    /**
+     * Splits this column into one column per currency.
+     *
+     * @return the columns per currency, in order of the currencies' first occurrence.
+     */
+    public Map<CurrencyUnit, FastMoneyColumn> groupByCurrency(){
+        int[] counts = new int[currencies.size()];
+        for(int i = 0; i < size; i++){
+            counts[currencyIndices[i]]++;
+        }
+        FastMoneyColumn[] columns = new FastMoneyColumn[counts.length];
+        for(int c = 0; c < columns.length; c++){
+            columns[c] = new FastMoneyColumn(counts[c]);
+            columns[c].getOrCreateCurrencyIndex(currencies.get(c));
+        }
+        for(int i = 0; i < size; i++){
+            FastMoneyColumn column = columns[currencyIndices[i]];
+            column.values[column.size++] = values[i];
+        }
+        Map<CurrencyUnit, FastMoneyColumn> result = new LinkedHashMap<>();
+        for(int c = 0; c < columns.length; c++){
+            result.put(currencies.get(c), columns[c]);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a list containing all amounts of this column.
+     *
+     * @return a new list of amounts, in the order they were added.
+     */
+    public List<FastMoney> toList(){
+        List<FastMoney> result = new ArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Iterable#iterator()
+     */
+    @Override
+    public Iterator<FastMoney> iterator(){
+        return new Iterator<FastMoney>(){
+            private int index;
+
+            @Override
+            public boolean hasNext(){
+                return index < size;
+            }
+
+            @Override
+            public FastMoney next(){
+                if(index >= size){
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+        };
+    }
+
+    private int getCurrencyIndex(CurrencyUnit currency){
+        Objects.requireNonNull(currency, "Currency is required.");
+        Integer currencyIndex = currencyIndexByCode.get(currency.getCurrencyCode());
+        return currencyIndex == null ? -1 : currencyIndex;
+    }
+
+    private short getOrCreateCurrencyIndex(CurrencyUnit currency){
+        Objects.requireNonNull(currency, "Currency is required.");
+        Integer currencyIndex = currencyIndexByCode.get(currency.getCurrencyCode());
+        if(currencyIndex == null){
+            if(currencies.size() >= MAX_CURRENCIES){
+                throw new IllegalStateException("Too many currencies: " + currencies.size());
+            }
+            currencyIndex = currencies.size();
+            currencies.add(currency);
+            currencyIndexByCode.put(currency.getCurrencyCode(), currencyIndex);
+        }
+        return currencyIndex.shortValue();
+    }
+
+    private void checkIndex(int index){
+        if(index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString(){
+        return "FastMoneyColumn [size=" + size + ", currencies=" + currencies + ']';
+    }
+
+}
@@ -18,8 +18,10 @@ package org.javamoney.moneta;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.MathContext;
-import java.math.RoundingMode;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.money.CurrencyUnit;
 import javax.money.MonetaryAmount;
@@ -78,6 +80,22 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      */
     public static final MonetaryContext DEFAULT_MONETARY_CONTEXT = new DefaultMonetaryContextFactory().getContext();
 
+    /**
+     * The number of small integral amounts (0, 1, ..., CACHED_VALUES - 1) cached per currency.
+     */
+    private static final int CACHED_VALUES = 11;
+
+    /**
+     * The maximal number of currencies, whose small integral amounts are cached.
+     */
+    static final int MAX_CACHED_CURRENCIES = 256;
+
+    /**
+     * Canonical instances for small integral amounts using the default {@link MonetaryContext}, lazily
+     * populated per {@link CurrencyUnit}.
+     */
+    private static final Map<CurrencyUnit, Money[]> CACHED_AMOUNTS = new ConcurrentHashMap<>();
+
     /**
      * The currency of this amount.
      */
@@ -98,6 +116,11 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      */
     private transient NumberValue numberValue;
 
+    /**
+     * The number, with trailing zeros removed, evaluated lazily.
+     */
+    private transient BigDecimal numberStripped;
+
 
     /**
      * Creates a new instance os {@link Money}.
@@ -133,6 +156,55 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         this.number = MoneyUtils.getBigDecimal(number, monetaryContext);
     }
 
+    /**
+     * Creates an instance using the default {@link MonetaryContext}. Small integral amounts with scale 0,
+     * such as zero or one, are served from a per currency cache of canonical instances.
+     *
+     * @param number   the amount, not null.
+     * @param currency the currency, not null.
+     * @return the according {@link Money}, never null.
+     */
+    private static Money valueOf(BigDecimal number, CurrencyUnit currency){
+        Objects.requireNonNull(currency, "Currency is required.");
+        Objects.requireNonNull(number, "Number is required.");
+        int signum = number.signum();
+        if(signum == 0 || (signum > 0 && number.scale() == 0 && number.precision() <= 2)){
+            int value = number.intValue();
+            if(value < CACHED_VALUES){
+                Money[] amounts = CACHED_AMOUNTS.get(currency);
+                if(amounts == null){
+                    if(CACHED_AMOUNTS.size() >= MAX_CACHED_CURRENCIES){
+                        return new Money(number, currency);
+                    }
+                    amounts = CACHED_AMOUNTS.computeIfAbsent(currency, Money::createCachedAmounts);
+                }
+                Money cached = amounts[value];
+                // only use the cached value, if it references the same currency instance
+                if(cached.currency == currency){
+                    return cached;
+                }
+            }
+        }
+        return new Money(number, currency);
+    }
+
+    private static Money[] createCachedAmounts(CurrencyUnit currency){
+        Money[] amounts = new Money[CACHED_VALUES];
+        for(int i = 0; i < amounts.length; i++){
+            amounts[i] = new Money(BigDecimal.valueOf(i), currency);
+        }
+        return amounts;
+    }
+
+    /**
+     * Access the currencies, whose small integral amounts are cached, for testing.
+     *
+     * @return the modifiable key set of the cache.
+     */
+    static Set<CurrencyUnit> getCachedCurrencies(){
+        return CACHED_AMOUNTS.keySet();
+    }
+
     /**
      * Returns the amount’s currency, modelled as {@link CurrencyUnit}.
      * Implementations may co-variantly change the return type to a more
@@ -170,6 +242,29 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         return numberValue;
     }
 
+    /**
+     * Access the internal number, without any conversion applied.
+     *
+     * @return the internal number, never null.
+     */
+    BigDecimal getBigDecimal(){
+        return this.number;
+    }
+
+    /**
+     * Access the numeric value of the given amount, using the internal number directly for {@link Money}
+     * instances.
+     *
+     * @param amount the amount, not null.
+     * @return the amount's numeric value.
+     */
+    private static BigDecimal getBigDecimal(MonetaryAmount amount){
+        if(amount instanceof Money){
+            return ((Money) amount).number;
+        }
+        return amount.getNumber().numberValue(BigDecimal.class);
+    }
+
     /**
      * Method that returns BigDecimal.ZERO, if {@link #isZero()}, and
      * {@link #number #stripTrailingZeros()} in all other cases.
@@ -177,10 +272,12 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      * @return the stripped number value.
      */
     public BigDecimal getNumberStripped(){
-        if(isZero()){
-            return BigDecimal.ZERO;
+        BigDecimal stripped = this.numberStripped;
+        if(Objects.isNull(stripped)){
+            stripped = isZero() ? BigDecimal.ZERO : this.number.stripTrailingZeros();
+            this.numberStripped = stripped;
         }
-        return this.number.stripTrailingZeros();
+        return stripped;
     }
 
     /*
@@ -191,7 +288,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         Objects.requireNonNull(o);
         int compare = getCurrency().getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
         if(compare == 0){
-            compare = this.number.compareTo(Money.from(o).number);
+            compare = this.number.compareTo(getBigDecimal(o));
         }
         return compare;
     }
@@ -425,8 +522,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         if(divisorBD.equals(BigDecimal.ONE)){
             return this;
         }
-        BigDecimal dec =
-                this.number.divide(divisorBD, MoneyUtils.getMathContext(getMonetaryContext(), RoundingMode.HALF_EVEN));
+        BigDecimal dec = this.number.divide(divisorBD, MoneyUtils.getMathContext(getMonetaryContext()));
         return new Money(dec, getCurrency());
     }
 
@@ -434,7 +530,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     public Money[] divideAndRemainder(Number divisor){
         BigDecimal divisorBD = MoneyUtils.getBigDecimal(divisor);
         if(divisorBD.equals(BigDecimal.ONE)){
-            return new Money[]{this, new Money(BigDecimal.ZERO, getCurrency())};
+            return new Money[]{this, valueOf(BigDecimal.ZERO, getCurrency())};
         }
         BigDecimal[] dec = this.number.divideAndRemainder(divisorBD);
         return new Money[]{new Money(dec[0], getCurrency()), new Money(dec[1], getCurrency())};
@@ -521,7 +617,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public Money stripTrailingZeros(){
         if(isZero()){
-            return new Money(BigDecimal.ZERO, getCurrency());
+            return valueOf(BigDecimal.ZERO, getCurrency());
         }
         return new Money(this.number.stripTrailingZeros(), getCurrency());
     }
@@ -565,8 +661,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isLessThan(MonetaryAmount amount){
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) < 0;
+        return this.number.compareTo(getBigDecimal(amount)) < 0;
     }
 
     /*
@@ -579,8 +674,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isLessThanOrEqualTo(MonetaryAmount amount){
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) <= 0;
+        return this.number.compareTo(getBigDecimal(amount)) <= 0;
     }
 
     /*
@@ -591,8 +685,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isGreaterThan(MonetaryAmount amount){
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) > 0;
+        return this.number.compareTo(getBigDecimal(amount)) > 0;
     }
 
     /*
@@ -605,8 +698,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isGreaterThanOrEqualTo(MonetaryAmount amount){
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) >= 0;
+        return this.number.compareTo(getBigDecimal(amount)) >= 0;
     }
 
     /*
@@ -617,8 +709,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
     @Override
     public boolean isEqualTo(MonetaryAmount amount){
         MoneyUtils.checkAmountParameter(amount, this.currency);
-        return number.stripTrailingZeros()
-                .compareTo(amount.getNumber().numberValue(BigDecimal.class).stripTrailingZeros()) == 0;
+        return this.number.compareTo(getBigDecimal(amount)) == 0;
     }
 
     /*
@@ -643,8 +734,8 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
         }
         if(obj instanceof Money){
             Money other = (Money) obj;
-            return Objects.equals(getCurrency(), other.getCurrency()) &&
-                    Objects.equals(getNumberStripped(), other.getNumberStripped());
+            // compareTo ignores the scale, as comparing the stripped numbers does
+            return Objects.equals(getCurrency(), other.getCurrency()) && this.number.compareTo(other.number) == 0;
         }
         return false;
     }
@@ -666,7 +757,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      */
     @Override
     public int hashCode(){
-        return Objects.hash(getCurrency(), getNumberStripped());
+        return 31 * (31 + Objects.hashCode(getCurrency())) + getNumberStripped().hashCode();
     }
 
     /**
@@ -680,7 +771,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      *                             {@link MonetaryContext} used.
      */
     public static Money of(BigDecimal number, CurrencyUnit currency){
-        return new Money(number, currency);
+        return valueOf(number, currency);
     }
 
     /**
@@ -711,7 +802,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      *                             {@link MonetaryContext} used.
      */
     public static Money of(Number number, CurrencyUnit currency){
-        return new Money(MoneyUtils.getBigDecimal(number), currency);
+        return valueOf(MoneyUtils.getBigDecimal(number), currency);
     }
 
     /**
@@ -738,7 +829,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      * @return A new instance of {@link Money}.
      */
     public static Money of(Number number, String currencyCode){
-        return new Money(MoneyUtils.getBigDecimal(number), MonetaryCurrencies.getCurrency(currencyCode));
+        return valueOf(MoneyUtils.getBigDecimal(number), MonetaryCurrencies.getCurrency(currencyCode));
     }
 
     /**
@@ -749,7 +840,7 @@ public final class Money implements MonetaryAmount, Comparable<MonetaryAmount>,
      * @return A new instance of {@link Money}.
      */
     public static Money of(BigDecimal number, String currencyCode){
-        return new Money(number, MonetaryCurrencies.getCurrency(currencyCode));
+        return valueOf(number, MonetaryCurrencies.getCurrency(currencyCode));
     }
 
     /**
@@ -0,0 +1,230 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.javamoney.moneta.spi.FixedPointArithmetic;
+import org.javamoney.moneta.spi.MoneyUtils;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryContext;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Mutable accumulator for summing up {@link MonetaryAmount} instances of one currency into a {@link Money}.
+ * The running total is held as unscaled {@code long} and a scale, as long as it fits. Only if the total, or
+ * an amount added, exceeds the {@code long} range, the accumulator switches to {@link BigDecimal}
+ * arithmetic. This avoids creating an intermediate {@link Money} for each amount added, as {@link Money#add}
+ * does.
+ * <p>
+ * This class is not thread-safe. Use one instance per thread, when summing up amounts from multiple threads.
+ * </p>
+ * <pre>
+ * MoneyAccumulator acc = new MoneyAccumulator(EURO);
+ * acc.addAll(amounts);
+ * Money total = acc.toAmount();
+ * </pre>
+ *
+ * @author Anatole Tresch
+ */
+public final class MoneyAccumulator{
+
+    /**
+     * The currency of the amounts accumulated.
+     */
+    private final CurrencyUnit currency;
+
+    /**
+     * The {@link MonetaryContext} of the result, or null, for the default context.
+     */
+    private final MonetaryContext monetaryContext;
+
+    /**
+     * The unscaled running total, valid as long as {@link #overflow} is null.
+     */
+    private long unscaled;
+
+    /**
+     * The scale of {@link #unscaled}, never negative.
+     */
+    private int scale;
+
+    /**
+     * The running total, once it exceeded the {@code long} range, null before.
+     */
+    private BigDecimal overflow;
+
+    /**
+     * Creates a new accumulator with a total of zero, creating results with the default
+     * {@link MonetaryContext}.
+     *
+     * @param currency the currency of the amounts accumulated, not null.
+     */
+    public MoneyAccumulator(CurrencyUnit currency){
+        this(currency, null);
+    }
+
+    /**
+     * Creates a new accumulator with a total of zero.
+     *
+     * @param currency        the currency of the amounts accumulated, not null.
+     * @param monetaryContext the {@link MonetaryContext} of the results, if null, the default context is used.
+     */
+    public MoneyAccumulator(CurrencyUnit currency, MonetaryContext monetaryContext){
+        this.currency = Objects.requireNonNull(currency, "Currency is required.");
+        this.monetaryContext = monetaryContext;
+    }
+
+    /**
+     * Access the currency of this accumulator.
+     *
+     * @return the currency, never null.
+     */
+    public CurrencyUnit getCurrency(){
+        return currency;
+    }
+
+    /**
+     * Adds the given amount to the total.
+     *
+     * @param amount the amount, not null.
+     * @return this accumulator, for chaining.
+     * @throws javax.money.MonetaryException if the amount's currency is not compatible.
+     */
+    public MoneyAccumulator add(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        if(amount instanceof FastMoney){
+            addInternal(((FastMoney) amount).getUnscaledValue(), FastMoney.SCALE);
+        }else{
+            addInternal(getBigDecimal(amount), false);
+        }
+        return this;
+    }
+
+    /**
+     * Subtracts the given amount from the total.
+     *
+     * @param amount the amount, not null.
+     * @return this accumulator, for chaining.
+     * @throws javax.money.MonetaryException if the amount's currency is not compatible.
+     */
+    public MoneyAccumulator subtract(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        if(amount instanceof FastMoney && ((FastMoney) amount).getUnscaledValue() != Long.MIN_VALUE){
+            addInternal(-((FastMoney) amount).getUnscaledValue(), FastMoney.SCALE);
+        }else{
+            addInternal(getBigDecimal(amount), true);
+        }
+        return this;
+    }
+
+    /**
+     * Adds all the given amounts to the total.
+     *
+     * @param amounts the amounts, not null.
+     * @return this accumulator, for chaining.
+     * @throws javax.money.MonetaryException if an amount's currency is not compatible.
+     */
+    public MoneyAccumulator addAll(Iterable<? extends MonetaryAmount> amounts){
+        Objects.requireNonNull(amounts, "Amounts required.");
+        for(MonetaryAmount amount : amounts){
+            add(amount);
+        }
+        return this;
+    }
+
+    /**
+     * Resets the total to zero.
+     *
+     * @return this accumulator, for chaining.
+     */
+    public MoneyAccumulator reset(){
+        this.unscaled = 0L;
+        this.scale = 0;
+        this.overflow = null;
+        return this;
+    }
+
+    /**
+     * Creates a {@link Money} with the current total.
+     *
+     * @return the current total, never null.
+     * @throws ArithmeticException If the total exceeds the capabilities of the {@link MonetaryContext} used.
+     */
+    public Money toAmount(){
+        BigDecimal total = Objects.nonNull(overflow) ? overflow : BigDecimal.valueOf(unscaled, scale);
+        if(Objects.isNull(monetaryContext)){
+            return Money.of(total, currency);
+        }
+        return Money.of(total, currency, monetaryContext);
+    }
+
+    private static BigDecimal getBigDecimal(MonetaryAmount amount){
+        if(amount instanceof Money){
+            return ((Money) amount).getBigDecimal();
+        }
+        return amount.getNumber().numberValue(BigDecimal.class);
+    }
+
+    private void addInternal(BigDecimal value, boolean negate){
+        if(Objects.isNull(overflow) && value.precision() <= FixedPointArithmetic.MAX_POWER_OF_TEN){
+            // |unscaled value| < 10^18, so negating it can not overflow
+            long unscaledValue = value.scale() == 0 ? value.longValue() : value.unscaledValue().longValue();
+            addInternal(negate ? -unscaledValue : unscaledValue, value.scale());
+        }else{
+            switchToBigDecimal();
+            overflow = negate ? overflow.subtract(value) : overflow.add(value);
+        }
+    }
+
+    private void addInternal(long value, int valueScale){
+        if(Objects.isNull(overflow)){
+            try{
+                long aligned = value;
+                if(valueScale > scale){
+                    unscaled = Math.multiplyExact(unscaled, FixedPointArithmetic.powerOfTen(valueScale - scale));
+                    scale = valueScale;
+                }else if(valueScale < scale){
+                    aligned = Math.multiplyExact(value, FixedPointArithmetic.powerOfTen(scale - valueScale));
+                }
+                unscaled = Math.addExact(unscaled, aligned);
+                return;
+            }
+            catch(ArithmeticException e){
+                // exceeds the long range, continue with BigDecimal
+                switchToBigDecimal();
+            }
+        }
+        overflow = overflow.add(BigDecimal.valueOf(value, valueScale));
+    }
+
+    private void switchToBigDecimal(){
+        if(Objects.isNull(overflow)){
+            overflow = BigDecimal.valueOf(unscaled, scale);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString(){
+        return "MoneyAccumulator [" + toAmount() + ']';
+    }
+
+}
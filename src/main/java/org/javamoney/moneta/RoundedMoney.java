@@ -16,6 +16,7 @@
 package org.javamoney.moneta;
 
 import org.javamoney.moneta.ToStringMonetaryAmountFormat.ToStringMonetaryAmountFormatStyle;
+import org.javamoney.moneta.internal.DefaultRoundingProvider;
 import org.javamoney.moneta.internal.RoundedMoneyAmountBuilder;
 import org.javamoney.moneta.spi.DefaultNumberValue;
 import org.javamoney.moneta.spi.MoneyUtils;
@@ -23,12 +24,20 @@ import org.javamoney.moneta.spi.MoneyUtils;
 import javax.money.*;
 import javax.money.format.MonetaryAmountFormat;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Platform RI: Default immutable implementation of {@link MonetaryAmount} based on
@@ -47,6 +56,17 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      * serialVersionUID.
      */
     private static final long serialVersionUID = 366517590511294389L;
+
+    /**
+     * The serialized fields, compatible with earlier versions, which stored the {@link MonetaryContext} and
+     * the rounding instead of the {@link RoundingProfile}.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("currency", CurrencyUnit.class),
+            new ObjectStreamField("monetaryContext", MonetaryContext.class),
+            new ObjectStreamField("number", BigDecimal.class),
+            new ObjectStreamField("rounding", MonetaryOperator.class)};
+
     /**
      * The default {@link MonetaryContext} applied.
      */
@@ -56,24 +76,38 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
                     build();
 
     /**
-     * The currency of this amount.
+     * The default rounding, see {@link MonetaryRoundings#getDefaultRounding()}.
+     */
+    private static final MonetaryOperator DEFAULT_ROUNDING = MonetaryRoundings.getDefaultRounding();
+
+    /**
+     * The maximal number of currencies, whose default {@link RoundingProfile} is cached.
+     */
+    static final int MAX_CACHED_CURRENCIES = 256;
+
+    /**
+     * The {@link RoundingProfile} instances for the default rounding and {@link #DEFAULT_MONETARY_CONTEXT},
+     * per currency.
      */
-    private final CurrencyUnit currency;
+    private static final Map<CurrencyUnit, RoundingProfile> DEFAULT_PROFILES = new ConcurrentHashMap<>();
 
     /**
-     * the {@link MonetaryContext} used by this instance, e.g. on division.
+     * The currency of this amount, only assigned after construction by {@link #readObject(ObjectInputStream)}.
      */
-    private final MonetaryContext monetaryContext;
+    private CurrencyUnit currency;
 
     /**
-     * The numeric part of this amount.
+     * The numeric part of this amount, only assigned after construction by
+     * {@link #readObject(ObjectInputStream)}.
      */
-    private final BigDecimal number;
+    private BigDecimal number;
 
     /**
-     * The rounding to be done.
+     * The rounding, {@link MonetaryContext} and {@link MathContext} used by this instance, shared with all
+     * amounts derived from it. It is not serialized, but restored from the serialized {@link MonetaryContext}
+     * and rounding.
      */
-    private MonetaryOperator rounding;
+    private transient RoundingProfile profile;
 
 
     /**
@@ -87,55 +121,98 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
     }
 
     public RoundedMoney(Number number, CurrencyUnit currency, MathContext mathContext){
-        Objects.requireNonNull(currency, "Currency is required.");
-        this.currency = currency;
-        this.rounding = MonetaryRoundings.getRounding(RoundingQueryBuilder.of().set(mathContext).build());
-        this.monetaryContext =
-                DEFAULT_MONETARY_CONTEXT.toBuilder().set("rounding", rounding, MonetaryOperator.class).set(mathContext)
-                        .build();
-        Objects.requireNonNull(number, "Number is required.");
-        checkNumber(number);
-        this.number = MoneyUtils.getBigDecimal(number, monetaryContext);
+        this(number, currency, createProfile(currency, mathContext));
     }
 
     public RoundedMoney(Number number, CurrencyUnit currency, MonetaryContext context, MonetaryOperator rounding){
-        Objects.requireNonNull(currency, "Currency is required.");
+        this(number, currency, createProfile(currency, context, rounding));
+    }
+
+    private RoundedMoney(Number number, CurrencyUnit currency, RoundingProfile profile){
         this.currency = currency;
         Objects.requireNonNull(number, "Number is required.");
         checkNumber(number);
+        this.profile = profile;
+        this.number = MoneyUtils.getBigDecimal(number, profile.monetaryContext);
+    }
+
+    /**
+     * Creates a new instance sharing the given {@link RoundingProfile}, as used for arithmetic results.
+     *
+     * @param number  the amount, not null.
+     * @param profile the {@link RoundingProfile}, not null.
+     * @param round   if true, the rounding of the profile is applied to {@code number}.
+     */
+    private RoundedMoney(BigDecimal number, RoundingProfile profile, boolean round){
+        this.currency = profile.currency;
+        this.profile = profile;
+        this.number = MoneyUtils.getBigDecimal(round ? profile.round(number) : number, profile.monetaryContext);
+    }
+
+    private static RoundingProfile createProfile(CurrencyUnit currency, MathContext mathContext){
+        Objects.requireNonNull(currency, "Currency is required.");
+        MonetaryOperator rounding = MonetaryRoundings.getRounding(RoundingQueryBuilder.of().set(mathContext).build());
+        return new RoundingProfile(currency, rounding, DEFAULT_MONETARY_CONTEXT.toBuilder()
+                .set("rounding", rounding, MonetaryOperator.class).set(mathContext).build());
+    }
 
+    private static RoundingProfile createProfile(CurrencyUnit currency, MonetaryContext context,
+                                                 MonetaryOperator rounding){
+        Objects.requireNonNull(currency, "Currency is required.");
+        if(context == null && rounding == DEFAULT_ROUNDING){
+            return getDefaultProfile(currency);
+        }
+        MonetaryOperator effectiveRounding = rounding;
         MonetaryContextBuilder b = DEFAULT_MONETARY_CONTEXT.toBuilder();
-        if(Objects.nonNull(rounding)){
-            this.rounding = rounding;
-        }else{
-            if(context != null){
-                MathContext mc = context.get(MathContext.class);
-                if(mc == null){
-                    RoundingMode rm = context.get(RoundingMode.class);
-                    if(rm != null){
-                        int scale = context.getInt("scale", 2);
-                        b.set(rm);
-                        b.set("scale", scale);
-                        this.rounding = MonetaryRoundings
-                                .getRounding(RoundingQueryBuilder.of().setScale(scale).set(rm).build());
-                    }
-                }else{
-                    b.set(mc.getRoundingMode());
-                    b.set("scale", 2);
-                    this.rounding =
-                            MonetaryRoundings.getRounding(RoundingQueryBuilder.of().set(mc).setScale(2).build());
-                }
-                if(this.rounding == null){
-                    this.rounding = MonetaryRoundings.getDefaultRounding();
+        if(Objects.isNull(rounding) && context != null){
+            MathContext mc = context.get(MathContext.class);
+            if(mc == null){
+                RoundingMode rm = context.get(RoundingMode.class);
+                if(rm != null){
+                    int scale = context.getInt("scale", 2);
+                    b.set(rm);
+                    b.set("scale", scale);
+                    effectiveRounding = MonetaryRoundings
+                            .getRounding(RoundingQueryBuilder.of().setScale(scale).set(rm).build());
                 }
+            }else{
+                b.set(mc.getRoundingMode());
+                b.set("scale", 2);
+                effectiveRounding =
+                        MonetaryRoundings.getRounding(RoundingQueryBuilder.of().set(mc).setScale(2).build());
+            }
+            if(effectiveRounding == null){
+                effectiveRounding = MonetaryRoundings.getDefaultRounding();
             }
         }
-        b.set("rounding", this.rounding, MonetaryOperator.class);
+        b.set("rounding", effectiveRounding, MonetaryOperator.class);
         if(context != null){
             b.importContext(context);
         }
-        this.monetaryContext = b.build();
-        this.number = MoneyUtils.getBigDecimal(number, monetaryContext);
+        return new RoundingProfile(currency, effectiveRounding, b.build());
+    }
+
+    private static RoundingProfile getDefaultProfile(CurrencyUnit currency){
+        RoundingProfile profile = DEFAULT_PROFILES.get(currency);
+        if(profile == null){
+            profile = new RoundingProfile(currency, DEFAULT_ROUNDING, DEFAULT_MONETARY_CONTEXT);
+            if(DEFAULT_PROFILES.size() < MAX_CACHED_CURRENCIES){
+                RoundingProfile existing = DEFAULT_PROFILES.putIfAbsent(currency, profile);
+                if(existing != null){
+                    profile = existing;
+                }
+            }
+        }
+        return profile;
+    }
+
+    /**
+     * Access the currencies, whose default {@link RoundingProfile} is cached, for testing.
+     *
+     * @return the modifiable key set of the cache.
+     */
+    static Set<CurrencyUnit> getCachedCurrencies(){
+        return DEFAULT_PROFILES.keySet();
     }
 
     // Static Factory Methods
@@ -294,7 +371,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
 	public MonetaryContext getMonetaryContext(){
-        return this.monetaryContext;
+        return this.profile.monetaryContext;
     }
 
     @Override
@@ -313,8 +390,8 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         if(amount.isZero()){
             return this;
         }
-        return new RoundedMoney(this.number.add(amount.getNumber().numberValue(BigDecimal.class)), this.currency,
-                                this.rounding).with(rounding);
+        return new RoundedMoney(this.number.add(amount.getNumber().numberValue(BigDecimal.class)), this.profile,
+                                true);
     }
 
     /*
@@ -327,8 +404,8 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         if(isOne(bd)){
             return this;
         }
-        BigDecimal dec = this.number.divide(bd, this.monetaryContext.get(RoundingMode.class, RoundingMode.HALF_EVEN));
-        return new RoundedMoney(dec, this.currency, this.rounding).with(rounding);
+        BigDecimal dec = this.number.divide(bd, this.profile.roundingMode);
+        return new RoundedMoney(dec, this.profile, true);
     }
 
     /*
@@ -339,12 +416,11 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
 	public RoundedMoney[] divideAndRemainder(Number divisor){
         BigDecimal bd = MoneyUtils.getBigDecimal(divisor);
         if(isOne(bd)){
-            return new RoundedMoney[]{this, new RoundedMoney(0L, getCurrency(), this.rounding)};
+            return new RoundedMoney[]{this, new RoundedMoney(BigDecimal.ZERO, this.profile, false)};
         }
-        BigDecimal[] dec = this.number.divideAndRemainder(MoneyUtils.getBigDecimal(divisor), this.monetaryContext
-                .get(MathContext.class, MathContext.DECIMAL64));
-        return new RoundedMoney[]{new RoundedMoney(dec[0], this.currency, this.rounding),
-                new RoundedMoney(dec[1], this.currency, this.rounding).with(rounding)};
+        BigDecimal[] dec = this.number.divideAndRemainder(bd, this.profile.mathContext);
+        return new RoundedMoney[]{new RoundedMoney(dec[0], this.profile, false),
+                new RoundedMoney(dec[1], this.profile, true)};
     }
 
     /*
@@ -353,9 +429,9 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
 	public RoundedMoney divideToIntegralValue(Number divisor){
-        BigDecimal dec = this.number.divideToIntegralValue(MoneyUtils.getBigDecimal(divisor), this.monetaryContext
-                .get(MathContext.class, MathContext.DECIMAL64));
-        return new RoundedMoney(dec, this.currency, this.rounding);
+        BigDecimal dec =
+                this.number.divideToIntegralValue(MoneyUtils.getBigDecimal(divisor), this.profile.mathContext);
+        return new RoundedMoney(dec, this.profile, false);
     }
 
     /*
@@ -368,8 +444,8 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
         if(isOne(bd)){
             return this;
         }
-        BigDecimal dec = this.number.multiply(bd, this.monetaryContext.get(MathContext.class, MathContext.DECIMAL64));
-        return new RoundedMoney(dec, this.currency, this.rounding).with(rounding);
+        BigDecimal dec = this.number.multiply(bd, this.profile.mathContext);
+        return new RoundedMoney(dec, this.profile, true);
     }
 
     /*
@@ -378,8 +454,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
 	public RoundedMoney negate(){
-        return new RoundedMoney(this.number.negate(this.monetaryContext.get(MathContext.class, MathContext.DECIMAL64)),
-                                this.currency, this.rounding);
+        return new RoundedMoney(this.number.negate(this.profile.mathContext), this.profile, false);
     }
 
     /*
@@ -388,8 +463,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
 	public RoundedMoney plus(){
-        return new RoundedMoney(this.number.plus(this.monetaryContext.get(MathContext.class, MathContext.DECIMAL64)),
-                                this.currency, this.rounding);
+        return new RoundedMoney(this.number.plus(this.profile.mathContext), this.profile, false);
     }
 
     /*
@@ -403,9 +477,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
             return this;
         }
         return new RoundedMoney(this.number.subtract(subtrahend.getNumber().numberValue(BigDecimal.class),
-                                                     this.monetaryContext
-                                                             .get(MathContext.class, MathContext.DECIMAL64)),
-                                this.currency, this.rounding);
+                                                     this.profile.mathContext), this.profile, false);
     }
 
     /*
@@ -413,8 +485,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      * @see javax.money.MonetaryAmount#pow(int)
      */
     public RoundedMoney pow(int n){
-        return new RoundedMoney(this.number.pow(n, this.monetaryContext.get(MathContext.class, MathContext.DECIMAL64)),
-                                this.currency, this.rounding).with(rounding);
+        return new RoundedMoney(this.number.pow(n, this.profile.mathContext), this.profile, true);
     }
 
     /*
@@ -422,7 +493,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      * @see javax.money.MonetaryAmount#ulp()
      */
     public RoundedMoney ulp(){
-        return new RoundedMoney(this.number.ulp(), this.currency, this.rounding);
+        return new RoundedMoney(this.number.ulp(), this.profile, false);
     }
 
     /*
@@ -431,8 +502,8 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
 	public RoundedMoney remainder(Number divisor){
-        return new RoundedMoney(this.number.remainder(MoneyUtils.getBigDecimal(divisor), this.monetaryContext
-                .get(MathContext.class, MathContext.DECIMAL64)), this.currency, this.rounding);
+        return new RoundedMoney(this.number.remainder(MoneyUtils.getBigDecimal(divisor), this.profile.mathContext),
+                                this.profile, false);
     }
 
     /*
@@ -441,7 +512,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     @Override
 	public RoundedMoney scaleByPowerOfTen(int n){
-        return new RoundedMoney(this.number.scaleByPowerOfTen(n), this.currency, this.rounding);
+        return new RoundedMoney(this.number.scaleByPowerOfTen(n), this.profile, false);
     }
 
     /*
@@ -495,7 +566,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     public RoundedMoney with(Number amount){
         checkNumber(amount);
-        return new RoundedMoney(MoneyUtils.getBigDecimal(amount), this.currency, this.rounding);
+        return new RoundedMoney(MoneyUtils.getBigDecimal(amount), this.profile, false);
     }
 
     /**
@@ -507,7 +578,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     public RoundedMoney with(CurrencyUnit currency){
         Objects.requireNonNull(currency, "currency required");
-        return new RoundedMoney(asType(BigDecimal.class), currency, this.rounding);
+        return new RoundedMoney(this.number, this.profile.withCurrency(currency), false);
     }
 
     /*
@@ -516,7 +587,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
      */
     public RoundedMoney with(CurrencyUnit currency, Number amount){
         checkNumber(amount);
-        return new RoundedMoney(MoneyUtils.getBigDecimal(amount), currency, this.rounding);
+        return new RoundedMoney(MoneyUtils.getBigDecimal(amount), this.profile.withCurrency(currency), false);
     }
 
     /*
@@ -863,10 +934,7 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
 
     @Override
     public RoundedMoney stripTrailingZeros(){
-        if(isZero()){
-            return of(BigDecimal.ZERO, getCurrency());
-        }
-        return of(this.number.stripTrailingZeros(), getCurrency());
+        return new RoundedMoney(asNumberStripped(), this.profile, false);
     }
 
     @Override
@@ -895,4 +963,137 @@ public final class RoundedMoney implements MonetaryAmount, Comparable<MonetaryAm
             return false;
         }
     }
+
+    /**
+     * Writes the serialized fields, storing the {@link MonetaryContext} and the rounding of the
+     * {@link RoundingProfile}.
+     *
+     * @param out the stream, not null.
+     * @throws IOException if writing fails.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException{
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("currency", currency);
+        fields.put("monetaryContext", profile.monetaryContext);
+        fields.put("number", number);
+        fields.put("rounding", profile.rounding);
+        out.writeFields();
+    }
+
+    /**
+     * Reads the serialized fields and restores the {@link RoundingProfile} from the {@link MonetaryContext} and
+     * the rounding.
+     *
+     * @param in the stream, not null.
+     * @throws IOException            if reading fails, or the serialized fields are invalid.
+     * @throws ClassNotFoundException if a class of a serialized field can not be found.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException{
+        ObjectInputStream.GetField fields = in.readFields();
+        CurrencyUnit currency = (CurrencyUnit) fields.get("currency", null);
+        MonetaryContext monetaryContext = (MonetaryContext) fields.get("monetaryContext", null);
+        BigDecimal number = (BigDecimal) fields.get("number", null);
+        MonetaryOperator rounding = (MonetaryOperator) fields.get("rounding", null);
+        if(Objects.isNull(currency) || Objects.isNull(monetaryContext) || Objects.isNull(number)){
+            throw new InvalidObjectException("Currency, MonetaryContext and number are required.");
+        }
+        if(Objects.isNull(rounding) || rounding.getClass() == DEFAULT_ROUNDING.getClass()){
+            // the default rounding is stateless, so the shared instance is restored
+            rounding = DEFAULT_ROUNDING;
+            monetaryContext = monetaryContext.toBuilder().set("rounding", rounding, MonetaryOperator.class).build();
+        }
+        this.currency = currency;
+        this.number = number;
+        if(rounding == DEFAULT_ROUNDING && DEFAULT_MONETARY_CONTEXT.equals(monetaryContext)){
+            this.profile = getDefaultProfile(currency);
+        }else{
+            this.profile = new RoundingProfile(currency, rounding, monetaryContext);
+        }
+    }
+
+    /**
+     * Immutable rounding profile, holding the rounding, the {@link MonetaryContext} and the {@link MathContext}
+     * evaluated once for a currency. All amounts derived from an instance share its profile, so arithmetic
+     * operations neither rebuild a {@link MonetaryContext} nor look up roundings. If the rounding is a scale
+     * based default rounding, it is applied directly on the {@link BigDecimal} value.
+     */
+    private static final class RoundingProfile{
+
+        private final CurrencyUnit currency;
+        private final MonetaryOperator rounding;
+        private final MonetaryContext monetaryContext;
+        private final MathContext mathContext;
+        private final RoundingMode roundingMode;
+        /**
+         * The scale applied by the rounding, or -1, if the rounding must be applied as operator.
+         */
+        private final int roundingScale;
+        private final RoundingMode scaleRoundingMode;
+
+        RoundingProfile(CurrencyUnit currency, MonetaryOperator rounding, MonetaryContext monetaryContext){
+            this.currency = currency;
+            this.rounding = rounding;
+            this.monetaryContext = monetaryContext;
+            this.mathContext = monetaryContext.get(MathContext.class, MathContext.DECIMAL64);
+            this.roundingMode = monetaryContext.get(RoundingMode.class, RoundingMode.HALF_EVEN);
+            RoundingContext roundingContext = getScaleRoundingContext(currency, rounding);
+            if(Objects.nonNull(roundingContext)){
+                this.roundingScale = roundingContext.getInt("scale");
+                this.scaleRoundingMode = roundingContext.get(RoundingMode.class);
+            }else{
+                this.roundingScale = -1;
+                this.scaleRoundingMode = null;
+            }
+        }
+
+        private static RoundingContext getScaleRoundingContext(CurrencyUnit currency, MonetaryOperator rounding){
+            MonetaryOperator effectiveRounding = rounding;
+            if(rounding == DEFAULT_ROUNDING){
+                try{
+                    effectiveRounding = MonetaryRoundings.getRounding(currency);
+                }
+                catch(MonetaryException e){
+                    return null;
+                }
+            }
+            if(DefaultRoundingProvider.isScaleRounding(effectiveRounding)){
+                RoundingContext roundingContext = ((MonetaryRounding) effectiveRounding).getRoundingContext();
+                if(Objects.nonNull(roundingContext.getInt("scale")) &&
+                        Objects.nonNull(roundingContext.get(RoundingMode.class))){
+                    return roundingContext;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Applies the rounding to the given number.
+         *
+         * @param number the number, not null.
+         * @return the rounded number.
+         */
+        BigDecimal round(BigDecimal number){
+            if(roundingScale >= 0){
+                return number.setScale(roundingScale, scaleRoundingMode);
+            }
+            return rounding.apply(new RoundedMoney(number, this, false)).getNumber().numberValue(BigDecimal.class);
+        }
+
+        /**
+         * Access a profile with the same rounding and {@link MonetaryContext} for another currency.
+         *
+         * @param currency the currency, not null.
+         * @return the according profile.
+         */
+        RoundingProfile withCurrency(CurrencyUnit currency){
+            Objects.requireNonNull(currency, "currency required");
+            if(this.currency.equals(currency)){
+                return this;
+            }
+            if(this.rounding == DEFAULT_ROUNDING && this.monetaryContext == DEFAULT_MONETARY_CONTEXT){
+                return getDefaultProfile(currency);
+            }
+            return new RoundingProfile(currency, this.rounding, this.monetaryContext);
+        }
+    }
 }
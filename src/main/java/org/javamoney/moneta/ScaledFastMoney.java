@@ -0,0 +1,809 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.javamoney.moneta.internal.ScaledFastMoneyAmountBuilder;
+import org.javamoney.moneta.spi.FixedPointArithmetic;
+import org.javamoney.moneta.spi.FixedPointNumberValue;
+import org.javamoney.moneta.spi.MonetaryConfig;
+import org.javamoney.moneta.spi.MoneyUtils;
+
+import javax.money.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <code>long</code> based implementation of {@link MonetaryAmount}, similar to {@link FastMoney}, but with
+ * a scale that is defined per instance, in the range of {@code 0} to {@value #MAX_SCALE}. The numeric value
+ * is represented by a single long, which is interpreted as an unscaled value with the given scale, e.g.
+ * {@code 12345} with scale {@code 2} is {@code 123.45}. Hereby a smaller scale gives a larger integral range,
+ * e.g. with scale {@code 2} amounts up to {@code 92233720368547758.07} can be represented, whereas a larger
+ * scale such as {@code 8} supports the precision required for crypto currencies.
+ * <p>
+ * If no scale is passed explicitly, the scale is evaluated from the currency: by default
+ * {@link CurrencyUnit#getDefaultFractionDigits()} is used, e.g. {@code 0} for {@code JPY} and {@code 2} for
+ * {@code EUR}. The scale can be configured per currency code in {@code javamoney.properties}, e.g.
+ * </p>
+ * <pre>
+ * org.javamoney.moneta.ScaledFastMoney.scale.XBT=8
+ * </pre>
+ * <p>
+ * Arithmetic operations between instances with the same scale are performed on the long values only.
+ * Operations between instances of different scale align the operand with the smaller scale by one
+ * multiplication with a power of ten, the result has the larger of both scales.
+ * </p>
+ * <p>
+ * Unlike {@link BigDecimal}, {@link #equals(Object)} is consistent with {@link #compareTo(MonetaryAmount)}:
+ * amounts of the same currency are equal if their values are, regardless of their scale, e.g. {@code 1.0}
+ * with scale 1 equals {@code 1.00} with scale 2.
+ * </p>
+ *
+ * @author Anatole Tresch
+ */
+public final class ScaledFastMoney implements MonetaryAmount, Comparable<MonetaryAmount>, Serializable{
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The maximal scale supported.
+     */
+    public static final int MAX_SCALE = FixedPointArithmetic.MAX_POWER_OF_TEN;
+
+    /**
+     * The scale used, if the currency does not define a valid number of fraction digits.
+     */
+    private static final int DEFAULT_SCALE = 5;
+
+    /**
+     * The prefix of the configuration keys for configuring the scale per currency code.
+     */
+    private static final String SCALE_KEY_PREFIX = "org.javamoney.moneta.ScaledFastMoney.scale.";
+
+    /**
+     * The {@link RoundingMode} applied, when results of multiplication or division exceed the scale of an
+     * instance. It can be configured by {@code org.javamoney.moneta.ScaledFastMoney.roundingMode} in
+     * {@code javamoney.properties}.
+     */
+    private static final RoundingMode ROUNDING_MODE = RoundingMode.valueOf(MonetaryConfig.getConfig()
+            .getOrDefault("org.javamoney.moneta.ScaledFastMoney.roundingMode", "HALF_EVEN"));
+
+    /**
+     * The shared {@link MonetaryContext} instances, one per scale.
+     */
+    private static final MonetaryContext[] MONETARY_CONTEXTS = new MonetaryContext[MAX_SCALE + 1];
+
+    static{
+        for(int scale = 0; scale <= MAX_SCALE; scale++){
+            MONETARY_CONTEXTS[scale] =
+                    MonetaryContextBuilder.of(ScaledFastMoney.class).setMaxScale(scale).setFixedScale(true)
+                            .setPrecision(19).set(ROUNDING_MODE).build();
+        }
+    }
+
+    /**
+     * The scales evaluated per currency code.
+     */
+    private static final Map<String,Integer> CURRENCY_SCALES = new ConcurrentHashMap<>();
+
+    /**
+     * The currency of this amount.
+     */
+    private final CurrencyUnit currency;
+
+    /**
+     * The unscaled numeric part of this amount.
+     */
+    private final long number;
+
+    /**
+     * The scale of this amount.
+     */
+    private final int scale;
+
+    /**
+     * Creates a new instance of {@link ScaledFastMoney}.
+     *
+     * @param number   The unscaled number value
+     * @param scale    the scale, 0 <= scale <= {@link #MAX_SCALE}.
+     * @param currency the currency, not null.
+     */
+    private ScaledFastMoney(long number, int scale, CurrencyUnit currency){
+        Objects.requireNonNull(currency, "Currency is required.");
+        checkScale(scale);
+        this.currency = currency;
+        this.number = number;
+        this.scale = scale;
+    }
+
+    /**
+     * Creates a new instance of {@link ScaledFastMoney}.
+     *
+     * @param number                the number, not null.
+     * @param scale                 the scale, 0 <= scale <= {@link #MAX_SCALE}.
+     * @param currency              the currency, not null.
+     * @param allowInternalRounding if true, numbers exceeding the scale are rounded, otherwise an
+     *                              {@link ArithmeticException} is thrown.
+     */
+    private ScaledFastMoney(BigDecimal number, int scale, CurrencyUnit currency, boolean allowInternalRounding){
+        Objects.requireNonNull(currency, "Currency is required.");
+        Objects.requireNonNull(number, "Number is required.");
+        checkScale(scale);
+        this.currency = currency;
+        this.scale = scale;
+        this.number = getInternalNumber(number, scale, allowInternalRounding);
+    }
+
+    private static void checkScale(int scale){
+        if(scale < 0 || scale > MAX_SCALE){
+            throw new ArithmeticException("Scale not supported: " + scale + ", required 0 <= scale <= " + MAX_SCALE);
+        }
+    }
+
+    private static long getInternalNumber(BigDecimal number, int scale, boolean allowInternalRounding){
+        if(!allowInternalRounding && number.scale() > scale){
+            throw new ArithmeticException(number + " can not be represented by this class, scale > " + scale);
+        }
+        try{
+            return number.setScale(scale, ROUNDING_MODE).unscaledValue().longValueExact();
+        }
+        catch(ArithmeticException e){
+            throw new ArithmeticException("Overflow: " + number + " exceeds the range of scale " + scale);
+        }
+    }
+
+    /**
+     * Evaluates the default scale used for the given currency. The scale can be configured by
+     * {@code org.javamoney.moneta.ScaledFastMoney.scale.<currencyCode>} in {@code javamoney.properties}, by
+     * default the currency's default fraction digits are used.
+     *
+     * @param currency the currency, not null.
+     * @return the scale to be used.
+     */
+    public static int getDefaultScale(CurrencyUnit currency){
+        Objects.requireNonNull(currency, "Currency is required.");
+        return CURRENCY_SCALES.computeIfAbsent(currency.getCurrencyCode(), code -> {
+            String configured = MonetaryConfig.getConfig().get(SCALE_KEY_PREFIX + code);
+            if(Objects.nonNull(configured)){
+                int scale = Integer.parseInt(configured.trim());
+                checkScale(scale);
+                return scale;
+            }
+            int digits = currency.getDefaultFractionDigits();
+            if(digits < 0 || digits > MAX_SCALE){
+                return DEFAULT_SCALE;
+            }
+            return digits;
+        });
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link ScaledFastMoney}, using the default scale of
+     * the currency.
+     *
+     * @param number   The numeric part, not null.
+     * @param currency The target currency, not null.
+     * @return A new instance of {@link ScaledFastMoney}.
+     * @throws ArithmeticException if the number exceeds the scale or the range supported.
+     */
+    public static ScaledFastMoney of(Number number, CurrencyUnit currency){
+        return of(number, currency, getDefaultScale(currency));
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link ScaledFastMoney}.
+     *
+     * @param number   The numeric part, not null.
+     * @param currency The target currency, not null.
+     * @param scale    the scale, 0 <= scale <= {@link #MAX_SCALE}.
+     * @return A new instance of {@link ScaledFastMoney}.
+     * @throws ArithmeticException if the number exceeds the scale or the range supported.
+     */
+    public static ScaledFastMoney of(Number number, CurrencyUnit currency, int scale){
+        Objects.requireNonNull(number, "Number is required.");
+        return new ScaledFastMoney(MoneyUtils.getBigDecimal(number), scale, currency, false);
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link ScaledFastMoney}, using the default scale of
+     * the currency.
+     *
+     * @param number       The numeric part, not null.
+     * @param currencyCode The target currency as currency code.
+     * @return A new instance of {@link ScaledFastMoney}.
+     */
+    public static ScaledFastMoney of(Number number, String currencyCode){
+        return of(number, MonetaryCurrencies.getCurrency(currencyCode));
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link ScaledFastMoney}.
+     *
+     * @param number       The numeric part, not null.
+     * @param currencyCode The target currency as currency code.
+     * @param scale        the scale, 0 <= scale <= {@link #MAX_SCALE}.
+     * @return A new instance of {@link ScaledFastMoney}.
+     */
+    public static ScaledFastMoney of(Number number, String currencyCode, int scale){
+        return of(number, MonetaryCurrencies.getCurrency(currencyCode), scale);
+    }
+
+    /**
+     * Static factory method for creating a new instance of {@link ScaledFastMoney} from its unscaled value,
+     * e.g. {@code ofUnscaled(12345, EUR, 2)} represents {@code EUR 123.45}.
+     *
+     * @param unscaledValue The unscaled numeric part.
+     * @param currency      The target currency, not null.
+     * @param scale         the scale, 0 <= scale <= {@link #MAX_SCALE}.
+     * @return A new instance of {@link ScaledFastMoney}.
+     */
+    public static ScaledFastMoney ofUnscaled(long unscaledValue, CurrencyUnit currency, int scale){
+        return new ScaledFastMoney(unscaledValue, scale, currency);
+    }
+
+    /**
+     * Converts (if necessary) the given {@link MonetaryAmount} to a {@link ScaledFastMoney} instance. The scale
+     * used is the default scale of the currency, or the scale of the amount's number, whichever is larger.
+     *
+     * @param amount the amount to be converted, not null.
+     * @return an according {@link ScaledFastMoney} instance.
+     * @throws ArithmeticException if the amount can not be represented by this class.
+     */
+    public static ScaledFastMoney from(MonetaryAmount amount){
+        if(amount instanceof ScaledFastMoney){
+            return (ScaledFastMoney) amount;
+        }
+        BigDecimal number = amount.getNumber().numberValue(BigDecimal.class);
+        int scale = Math.max(getDefaultScale(amount.getCurrency()), number.scale());
+        return new ScaledFastMoney(number, Math.min(scale, MAX_SCALE), amount.getCurrency(), false);
+    }
+
+    /**
+     * Returns the amount’s currency, modelled as {@link CurrencyUnit}.
+     *
+     * @return the currency, never {@code null}
+     * @see javax.money.MonetaryAmount#getCurrency()
+     */
+    @Override
+    public CurrencyUnit getCurrency(){
+        return currency;
+    }
+
+    /**
+     * Access the {@link MonetaryContext} used by this instance, reflecting the instance's scale.
+     *
+     * @return the {@link MonetaryContext} used, never null.
+     * @see javax.money.MonetaryAmount#getMonetaryContext()
+     */
+    @Override
+    public MonetaryContext getMonetaryContext(){
+        return MONETARY_CONTEXTS[scale];
+    }
+
+    /**
+     * Access the scale of this amount.
+     *
+     * @return the scale, 0 <= scale <= {@link #MAX_SCALE}.
+     */
+    public int getScale(){
+        return scale;
+    }
+
+    /**
+     * Access the unscaled value of this amount, e.g. {@code 12345} for {@code 123.45} with scale {@code 2}.
+     *
+     * @return the unscaled value.
+     */
+    public long getUnscaledValue(){
+        return number;
+    }
+
+    /**
+     * Returns an amount with the same value, represented with the given scale. If the scale is reduced,
+     * rounding is applied as needed.
+     *
+     * @param newScale the new scale, 0 <= scale <= {@link #MAX_SCALE}.
+     * @return the amount with the given scale.
+     * @throws ArithmeticException if the value can not be represented with the given scale.
+     */
+    public ScaledFastMoney withScale(int newScale){
+        if(newScale == this.scale){
+            return this;
+        }
+        checkScale(newScale);
+        return new ScaledFastMoney(FixedPointArithmetic.scaleByPowerOfTen(this.number, newScale - this.scale,
+                                                                          ROUNDING_MODE), newScale, currency);
+    }
+
+    /**
+     * Gets the number representation of the numeric value of this item.
+     *
+     * @return The {@link Number} represention matching best.
+     */
+    @Override
+    public NumberValue getNumber(){
+        return new FixedPointNumberValue(number, scale);
+    }
+
+    private BigDecimal getBigDecimal(){
+        return BigDecimal.valueOf(this.number, this.scale);
+    }
+
+    /*
+     * @see java.lang.Comparable#compareTo(java.lang.Object)
+     */
+    @Override
+    public int compareTo(MonetaryAmount o){
+        Objects.requireNonNull(o);
+        int compare = getCurrency().getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
+        if(compare == 0){
+            if(o instanceof ScaledFastMoney){
+                return compareNumber((ScaledFastMoney) o);
+            }
+            compare = getBigDecimal().compareTo(o.getNumber().numberValue(BigDecimal.class));
+        }
+        return compare;
+    }
+
+    private int compareNumber(ScaledFastMoney other){
+        if(this.scale == other.scale){
+            return Long.compare(this.number, other.number);
+        }
+        try{
+            if(this.scale > other.scale){
+                return Long.compare(this.number,
+                                    FixedPointArithmetic.scaleByPowerOfTen(other.number, this.scale - other.scale,
+                                                                           RoundingMode.UNNECESSARY));
+            }
+            return Long.compare(
+                    FixedPointArithmetic.scaleByPowerOfTen(this.number, other.scale - this.scale,
+                                                           RoundingMode.UNNECESSARY), other.number);
+        }
+        catch(ArithmeticException e){
+            // aligned value exceeds the long range
+            return getBigDecimal().compareTo(other.getBigDecimal());
+        }
+    }
+
+    private int compareNumber(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        if(amount instanceof ScaledFastMoney){
+            return compareNumber((ScaledFastMoney) amount);
+        }
+        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode(){
+        // consistent with equals: based on the value with trailing zeros stripped
+        long strippedNumber = this.number;
+        int strippedScale = this.scale;
+        while(strippedScale > 0 && strippedNumber % 10 == 0){
+            strippedNumber /= 10;
+            strippedScale--;
+        }
+        return 31 * (31 * (31 + currency.hashCode()) + Long.hashCode(strippedNumber)) + strippedScale;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj){
+        if(obj == this){
+            return true;
+        }
+        if(obj instanceof ScaledFastMoney){
+            ScaledFastMoney other = (ScaledFastMoney) obj;
+            if(!Objects.equals(currency, other.currency)){
+                return false;
+            }
+            if(scale == other.scale){
+                return number == other.number;
+            }
+            // equal values of different scale, consistent with compareTo, e.g. 1.0 and 1.00
+            ScaledFastMoney larger = scale > other.scale ? this : other;
+            ScaledFastMoney smaller = larger == this ? other : this;
+            long factor = FixedPointArithmetic.powerOfTen(larger.scale - smaller.scale);
+            return larger.number % factor == 0 && larger.number / factor == smaller.number;
+        }
+        return false;
+    }
+
+    // Arithmetic Operations
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#abs()
+     */
+    @Override
+    public ScaledFastMoney abs(){
+        if(this.isPositiveOrZero()){
+            return this;
+        }
+        return this.negate();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#add(javax.money.MonetaryAmount)
+     */
+    @Override
+    public ScaledFastMoney add(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        ScaledFastMoney other = from(amount);
+        if(other.number == 0L){
+            return this;
+        }
+        if(this.scale == other.scale){
+            return new ScaledFastMoney(Math.addExact(this.number, other.number), scale, currency);
+        }
+        if(this.scale > other.scale){
+            return new ScaledFastMoney(Math.addExact(this.number, other.alignTo(this.scale)), this.scale, currency);
+        }
+        return new ScaledFastMoney(Math.addExact(alignTo(other.scale), other.number), other.scale, currency);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#subtract(javax.money.MonetaryAmount)
+     */
+    @Override
+    public ScaledFastMoney subtract(MonetaryAmount amount){
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        ScaledFastMoney other = from(amount);
+        if(other.number == 0L){
+            return this;
+        }
+        if(this.scale == other.scale){
+            return new ScaledFastMoney(Math.subtractExact(this.number, other.number), scale, currency);
+        }
+        if(this.scale > other.scale){
+            return new ScaledFastMoney(Math.subtractExact(this.number, other.alignTo(this.scale)), this.scale,
+                                       currency);
+        }
+        return new ScaledFastMoney(Math.subtractExact(alignTo(other.scale), other.number), other.scale, currency);
+    }
+
+    /**
+     * Evaluates the unscaled value of this instance for a larger scale.
+     *
+     * @param targetScale the target scale, >= this.scale.
+     * @return the unscaled value, with the given scale.
+     * @throws ArithmeticException if the aligned value exceeds the long range.
+     */
+    private long alignTo(int targetScale){
+        return Math.multiplyExact(this.number, FixedPointArithmetic.powerOfTen(targetScale - this.scale));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#multiply(java.lang.Number)
+     */
+    @Override
+    public ScaledFastMoney multiply(Number multiplicand){
+        MoneyUtils.checkNumberParameter(multiplicand);
+        return multiplyInternal(MoneyUtils.getBigDecimal(multiplicand));
+    }
+
+    private ScaledFastMoney multiplyInternal(BigDecimal multiplicand){
+        if(multiplicand.compareTo(BigDecimal.ONE) == 0){
+            return this;
+        }
+        return new ScaledFastMoney(FixedPointArithmetic.multiply(this.number, multiplicand, ROUNDING_MODE), scale,
+                                   currency);
+    }
+
+    @Override
+    public ScaledFastMoney multiply(long multiplicand){
+        if(multiplicand == 1L){
+            return this;
+        }
+        return new ScaledFastMoney(Math.multiplyExact(this.number, multiplicand), scale, currency);
+    }
+
+    @Override
+    public ScaledFastMoney multiply(double multiplicand){
+        if(multiplicand == 1.0d){
+            return this;
+        }
+        return multiplyInternal(MoneyUtils.getBigDecimal(multiplicand));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divide(java.lang.Number)
+     */
+    @Override
+    public ScaledFastMoney divide(Number divisor){
+        MoneyUtils.checkNumberParameter(divisor);
+        return divideInternal(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    private ScaledFastMoney divideInternal(BigDecimal divisor){
+        if(divisor.compareTo(BigDecimal.ONE) == 0){
+            return this;
+        }
+        return new ScaledFastMoney(FixedPointArithmetic.divide(this.number, divisor, ROUNDING_MODE), scale, currency);
+    }
+
+    @Override
+    public ScaledFastMoney divide(long divisor){
+        if(divisor == 1L){
+            return this;
+        }
+        return new ScaledFastMoney(FixedPointArithmetic.divide(this.number, divisor, ROUNDING_MODE), scale, currency);
+    }
+
+    @Override
+    public ScaledFastMoney divide(double divisor){
+        if(divisor == 1.0d){
+            return this;
+        }
+        return divideInternal(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divideAndRemainder(java.lang.Number)
+     */
+    @Override
+    public ScaledFastMoney[] divideAndRemainder(Number divisor){
+        MoneyUtils.checkNumberParameter(divisor);
+        BigDecimal div = MoneyUtils.getBigDecimal(divisor);
+        long internalDivisor = getExactInternalNumber(div);
+        if(internalDivisor != 0L){
+            long quotient = FixedPointArithmetic.divide(this.number, internalDivisor, RoundingMode.DOWN);
+            return new ScaledFastMoney[]{
+                    new ScaledFastMoney(Math.multiplyExact(quotient, FixedPointArithmetic.powerOfTen(scale)), scale,
+                                        currency), new ScaledFastMoney(this.number % internalDivisor, scale, currency)};
+        }
+        BigDecimal[] res = getBigDecimal().divideAndRemainder(div);
+        return new ScaledFastMoney[]{new ScaledFastMoney(res[0], scale, currency, true),
+                new ScaledFastMoney(res[1], scale, currency, true)};
+    }
+
+    @Override
+    public ScaledFastMoney[] divideAndRemainder(long divisor){
+        return divideAndRemainder(BigDecimal.valueOf(divisor));
+    }
+
+    @Override
+    public ScaledFastMoney[] divideAndRemainder(double divisor){
+        return divideAndRemainder(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#divideToIntegralValue(java.lang.Number)
+     */
+    @Override
+    public ScaledFastMoney divideToIntegralValue(Number divisor){
+        MoneyUtils.checkNumberParameter(divisor);
+        BigDecimal div = MoneyUtils.getBigDecimal(divisor);
+        long internalDivisor = getExactInternalNumber(div);
+        if(internalDivisor != 0L){
+            long quotient = FixedPointArithmetic.divide(this.number, internalDivisor, RoundingMode.DOWN);
+            return new ScaledFastMoney(Math.multiplyExact(quotient, FixedPointArithmetic.powerOfTen(scale)), scale,
+                                       currency);
+        }
+        return new ScaledFastMoney(getBigDecimal().divideToIntegralValue(div), scale, currency, false);
+    }
+
+    @Override
+    public ScaledFastMoney divideToIntegralValue(long divisor){
+        return divideToIntegralValue(BigDecimal.valueOf(divisor));
+    }
+
+    @Override
+    public ScaledFastMoney divideToIntegralValue(double divisor){
+        return divideToIntegralValue(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#remainder(java.lang.Number)
+     */
+    @Override
+    public ScaledFastMoney remainder(Number divisor){
+        MoneyUtils.checkNumberParameter(divisor);
+        BigDecimal div = MoneyUtils.getBigDecimal(divisor);
+        long internalDivisor = getExactInternalNumber(div);
+        if(internalDivisor != 0L){
+            return new ScaledFastMoney(this.number % internalDivisor, scale, currency);
+        }
+        return new ScaledFastMoney(getBigDecimal().remainder(div), scale, currency, true);
+    }
+
+    @Override
+    public ScaledFastMoney remainder(long divisor){
+        return remainder(BigDecimal.valueOf(divisor));
+    }
+
+    @Override
+    public ScaledFastMoney remainder(double divisor){
+        return remainder(MoneyUtils.getBigDecimal(divisor));
+    }
+
+    /**
+     * Evaluates the unscaled representation of the given number with the scale of this instance, if it can be
+     * represented exactly.
+     *
+     * @param number the number, not null.
+     * @return the unscaled number, or 0, if the number is zero or can not be represented exactly.
+     */
+    private long getExactInternalNumber(BigDecimal number){
+        if(number.scale() > this.scale || number.precision() > FixedPointArithmetic.MAX_POWER_OF_TEN){
+            return 0L;
+        }
+        try{
+            return FixedPointArithmetic.scaleByPowerOfTen(number.unscaledValue().longValue(),
+                                                          this.scale - number.scale(), RoundingMode.UNNECESSARY);
+        }
+        catch(ArithmeticException e){
+            // overflow, the number is out of the range supported.
+            return 0L;
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#scaleByPowerOfTen(int)
+     */
+    @Override
+    public ScaledFastMoney scaleByPowerOfTen(int n){
+        return new ScaledFastMoney(FixedPointArithmetic.scaleByPowerOfTen(this.number, n, ROUNDING_MODE), scale,
+                                   currency);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#negate()
+     */
+    @Override
+    public ScaledFastMoney negate(){
+        return new ScaledFastMoney(Math.negateExact(this.number), scale, currency);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#plus()
+     */
+    @Override
+    public ScaledFastMoney plus(){
+        return this;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#stripTrailingZeros()
+     */
+    @Override
+    public ScaledFastMoney stripTrailingZeros(){
+        return this;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.MonetaryAmount#signum()
+     */
+    @Override
+    public int signum(){
+        return Long.signum(this.number);
+    }
+
+    @Override
+    public boolean isZero(){
+        return this.number == 0L;
+    }
+
+    @Override
+    public boolean isPositive(){
+        return this.number > 0L;
+    }
+
+    @Override
+    public boolean isPositiveOrZero(){
+        return this.number >= 0L;
+    }
+
+    @Override
+    public boolean isNegative(){
+        return this.number < 0L;
+    }
+
+    @Override
+    public boolean isNegativeOrZero(){
+        return this.number <= 0L;
+    }
+
+    @Override
+    public boolean isLessThan(MonetaryAmount amount){
+        return compareNumber(amount) < 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqualTo(MonetaryAmount amount){
+        return compareNumber(amount) <= 0;
+    }
+
+    @Override
+    public boolean isGreaterThan(MonetaryAmount amount){
+        return compareNumber(amount) > 0;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqualTo(MonetaryAmount amount){
+        return compareNumber(amount) >= 0;
+    }
+
+    @Override
+    public boolean isEqualTo(MonetaryAmount amount){
+        return compareNumber(amount) == 0;
+    }
+
+    /*
+     * }(non-Javadoc)
+     * @see javax.money.MonetaryAmount#adjust(javax.money.AmountAdjuster)
+     */
+    @Override
+    public ScaledFastMoney with(MonetaryOperator operator){
+        Objects.requireNonNull(operator);
+        try{
+            return ScaledFastMoney.class.cast(operator.apply(this));
+        }
+        catch(ArithmeticException e){
+            throw e;
+        }
+        catch(Exception e){
+            throw new MonetaryException("Operator failed: " + operator, e);
+        }
+    }
+
+    @Override
+    public <R> R query(MonetaryQuery<R> query){
+        Objects.requireNonNull(query);
+        try{
+            return query.queryFrom(this);
+        }
+        catch(MonetaryException | ArithmeticException e){
+            throw e;
+        }
+        catch(Exception e){
+            throw new MonetaryException("Query failed: " + query, e);
+        }
+    }
+
+    @Override
+    public MonetaryAmountFactory<ScaledFastMoney> getFactory(){
+        return new ScaledFastMoneyAmountBuilder().setAmount(this);
+    }
+
+    @Override
+    public String toString(){
+        return currency.toString() + ' ' + getBigDecimal();
+    }
+
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.function;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+
+/**
+ * Internal, thread-safe container for grouped statistics, shared by all threads of a concurrent collector.
+ * Each currency's statistics are striped: a thread only locks the stripe selected by its id, so threads
+ * collecting amounts of the same currency mostly do not contend. The stripes are combined when the
+ * collection completes.
+ */
+final class ConcurrentGroupMonetarySummaryStatistics {
+
+    /**
+     * The number of stripes per currency, a power of two.
+     */
+    private static final int STRIPES = Integer.highestOneBit(
+            Math.max(1, Math.min(64, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+
+    private final ConcurrentMap<CurrencyUnit, MonetarySummaryStatistics[]> groupSummary =
+            new ConcurrentHashMap<>();
+
+    ConcurrentGroupMonetarySummaryStatistics() {
+
+    }
+
+    public ConcurrentGroupMonetarySummaryStatistics accept(MonetaryAmount amount) {
+        CurrencyUnit currency = Objects.requireNonNull(amount).getCurrency();
+        MonetarySummaryStatistics[] stripes = groupSummary.get(currency);
+        if (stripes == null) {
+            stripes = groupSummary.computeIfAbsent(currency,
+                    ConcurrentGroupMonetarySummaryStatistics::createStripes);
+        }
+        MonetarySummaryStatistics stripe = stripes[(int) Thread.currentThread().getId() & (STRIPES - 1)];
+        synchronized (stripe) {
+            stripe.accept(amount);
+        }
+        return this;
+    }
+
+    public ConcurrentGroupMonetarySummaryStatistics combine(ConcurrentGroupMonetarySummaryStatistics another) {
+        Objects.requireNonNull(another);
+        for (Map.Entry<CurrencyUnit, MonetarySummaryStatistics[]> entry : another.groupSummary.entrySet()) {
+            MonetarySummaryStatistics[] stripes = groupSummary.computeIfAbsent(entry.getKey(),
+                    ConcurrentGroupMonetarySummaryStatistics::createStripes);
+            MonetarySummaryStatistics[] others = entry.getValue();
+            for (int i = 0; i < STRIPES; i++) {
+                synchronized (stripes[i]) {
+                    synchronized (others[i]) {
+                        stripes[i].combine(others[i]);
+                    }
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Combines the stripes of each currency, after all amounts were accepted.
+     *
+     * @return the grouped statistics, not null.
+     */
+    public GroupMonetarySummaryStatistics toGroupMonetarySummaryStatistics() {
+        GroupMonetarySummaryStatistics result = new GroupMonetarySummaryStatistics();
+        for (Map.Entry<CurrencyUnit, MonetarySummaryStatistics[]> entry : groupSummary.entrySet()) {
+            MonetarySummaryStatistics summary = new MonetarySummaryStatistics(entry.getKey());
+            for (MonetarySummaryStatistics stripe : entry.getValue()) {
+                synchronized (stripe) {
+                    summary.combine(stripe);
+                }
+            }
+            if (summary.getCount() > 0) {
+                result.get().put(entry.getKey(), summary);
+            }
+        }
+        return result;
+    }
+
+    private static MonetarySummaryStatistics[] createStripes(CurrencyUnit currency) {
+        MonetarySummaryStatistics[] stripes = new MonetarySummaryStatistics[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new MonetarySummaryStatistics(currency);
+        }
+        return stripes;
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentGroupMonetarySummaryStatistics: " + groupSummary.keySet();
+    }
+
+}
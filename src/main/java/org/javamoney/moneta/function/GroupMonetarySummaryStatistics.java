@@ -39,9 +39,10 @@ public class GroupMonetarySummaryStatistics {
 
     public GroupMonetarySummaryStatistics accept(MonetaryAmount amount) {
         CurrencyUnit currency = Objects.requireNonNull(amount).getCurrency();
-        groupSummary.putIfAbsent(currency, new MonetarySummaryStatistics(
-                currency));
         MonetarySummaryStatistics summary = groupSummary.get(currency);
+        if (summary == null) {
+            summary = groupSummary.computeIfAbsent(currency, MonetarySummaryStatistics::new);
+        }
         summary.accept(amount);
         return this;
     }
@@ -70,10 +71,9 @@ public class GroupMonetarySummaryStatistics {
             GroupMonetarySummaryStatistics another) {
         Objects.requireNonNull(another);
 
-        for (CurrencyUnit keyCurrency : another.groupSummary.keySet()) {
-            groupSummary.putIfAbsent(keyCurrency,
-                    new MonetarySummaryStatistics(keyCurrency));
-            groupSummary.merge(keyCurrency, another.groupSummary.get(keyCurrency), MonetarySummaryStatistics::combine);
+        for (Map.Entry<CurrencyUnit, MonetarySummaryStatistics> entry : another.groupSummary.entrySet()) {
+            groupSummary.computeIfAbsent(entry.getKey(), MonetarySummaryStatistics::new)
+                    .combine(entry.getValue());
         }
         return this;
     }
@@ -1,9 +1,15 @@
 package org.javamoney.moneta.function;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BinaryOperator;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -13,7 +19,11 @@ import java.util.stream.Collectors;
 import javax.money.CurrencyUnit;
 import javax.money.MonetaryAmount;
 import javax.money.MonetaryException;
+import javax.money.convert.CurrencyConversion;
+import javax.money.convert.ExchangeRateProvider;
 
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
 import org.javamoney.moneta.spi.MoneyUtils;
 
 /**
@@ -33,6 +43,18 @@ public final class MonetaryFunctions{
         return Collectors.groupingBy(MonetaryAmount::getCurrency);
     }
 
+    /**
+     * Concurrent collector to group by CurrencyUnit. Unlike {@link #groupByCurrencyUnit()}, all threads of a
+     * parallel stream collect into one shared, concurrent map, instead of merging a map per thread. The order
+     * of the amounts within a group is not defined.
+     *
+     * @return the Collector to of ConcurrentMap<CurrencyUnit, List<MonetaryAmount>>
+     */
+    public static Collector<MonetaryAmount,?,ConcurrentMap<CurrencyUnit,List<MonetaryAmount>>>
+    groupByCurrencyUnitConcurrent(){
+        return Collectors.groupingByConcurrent(MonetaryAmount::getCurrency);
+    }
+
     /**
      * of the summary of the MonetaryAmount
      *
@@ -45,6 +67,33 @@ public final class MonetaryFunctions{
         return Collector.of(supplier, MonetarySummaryStatistics::accept, MonetarySummaryStatistics::combine);
     }
 
+    /**
+     * of the quantile sketch of the MonetaryAmount, for estimating e.g. the median or the 99th percentile
+     * with bounded memory.
+     *
+     * @param currencyUnit the target {@link javax.money.CurrencyUnit}
+     * @return the MonetaryQuantileSketch
+     */
+    public static Collector<MonetaryAmount,MonetaryQuantileSketch,MonetaryQuantileSketch> summarizingQuantiles(
+            CurrencyUnit currencyUnit){
+        Supplier<MonetaryQuantileSketch> supplier = () -> new MonetaryQuantileSketch(currencyUnit);
+        return Collector.of(supplier, MonetaryQuantileSketch::accept, MonetaryQuantileSketch::combine);
+    }
+
+    /**
+     * of MonetaryAmount group by MonetaryQuantileSketch
+     *
+     * @return the MonetaryQuantileSketch per currency
+     */
+    public static Collector<MonetaryAmount,?,Map<CurrencyUnit,MonetaryQuantileSketch>> groupBySummarizingQuantiles(){
+        return Collector.of(HashMap::new, (Map<CurrencyUnit,MonetaryQuantileSketch> map, MonetaryAmount amount) -> map
+                .computeIfAbsent(Objects.requireNonNull(amount).getCurrency(), MonetaryQuantileSketch::new)
+                .accept(amount), (map, other) -> {
+            other.forEach((currency, sketch) -> map.merge(currency, sketch, MonetaryQuantileSketch::combine));
+            return map;
+        });
+    }
+
     /**
      * of MonetaryAmount group by MonetarySummary
      *
@@ -56,6 +105,89 @@ public final class MonetaryFunctions{
                             GroupMonetarySummaryStatistics::combine);
     }
 
+    /**
+     * Concurrent collector of MonetaryAmount group by MonetarySummary. Unlike
+     * {@link #groupBySummarizingMonetary()}, all threads of a parallel stream collect into one shared container,
+     * which keeps striped statistics per currency, so threads collecting the same currency mostly do not
+     * contend.
+     *
+     * @return the MonetarySummaryStatistics
+     */
+    public static Collector<MonetaryAmount,?,GroupMonetarySummaryStatistics> groupBySummarizingMonetaryConcurrent(){
+        return Collector.of(ConcurrentGroupMonetarySummaryStatistics::new,
+                            ConcurrentGroupMonetarySummaryStatistics::accept,
+                            ConcurrentGroupMonetarySummaryStatistics::combine,
+                            ConcurrentGroupMonetarySummaryStatistics::toGroupMonetarySummaryStatistics,
+                            Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Collector summing up amounts of any currencies into a total in the target currency of the given
+     * conversion. The amounts are summed up per currency first, then each currency's total is converted once,
+     * instead of converting every amount, so the number of rate lookups and conversions only depends on the
+     * number of currencies.
+     *
+     * @param conversion the conversion into the target currency, not null.
+     * @return the Collector of the total, a {@link org.javamoney.moneta.Money} in the target currency.
+     */
+    public static Collector<MonetaryAmount,?,MonetaryAmount> summingConverted(CurrencyConversion conversion){
+        Objects.requireNonNull(conversion);
+        return Collector.of(HashMap::new, MonetaryFunctions::acceptPartialSum, MonetaryFunctions::combinePartialSums,
+                            (Map<String,ParallelMonetarySum.PartialSum> partialSums) -> convertPartialSums(
+                                    partialSums, conversion), Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Collector summing up amounts of any currencies into a total in the given currency, converting each
+     * currency's total once with the given provider, see {@link #summingConverted(CurrencyConversion)}.
+     *
+     * @param provider     the provider of the rates, not null.
+     * @param currencyUnit the target {@link javax.money.CurrencyUnit}, not null.
+     * @return the Collector of the total, a {@link org.javamoney.moneta.Money} in the target currency.
+     */
+    public static Collector<MonetaryAmount,?,MonetaryAmount> summingConverted(ExchangeRateProvider provider,
+                                                                             CurrencyUnit currencyUnit){
+        return summingConverted(Objects.requireNonNull(provider).getCurrencyConversion(currencyUnit));
+    }
+
+    private static void acceptPartialSum(Map<String,ParallelMonetarySum.PartialSum> partialSums,
+                                         MonetaryAmount amount){
+        CurrencyUnit currency = Objects.requireNonNull(amount).getCurrency();
+        ParallelMonetarySum.PartialSum partialSum = partialSums.get(currency.getCurrencyCode());
+        if(partialSum == null){
+            partialSum = new ParallelMonetarySum.PartialSum(currency);
+            partialSums.put(currency.getCurrencyCode(), partialSum);
+        }
+        partialSum.add(amount);
+    }
+
+    private static Map<String,ParallelMonetarySum.PartialSum> combinePartialSums(
+            Map<String,ParallelMonetarySum.PartialSum> partialSums, Map<String,ParallelMonetarySum.PartialSum> other){
+        for(Map.Entry<String,ParallelMonetarySum.PartialSum> entry : other.entrySet()){
+            ParallelMonetarySum.PartialSum partialSum = partialSums.get(entry.getKey());
+            if(partialSum == null){
+                partialSums.put(entry.getKey(), entry.getValue());
+            }else{
+                partialSum.merge(entry.getValue());
+            }
+        }
+        return partialSums;
+    }
+
+    private static MonetaryAmount convertPartialSums(Map<String,ParallelMonetarySum.PartialSum> partialSums,
+                                                     CurrencyConversion conversion){
+        CurrencyUnit target = conversion.getCurrency();
+        BigDecimal total = BigDecimal.ZERO;
+        for(ParallelMonetarySum.PartialSum partialSum : partialSums.values()){
+            MonetaryAmount subtotal = Money.from(partialSum.toAmount());
+            if(!target.getCurrencyCode().equals(partialSum.getCurrency().getCurrencyCode())){
+                subtotal = conversion.apply(subtotal);
+            }
+            total = total.add(subtotal.getNumber().numberValue(BigDecimal.class));
+        }
+        return Money.of(total, target);
+    }
+
     /**
      * Get a comparator for sorting CurrencyUnits ascending.
      *
@@ -192,6 +324,72 @@ public final class MonetaryFunctions{
         return a.add(b);
     }
 
+    /**
+     * Sums up the given amounts per currency, splitting the work into fork/join tasks. Unlike reducing a
+     * parallel stream with {@link #sum()}, the partial sums are exact primitive {@code long} values for
+     * {@link org.javamoney.moneta.FastMoney} and {@link java.math.BigDecimal} values otherwise, which are only
+     * merged when the tasks join. A total is a {@link org.javamoney.moneta.FastMoney}, if all its amounts are
+     * and it fits, otherwise a {@link org.javamoney.moneta.Money}.
+     *
+     * @param amounts the amounts, not null, not containing null.
+     * @return the totals per currency, in order of the currencies' first occurrence.
+     */
+    public static Map<CurrencyUnit,MonetaryAmount> sumByCurrencyParallel(Collection<? extends MonetaryAmount> amounts){
+        Objects.requireNonNull(amounts);
+        if(amounts instanceof List && amounts instanceof RandomAccess){
+            return ParallelMonetarySum.sumByCurrency((List<? extends MonetaryAmount>) amounts);
+        }
+        return ParallelMonetarySum.sumByCurrency(Arrays.asList(amounts.toArray(new MonetaryAmount[amounts.size()])));
+    }
+
+    /**
+     * Sums up the given amounts per currency, splitting the work into fork/join tasks, see
+     * {@link #sumByCurrencyParallel(java.util.Collection)}.
+     *
+     * @param amounts the amounts, not null, not containing null.
+     * @return the totals per currency, in order of the currencies' first occurrence.
+     */
+    public static Map<CurrencyUnit,MonetaryAmount> sumByCurrencyParallel(MonetaryAmount... amounts){
+        return ParallelMonetarySum.sumByCurrency(Arrays.asList(Objects.requireNonNull(amounts)));
+    }
+
+    /**
+     * Sums up the given amounts of one currency, splitting the work into fork/join tasks, see
+     * {@link #sumByCurrencyParallel(java.util.Collection)}.
+     *
+     * @param amounts      the amounts, not null, not containing null.
+     * @param currencyUnit the currency of the amounts, not null.
+     * @return the total, zero if no amounts are given.
+     * @throws MonetaryException if an amount has another currency.
+     */
+    public static MonetaryAmount sumParallel(Collection<? extends MonetaryAmount> amounts, CurrencyUnit currencyUnit){
+        return getSingleTotal(sumByCurrencyParallel(amounts), currencyUnit);
+    }
+
+    /**
+     * Sums up the given amounts of one currency, splitting the work into fork/join tasks, see
+     * {@link #sumByCurrencyParallel(java.util.Collection)}.
+     *
+     * @param amounts      the amounts, not null, not containing null.
+     * @param currencyUnit the currency of the amounts, not null.
+     * @return the total, zero if no amounts are given.
+     * @throws MonetaryException if an amount has another currency.
+     */
+    public static MonetaryAmount sumParallel(MonetaryAmount[] amounts, CurrencyUnit currencyUnit){
+        return getSingleTotal(sumByCurrencyParallel(amounts), currencyUnit);
+    }
+
+    private static MonetaryAmount getSingleTotal(Map<CurrencyUnit,MonetaryAmount> totals, CurrencyUnit currencyUnit){
+        Objects.requireNonNull(currencyUnit);
+        if(totals.isEmpty()){
+            return FastMoney.of(0, currencyUnit);
+        }
+        for(MonetaryAmount total : totals.values()){
+            MoneyUtils.checkAmountParameter(total, currencyUnit);
+        }
+        return totals.values().iterator().next();
+    }
+
     /**
      * Returns the smaller of two {@code MonetaryAmount} values. If the arguments
      * have the same value, the result is that same value.
@@ -0,0 +1,302 @@
+package org.javamoney.moneta.function;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.spi.MoneyUtils;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A state object for estimating quantiles, such as the median or the 95th percentile, of a stream of amounts
+ * of one currency with bounded memory. This is a KLL sketch (Karnin, Lang, Liberty) on the unscaled
+ * {@code long} values of {@link FastMoney}: amounts are kept in levels of compactors, where each amount on
+ * level h stands for 2<sup>h</sup> amounts. A full level is sorted and every other amount is promoted to
+ * the next level. The capacity of the levels decreases geometrically from the top, so the sketch retains
+ * about {@code 3 * k} amounts, independent of the number of amounts accepted. With the default
+ * {@code k} of {@value #DEFAULT_K}, the rank error of a quantile is about 1%.
+ * <p>
+ * Sketches can be combined, e.g. for parallel streams. This class is not thread-safe.
+ * </p>
+ * @author Anatole Tresch
+ */
+public final class MonetaryQuantileSketch {
+
+    /**
+     * The default capacity of the top level.
+     */
+    public static final int DEFAULT_K = 200;
+
+    /**
+     * The minimal capacity of a level.
+     */
+    private static final int MIN_CAPACITY = 8;
+
+    private static final double CAPACITY_DECREASE = 2d / 3d;
+
+    /**
+     * The default seed of the xorshift generator, so results are reproducible.
+     */
+    private static final long DEFAULT_SEED = 0x9E3779B97F4A7C15L;
+
+    private final CurrencyUnit currency;
+
+    private final int k;
+
+    /**
+     * The amounts per level, as unscaled values.
+     */
+    private long[][] levels = new long[1][];
+
+    private int[] sizes = new int[1];
+
+    private long count;
+
+    private long min;
+
+    private long max;
+
+    /**
+     * The state of the xorshift generator, choosing the amounts promoted by a compaction.
+     */
+    private long random;
+
+    /**
+     * Creates a new instance, targeting the given {@link javax.money.CurrencyUnit}.
+     * @param currencyUnit the target currency, not null.
+     */
+    MonetaryQuantileSketch(CurrencyUnit currencyUnit) {
+        this(currencyUnit, DEFAULT_K, DEFAULT_SEED);
+    }
+
+    /**
+     * Creates a new instance, targeting the given {@link javax.money.CurrencyUnit}.
+     * @param currencyUnit the target currency, not null.
+     * @param k the capacity of the top level, which determines the accuracy, >= {@value #MIN_CAPACITY}.
+     * @param seed the seed choosing the amounts promoted by compactions, not 0.
+     */
+    MonetaryQuantileSketch(CurrencyUnit currencyUnit, int k, long seed) {
+        this.currency = Objects.requireNonNull(currencyUnit);
+        if (k < MIN_CAPACITY) {
+            throw new IllegalArgumentException("k < " + MIN_CAPACITY);
+        }
+        this.k = k;
+        this.levels[0] = new long[k];
+        if (seed == 0L) {
+            throw new IllegalArgumentException("seed == 0");
+        }
+        this.random = seed;
+    }
+
+    /**
+     * Records another value into the sketch.
+     *
+     * @param amount
+     *            the input amount value to be added, not null.
+     * @throws ArithmeticException if the amount can not be represented as {@link FastMoney}.
+     */
+    public void accept(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, currency);
+        long value = amount instanceof FastMoney ? ((FastMoney) amount).getUnscaledValue()
+                : FastMoney.from(amount).getUnscaledValue();
+        if (count == 0) {
+            min = value;
+            max = value;
+        } else if (value < min) {
+            min = value;
+        } else if (value > max) {
+            max = value;
+        }
+        count++;
+        append(0, value);
+        compress();
+    }
+
+    /**
+     * Combines the state of another {@code MonetaryQuantileSketch} into this one.
+     * @param sketch
+     *            another {@code MonetaryQuantileSketch}, not null.
+     */
+    public MonetaryQuantileSketch combine(MonetaryQuantileSketch sketch) {
+        Objects.requireNonNull(sketch);
+        MoneyUtils.checkAmountParameter(FastMoney.of(0, sketch.currency), currency);
+        if (sketch.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            min = sketch.min;
+            max = sketch.max;
+        } else {
+            min = Math.min(min, sketch.min);
+            max = Math.max(max, sketch.max);
+        }
+        count += sketch.count;
+        for (int h = 0; h < sketch.levels.length; h++) {
+            for (int i = 0; i < sketch.sizes[h]; i++) {
+                append(h, sketch.levels[h][i]);
+            }
+        }
+        compress();
+        return this;
+    }
+
+    private void append(int level, long value) {
+        if (level >= levels.length) {
+            int length = levels.length;
+            levels = Arrays.copyOf(levels, level + 1);
+            sizes = Arrays.copyOf(sizes, level + 1);
+            for (int h = length; h <= level; h++) {
+                levels[h] = new long[MIN_CAPACITY];
+            }
+        }
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], sizes[level] * 2);
+        }
+        levels[level][sizes[level]++] = value;
+    }
+
+    private int capacity(int level) {
+        int depth = levels.length - level - 1;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECREASE, depth)));
+    }
+
+    /**
+     * Compacts all levels exceeding their capacity, promoting half of their amounts to the next level.
+     */
+    private void compress() {
+        for (int h = 0; h < levels.length; h++) {
+            if (sizes[h] >= capacity(h)) {
+                compact(h);
+            }
+        }
+    }
+
+    private void compact(int level) {
+        int size = sizes[level];
+        long[] values = levels[level];
+        Arrays.sort(values, 0, size);
+        random ^= random << 13;
+        random ^= random >>> 7;
+        random ^= random << 17;
+        int pairs = size & ~1;
+        for (int i = (int) (random & 1L); i < pairs; i += 2) {
+            append(level + 1, values[i]);
+        }
+        if (size != pairs) {
+            values[0] = values[size - 1];
+            sizes[level] = 1;
+        } else {
+            sizes[level] = 0;
+        }
+    }
+
+    /**
+     * Get the number of items added to this sketch.
+     * @return the number of items, >= 0.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get the minimal amount added, which is exact.
+     * @return the minimal amount, or zero if no amount was added to this sketch.
+     */
+    public MonetaryAmount getMin() {
+        return FastMoney.ofUnscaled(count == 0 ? 0L : min, currency);
+    }
+
+    /**
+     * Get the maximal amount added, which is exact.
+     * @return the maximal amount, or zero if no amount was added to this sketch.
+     */
+    public MonetaryAmount getMax() {
+        return FastMoney.ofUnscaled(count == 0 ? 0L : max, currency);
+    }
+
+    /**
+     * Get the estimated quantile, e.g. {@code 0.5} for the median or {@code 0.99} for the 99th percentile.
+     * @param quantile the quantile, 0 &lt;= quantile &lt;= 1.
+     * @return the estimated amount at the quantile, or zero if no amount was added to this sketch.
+     */
+    public MonetaryAmount getQuantile(double quantile) {
+        return getQuantiles(quantile)[0];
+    }
+
+    /**
+     * Get several estimated quantiles, sorting the retained amounts only once.
+     * @param quantiles the quantiles, each 0 &lt;= quantile &lt;= 1.
+     * @return the estimated amounts, in the order of the quantiles given.
+     */
+    public MonetaryAmount[] getQuantiles(double... quantiles) {
+        for (double quantile : quantiles) {
+            if (!(quantile >= 0d && quantile <= 1d)) {
+                throw new IllegalArgumentException("Quantile must be within [0, 1]: " + quantile);
+            }
+        }
+        MonetaryAmount[] result = new MonetaryAmount[quantiles.length];
+        if (count == 0) {
+            Arrays.fill(result, FastMoney.of(0, currency));
+            return result;
+        }
+        int retained = getRetained();
+        long[] values = new long[retained];
+        int[] heights = new int[retained];
+        Integer[] order = new Integer[retained];
+        int index = 0;
+        for (int h = 0; h < levels.length; h++) {
+            for (int i = 0; i < sizes[h]; i++) {
+                values[index] = levels[h][i];
+                heights[index] = h;
+                order[index] = index;
+                index++;
+            }
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(values[a], values[b]));
+        long totalWeight = 0L;
+        for (int i = 0; i < retained; i++) {
+            totalWeight += 1L << heights[i];
+        }
+        for (int q = 0; q < quantiles.length; q++) {
+            long value;
+            if (quantiles[q] == 0d) {
+                value = min;
+            } else if (quantiles[q] == 1d) {
+                value = max;
+            } else {
+                double target = quantiles[q] * totalWeight;
+                long cumulative = 0L;
+                value = max;
+                for (Integer i : order) {
+                    cumulative += 1L << heights[i];
+                    if (cumulative >= target) {
+                        value = values[i];
+                        break;
+                    }
+                }
+            }
+            result[q] = FastMoney.ofUnscaled(value, currency);
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of amounts retained by this sketch.
+     * @return the number of amounts retained.
+     */
+    int getRetained() {
+        int retained = 0;
+        for (int size : sizes) {
+            retained += size;
+        }
+        return retained;
+    }
+
+    @Override
+    public String toString() {
+        return "MonetaryQuantileSketch [currency:" + currency + ",count:" + count + ",retained:" + getRetained()
+                + "]";
+    }
+
+}
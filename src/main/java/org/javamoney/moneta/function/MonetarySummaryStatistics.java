@@ -1,31 +1,72 @@
 package org.javamoney.moneta.function;
 
 import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
 import org.javamoney.moneta.spi.MoneyUtils;
 
 import javax.money.CurrencyUnit;
 import javax.money.MonetaryAmount;
+import javax.money.MonetaryContext;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
 import java.util.Objects;
 
 /**
  * A state object for collecting statistics such as count, min, max, sum, and
- * average.
+ * average, as well as variance and standard deviation.
+ * <p>
+ * As long as only {@link FastMoney} amounts are accepted, the sum, minimum and maximum are kept as
+ * unscaled {@code long} values, otherwise as {@link BigDecimal}. The average and the other results are
+ * only evaluated when accessed, so accepting an amount costs a few primitive operations.
+ * </p>
  * @author otaviojava
  * @author Anatole Tresch
  */
 public class MonetarySummaryStatistics {
 
+    /**
+     * The number of major units per unscaled {@link FastMoney} value, 10^scale.
+     */
+    private static final double UNSCALED_FACTOR = Math.pow(10, FastMoney.MAX_VALUE.getScale());
+
 	private final MonetaryAmount empty;
 
 	private long count;
 
+    /**
+     * The first amount accepted, its factory creates the results.
+     */
+    private MonetaryAmount template;
+
+    /**
+     * True, as long as the state is kept in {@link #unscaledSum}, {@link #unscaledMin} and
+     * {@link #unscaledMax}.
+     */
+    private boolean unscaled;
+
+    private long unscaledSum;
+
+    private long unscaledMin;
+
+    private long unscaledMax;
+
+    private BigDecimal sum;
+
+    private BigDecimal minNumber;
+
+    private BigDecimal maxNumber;
+
 	private MonetaryAmount min;
 
 	private MonetaryAmount max;
 
-	private MonetaryAmount sum;
+    /**
+     * The running mean and sum of squared deviations (Welford), in major units.
+     */
+    private double mean;
 
-	private MonetaryAmount average;
+    private double squaredDeviations;
 
     /**
      * Creates a new instance, targeting the given {@link javax.money.CurrencyUnit}.
@@ -33,7 +74,6 @@ public class MonetarySummaryStatistics {
      */
     MonetarySummaryStatistics(CurrencyUnit currencyUnit) {
 		empty = FastMoney.of(0, Objects.requireNonNull(currencyUnit));
-		setSameMonetary(empty);
 	}
 
 	/**
@@ -45,13 +85,87 @@ public class MonetarySummaryStatistics {
     public void accept(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, this.empty.getCurrency());
         if (isEmpty()) {
-            setSameMonetary(amount);
-            count++;
-		} else {
-            doSummary(amount);
+            template = amount;
+            unscaled = amount instanceof FastMoney;
+        }
+        double value;
+        if (unscaled && amount instanceof FastMoney) {
+            long unscaledValue = ((FastMoney) amount).getUnscaledValue();
+            acceptUnscaled(amount, unscaledValue);
+            value = unscaledValue / UNSCALED_FACTOR;
+        } else {
+            switchToBigDecimal();
+            BigDecimal number = amount.getNumber().numberValue(BigDecimal.class);
+            acceptBigDecimal(amount, number);
+            value = number.doubleValue();
         }
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (value - mean);
 	}
 
+    private void acceptUnscaled(MonetaryAmount amount, long unscaledValue) {
+        if (isEmpty()) {
+            unscaledSum = unscaledValue;
+            unscaledMin = unscaledValue;
+            unscaledMax = unscaledValue;
+            return;
+        }
+        long newSum = unscaledSum + unscaledValue;
+        if (((unscaledSum ^ newSum) & (unscaledValue ^ newSum)) < 0) {
+            switchToBigDecimal();
+            acceptBigDecimal(amount, amount.getNumber().numberValue(BigDecimal.class));
+            return;
+        }
+        unscaledSum = newSum;
+        if (unscaledValue < unscaledMin) {
+            unscaledMin = unscaledValue;
+        } else if (unscaledValue > unscaledMax) {
+            unscaledMax = unscaledValue;
+        }
+    }
+
+    private void acceptBigDecimal(MonetaryAmount amount, BigDecimal number) {
+        if (isEmpty()) {
+            sum = number;
+            minNumber = number;
+            maxNumber = number;
+            min = amount;
+            max = amount;
+            return;
+        }
+        sum = sum.add(number);
+        if (number.compareTo(minNumber) < 0) {
+            minNumber = number;
+            min = amount;
+        } else if (number.compareTo(maxNumber) > 0) {
+            maxNumber = number;
+            max = amount;
+        }
+    }
+
+    /**
+     * Converts the unscaled state, if any, into the {@link BigDecimal} state.
+     */
+    private void switchToBigDecimal() {
+        if (!unscaled) {
+            return;
+        }
+        unscaled = false;
+        if (!isEmpty()) {
+            sum = toBigDecimal(unscaledSum);
+            minNumber = toBigDecimal(unscaledMin);
+            maxNumber = toBigDecimal(unscaledMax);
+            min = FastMoney.ofUnscaled(unscaledMin, empty.getCurrency());
+            max = FastMoney.ofUnscaled(unscaledMax, empty.getCurrency());
+        }
+    }
+
+    private static BigDecimal toBigDecimal(long unscaledValue) {
+        return BigDecimal.valueOf(unscaledValue, FastMoney.MAX_VALUE.getScale());
+    }
+
 	/**
 	 * Combines the state of another {@code MonetarySummaryStatistics} into this
      * one.
@@ -60,32 +174,66 @@ public class MonetarySummaryStatistics {
      */
     public MonetarySummaryStatistics combine(MonetarySummaryStatistics summaryStatistics) {
         Objects.requireNonNull(summaryStatistics);
-        min = MonetaryFunctions.min(min, summaryStatistics.min);
-        max = MonetaryFunctions.max(max, summaryStatistics.max);
-        sum = sum.add(summaryStatistics.sum);
-        count += summaryStatistics.count;
-        average = sum.divide(count);
+        MoneyUtils.checkAmountParameter(summaryStatistics.empty, this.empty.getCurrency());
+        if (summaryStatistics.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            copy(summaryStatistics);
+            return this;
+        }
+        long newSum = unscaledSum + summaryStatistics.unscaledSum;
+        if (unscaled && summaryStatistics.unscaled
+                && ((unscaledSum ^ newSum) & (summaryStatistics.unscaledSum ^ newSum)) >= 0) {
+            unscaledSum = newSum;
+            unscaledMin = Math.min(unscaledMin, summaryStatistics.unscaledMin);
+            unscaledMax = Math.max(unscaledMax, summaryStatistics.unscaledMax);
+        } else {
+            switchToBigDecimal();
+            MonetaryAmount otherMin = summaryStatistics.getMin();
+            MonetaryAmount otherMax = summaryStatistics.getMax();
+            BigDecimal otherMinNumber = otherMin.getNumber().numberValue(BigDecimal.class);
+            BigDecimal otherMaxNumber = otherMax.getNumber().numberValue(BigDecimal.class);
+            sum = sum.add(summaryStatistics.unscaled ? toBigDecimal(summaryStatistics.unscaledSum)
+                    : summaryStatistics.sum);
+            if (otherMinNumber.compareTo(minNumber) < 0) {
+                minNumber = otherMinNumber;
+                min = otherMin;
+            }
+            if (otherMaxNumber.compareTo(maxNumber) > 0) {
+                maxNumber = otherMaxNumber;
+                max = otherMax;
+            }
+        }
+        long newCount = count + summaryStatistics.count;
+        double delta = summaryStatistics.mean - mean;
+        mean += delta * summaryStatistics.count / newCount;
+        squaredDeviations += summaryStatistics.squaredDeviations
+                + delta * delta * count * summaryStatistics.count / newCount;
+        count = newCount;
 		return this;
 	}
 
-	private void doSummary(MonetaryAmount moneraty) {
-		min = MonetaryFunctions.min(min, moneraty);
-		max = MonetaryFunctions.max(max, moneraty);
-		sum = sum.add(moneraty);
-		average = sum.divide(++count);
-	}
+    private void copy(MonetarySummaryStatistics other) {
+        count = other.count;
+        template = other.template;
+        unscaled = other.unscaled;
+        unscaledSum = other.unscaledSum;
+        unscaledMin = other.unscaledMin;
+        unscaledMax = other.unscaledMax;
+        sum = other.sum;
+        minNumber = other.minNumber;
+        maxNumber = other.maxNumber;
+        min = other.min;
+        max = other.max;
+        mean = other.mean;
+        squaredDeviations = other.squaredDeviations;
+    }
 
 	private boolean isEmpty() {
 		return count == 0;
 	}
 
-	private void setSameMonetary(MonetaryAmount monetary) {
-		min = monetary;
-		max = monetary;
-		sum = monetary;
-		average = monetary;
-    }
-
     /**
      * Get the number of items added to this summary instance.
      * @return the number of summarized items, >= 0.
@@ -96,45 +244,109 @@ public class MonetarySummaryStatistics {
 
     /**
      * Get the minimal amount found within this summary.
-     * @return the minimal amount, or null if no amount was added to this summary instance.
+     * @return the minimal amount, or zero if no amount was added to this summary instance.
      */
     public MonetaryAmount getMin() {
-		return min;
+        if (isEmpty()) {
+            return empty;
+        }
+        return unscaled ? FastMoney.ofUnscaled(unscaledMin, empty.getCurrency()) : min;
     }
 
     /**
      * Get the maximal amount found within this summary.
-     * @return the minimal amount, or null if no amount was added to this summary instance.
+     * @return the maximal amount, or zero if no amount was added to this summary instance.
      */
     public MonetaryAmount getMax() {
-		return max;
+        if (isEmpty()) {
+            return empty;
+        }
+        return unscaled ? FastMoney.ofUnscaled(unscaledMax, empty.getCurrency()) : max;
     }
 
     /**
-     * Get the sum of all amounts within this summary.
-     * @return the total amount, or null if no amount was added to this summary instance.
+     * Get the sum of all amounts within this summary. The sum has the type of the first amount added, or is a
+     * {@link Money}, if it can not be represented by that type, e.g. if a sum of {@link FastMoney} amounts
+     * overflows.
+     * @return the total amount, or zero if no amount was added to this summary instance.
      */
     public MonetaryAmount getSum() {
-		return sum;
+        if (isEmpty()) {
+            return empty;
+        }
+        if (unscaled) {
+            return FastMoney.ofUnscaled(unscaledSum, empty.getCurrency());
+        }
+        return createAmount(sum);
     }
 
     /**
-     * Get the mean average of all amounts added.
-     * @return the mean average amount, or null if no amount was added to this summary instance.
+     * Get the mean average of all amounts added. The average is evaluated from the exact sum, so it is also
+     * available, if the sum can not be represented by the type of the first amount added. The average has
+     * that type, or is a {@link Money}, if it can not be represented by that type either.
+     * @return the mean average amount, or zero if no amount was added to this summary instance.
      */
     public MonetaryAmount getAverage() {
-		return average;
+        if (isEmpty()) {
+            return empty;
+        }
+        if (unscaled) {
+            return getSum().divide(count);
+        }
+        MonetaryContext context = template.getMonetaryContext();
+        MathContext mathContext = MoneyUtils.getMathContext(context, RoundingMode.HALF_EVEN);
+        if (mathContext.getPrecision() == 0) {
+            mathContext = new MathContext(MathContext.DECIMAL128.getPrecision(), mathContext.getRoundingMode());
+        }
+        BigDecimal average = sum.divide(BigDecimal.valueOf(count), mathContext);
+        int maxScale = context.getMaxScale();
+        if (maxScale >= 0 && average.scale() > maxScale) {
+            average = average.setScale(maxScale, mathContext.getRoundingMode());
+        }
+        return createAmount(average);
 	}
 
+    /**
+     * Creates an amount of the type of the first amount added, or a {@link Money}, if the number can not be
+     * represented by that type.
+     * @param number the number, not null.
+     * @return the amount, not null.
+     */
+    private MonetaryAmount createAmount(BigDecimal number) {
+        try {
+            return template.getFactory().setNumber(number).create();
+        } catch (ArithmeticException e) {
+            return Money.of(number, empty.getCurrency());
+        }
+    }
+
+    /**
+     * Get the population variance of all amounts added, evaluated in major units of the currency
+     * with {@code double} precision.
+     * @return the variance, or zero if no amount was added to this summary instance.
+     */
+    public double getVariance() {
+        return isEmpty() ? 0d : squaredDeviations / count;
+    }
+
+    /**
+     * Get the population standard deviation of all amounts added, evaluated in major units of the
+     * currency with {@code double} precision.
+     * @return the standard deviation, or zero if no amount was added to this summary instance.
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
 		sb.append("[count:").append(count).append(",");
-		sb.append("min:").append(min).append(",");
-		sb.append("max:").append(max).append(",");
-		sb.append("sum:").append(sum).append(",");
-		sb.append("average:").append(average).append("]");
+		sb.append("min:").append(getMin()).append(",");
+		sb.append("max:").append(getMax()).append(",");
+		sb.append("sum:").append(getSum()).append(",");
+		sb.append("average:").append(getAverage()).append("]");
 		return sb.toString();
 	}
 
-}
\ No newline at end of file
+}
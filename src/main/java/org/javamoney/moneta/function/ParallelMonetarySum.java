@@ -0,0 +1,165 @@
+package org.javamoney.moneta.function;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+
+/**
+ * Internal fork/join task summing up amounts per currency. The amounts are split into ranges, each range is
+ * summed up into exact partial sums, which are merged when the tasks join: {@link FastMoney} amounts are
+ * accumulated as unscaled {@code long} values, other amounts and {@code long} overflows as
+ * {@link BigDecimal}.
+ */
+final class ParallelMonetarySum extends RecursiveTask<Map<String, ParallelMonetarySum.PartialSum>> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of amounts summed up sequentially by one task.
+     */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 12;
+
+    private static final int FAST_MONEY_SCALE = FastMoney.MAX_VALUE.getScale();
+
+    private final List<? extends MonetaryAmount> amounts;
+
+    private final int from;
+
+    private final int to;
+
+    private ParallelMonetarySum(List<? extends MonetaryAmount> amounts, int from, int to) {
+        this.amounts = amounts;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Sums up the given amounts per currency.
+     *
+     * @param amounts the amounts, with random access, not null.
+     * @return the totals per currency, in order of the currencies' first occurrence.
+     */
+    static Map<CurrencyUnit, MonetaryAmount> sumByCurrency(List<? extends MonetaryAmount> amounts) {
+        ParallelMonetarySum task = new ParallelMonetarySum(amounts, 0, amounts.size());
+        Map<String, PartialSum> partialSums = amounts.size() <= SEQUENTIAL_THRESHOLD ? task.compute()
+                : ForkJoinPool.commonPool().invoke(task);
+        Map<CurrencyUnit, MonetaryAmount> result = new LinkedHashMap<>();
+        for (PartialSum partialSum : partialSums.values()) {
+            result.put(partialSum.currency, partialSum.toAmount());
+        }
+        return result;
+    }
+
+    @Override
+    protected Map<String, PartialSum> compute() {
+        if (to - from <= SEQUENTIAL_THRESHOLD) {
+            return sumSequentially();
+        }
+        int middle = (from + to) >>> 1;
+        ParallelMonetarySum left = new ParallelMonetarySum(amounts, from, middle);
+        left.fork();
+        Map<String, PartialSum> result = new ParallelMonetarySum(amounts, middle, to).compute();
+        Map<String, PartialSum> leftResult = left.join();
+        for (PartialSum partialSum : result.values()) {
+            PartialSum leftSum = leftResult.get(partialSum.currency.getCurrencyCode());
+            if (leftSum == null) {
+                leftResult.put(partialSum.currency.getCurrencyCode(), partialSum);
+            } else {
+                leftSum.merge(partialSum);
+            }
+        }
+        return leftResult;
+    }
+
+    private Map<String, PartialSum> sumSequentially() {
+        Map<String, PartialSum> result = new LinkedHashMap<>();
+        CurrencyUnit lastCurrency = null;
+        PartialSum partialSum = null;
+        for (int i = from; i < to; i++) {
+            MonetaryAmount amount = Objects.requireNonNull(amounts.get(i), "Amount must not be null.");
+            CurrencyUnit currency = amount.getCurrency();
+            if (currency != lastCurrency) {
+                partialSum = result.get(currency.getCurrencyCode());
+                if (partialSum == null) {
+                    partialSum = new PartialSum(currency);
+                    result.put(currency.getCurrencyCode(), partialSum);
+                }
+                lastCurrency = currency;
+            }
+            partialSum.add(amount);
+        }
+        return result;
+    }
+
+    /**
+     * The exact sum of the amounts of one currency.
+     */
+    static final class PartialSum {
+
+        private final CurrencyUnit currency;
+
+        private long unscaled;
+
+        private BigDecimal decimal;
+
+        private boolean fastMoneyOnly = true;
+
+        PartialSum(CurrencyUnit currency) {
+            this.currency = currency;
+        }
+
+        void add(MonetaryAmount amount) {
+            if (amount instanceof FastMoney) {
+                addUnscaled(((FastMoney) amount).getUnscaledValue());
+            } else {
+                fastMoneyOnly = false;
+                addDecimal(amount.getNumber().numberValue(BigDecimal.class));
+            }
+        }
+
+        private void addUnscaled(long value) {
+            long sum = unscaled + value;
+            if (((unscaled ^ sum) & (value ^ sum)) < 0) {
+                addDecimal(BigDecimal.valueOf(unscaled, FAST_MONEY_SCALE));
+                sum = value;
+            }
+            unscaled = sum;
+        }
+
+        private void addDecimal(BigDecimal value) {
+            decimal = decimal == null ? value : decimal.add(value);
+        }
+
+        void merge(PartialSum other) {
+            addUnscaled(other.unscaled);
+            if (other.decimal != null) {
+                addDecimal(other.decimal);
+            }
+            fastMoneyOnly &= other.fastMoneyOnly;
+        }
+
+        CurrencyUnit getCurrency() {
+            return currency;
+        }
+
+        MonetaryAmount toAmount() {
+            if (decimal == null) {
+                return fastMoneyOnly ? FastMoney.ofUnscaled(unscaled, currency)
+                        : Money.of(BigDecimal.valueOf(unscaled, FAST_MONEY_SCALE), currency);
+            }
+            return Money.of(decimal.add(BigDecimal.valueOf(unscaled, FAST_MONEY_SCALE)), currency);
+        }
+    }
+
+}
@@ -74,7 +74,10 @@ public class ConfigurableCurrencyUnitProvider implements CurrencyProviderSpi{
      */
     public static CurrencyUnit registerCurrencyUnit(CurrencyUnit currencyUnit){
         Objects.requireNonNull(currencyUnit);
-        return ConfigurableCurrencyUnitProvider.currencyUnits.put(currencyUnit.getCurrencyCode(), currencyUnit);
+        CurrencyUnit previous =
+                ConfigurableCurrencyUnitProvider.currencyUnits.put(currencyUnit.getCurrencyCode(), currencyUnit);
+        CurrencyUnitRegistry.invalidate();
+        return previous;
     }
 
     /**
@@ -96,7 +99,9 @@ public class ConfigurableCurrencyUnitProvider implements CurrencyProviderSpi{
      */
     public static CurrencyUnit removeCurrencyUnit(String currencyCode){
         Objects.requireNonNull(currencyCode);
-        return ConfigurableCurrencyUnitProvider.currencyUnits.remove(currencyCode);
+        CurrencyUnit removed = ConfigurableCurrencyUnitProvider.currencyUnits.remove(currencyCode);
+        CurrencyUnitRegistry.invalidate();
+        return removed;
     }
 
     /**
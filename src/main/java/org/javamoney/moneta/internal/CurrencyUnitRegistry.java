@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal;
+
+import javax.money.CurrencyQueryBuilder;
+import javax.money.CurrencyUnit;
+import javax.money.spi.Bootstrap;
+import javax.money.spi.CurrencyProviderSpi;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registry of the interned {@link CurrencyUnit} instances provided by the {@link JDKCurrencyProvider} and the
+ * {@link ConfigurableCurrencyUnitProvider}, for looking up currencies by code without querying the providers.
+ * Three letter ISO codes are indexed by a perfect hash into an array of 26<sup>3</sup> entries, other codes
+ * are kept in a map. The registry is rebuilt lazily after {@link #invalidate()} was called, e.g. when a
+ * currency was registered.
+ * <p>
+ * The registry only contains codes provided unambiguously, and it is disabled if other currency providers are
+ * registered, since their currencies may change without notice. In both cases {@link #getCurrency(String)}
+ * returns null, so callers fall back to querying the providers.
+ * </p>
+ *
+ * @author Anatole Tresch
+ */
+final class CurrencyUnitRegistry{
+
+    private static final int LETTERS = 26;
+
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private static volatile Snapshot snapshot;
+
+    private CurrencyUnitRegistry(){
+    }
+
+    /**
+     * Access the currency with the given code.
+     *
+     * @param currencyCode the currency code, not null.
+     * @return the currency, or null, if the code is not registered unambiguously.
+     */
+    static CurrencyUnit getCurrency(String currencyCode){
+        Snapshot current = snapshot;
+        if(current == null || current.version != VERSION.get()){
+            current = createSnapshot();
+            snapshot = current;
+        }
+        int index = indexOf(currencyCode);
+        if(index >= 0){
+            return current.isoCurrencies[index];
+        }
+        return current.otherCurrencies.get(currencyCode);
+    }
+
+    /**
+     * Invalidates the registry, so it is rebuilt on the next lookup.
+     */
+    static void invalidate(){
+        VERSION.incrementAndGet();
+        snapshot = null;
+    }
+
+    /**
+     * Evaluates the perfect hash of a three letter upper case code.
+     *
+     * @param currencyCode the currency code.
+     * @return the index, or -1, if the code does not consist of three letters A-Z.
+     */
+    private static int indexOf(String currencyCode){
+        if(currencyCode.length() != 3){
+            return -1;
+        }
+        int index = 0;
+        for(int i = 0; i < 3; i++){
+            int letter = currencyCode.charAt(i) - 'A';
+            if(letter < 0 || letter >= LETTERS){
+                return -1;
+            }
+            index = index * LETTERS + letter;
+        }
+        return index;
+    }
+
+    private static Snapshot createSnapshot(){
+        long version = VERSION.get();
+        CurrencyUnit[] isoCurrencies = new CurrencyUnit[LETTERS * LETTERS * LETTERS];
+        Map<String,CurrencyUnit> otherCurrencies = new HashMap<>();
+        Collection<CurrencyProviderSpi> providers = Bootstrap.getServices(CurrencyProviderSpi.class);
+        for(CurrencyProviderSpi provider : providers){
+            if(!(provider instanceof JDKCurrencyProvider) && !(provider instanceof ConfigurableCurrencyUnitProvider)){
+                return new Snapshot(version, isoCurrencies, otherCurrencies);
+            }
+        }
+        Map<String,CurrencyUnit> currencies = new HashMap<>();
+        Set<String> ambiguousCodes = new HashSet<>();
+        for(CurrencyProviderSpi provider : providers){
+            for(CurrencyUnit currency : provider.getCurrencies(CurrencyQueryBuilder.of().build())){
+                CurrencyUnit previous = currencies.put(currency.getCurrencyCode(), currency);
+                if(previous != null && !previous.equals(currency)){
+                    ambiguousCodes.add(currency.getCurrencyCode());
+                }
+            }
+        }
+        currencies.keySet().removeAll(ambiguousCodes);
+        for(Map.Entry<String,CurrencyUnit> entry : currencies.entrySet()){
+            int index = indexOf(entry.getKey());
+            if(index >= 0){
+                isoCurrencies[index] = entry.getValue();
+            }else{
+                otherCurrencies.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return new Snapshot(version, isoCurrencies, otherCurrencies);
+    }
+
+    /**
+     * The immutable state of the registry, valid as long as {@link #VERSION} is not changed.
+     */
+    private static final class Snapshot{
+
+        private final long version;
+
+        private final CurrencyUnit[] isoCurrencies;
+
+        private final Map<String,CurrencyUnit> otherCurrencies;
+
+        private Snapshot(long version, CurrencyUnit[] isoCurrencies, Map<String,CurrencyUnit> otherCurrencies){
+            this.version = version;
+            this.isoCurrencies = isoCurrencies;
+            this.otherCurrencies = otherCurrencies;
+        }
+    }
+
+}
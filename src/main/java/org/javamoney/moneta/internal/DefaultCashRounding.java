@@ -15,6 +15,10 @@
  */
 package org.javamoney.moneta.internal;
 
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.spi.BatchRounding;
+import org.javamoney.moneta.spi.FixedPointArithmetic;
+
 import javax.money.*;
 import java.io.Serializable;
 import java.math.BigDecimal;
@@ -31,7 +35,7 @@ import java.util.Optional;
  *
  * @author Anatole Tresch
  */
-final class DefaultCashRounding implements MonetaryRounding, Serializable{
+final class DefaultCashRounding implements BatchRounding, Serializable{
 
     /**
      * The scale key to be used.
@@ -54,6 +58,20 @@ final class DefaultCashRounding implements MonetaryRounding, Serializable{
 
     private RoundingContext context;
 
+    /**
+     * The target scale, as also contained in {@link #context}.
+     */
+    private final int scale;
+
+    /**
+     * The {@link RoundingMode} used, as also contained in {@link #context}.
+     */
+    private final RoundingMode roundingMode;
+
+    /**
+     * The minimal minor units, as also contained in {@link #context}.
+     */
+    private final int minimalMinors;
 
     /**
      * Creates an rounding instance.
@@ -65,6 +83,9 @@ final class DefaultCashRounding implements MonetaryRounding, Serializable{
         if(scale < 0){
             throw new IllegalArgumentException("scale < 0");
         }
+        this.scale = scale;
+        this.roundingMode = roundingMode;
+        this.minimalMinors = minimalMinors;
         this.context = RoundingContextBuilder.of("default", "default").set(CASHROUNDING_KEY, true).
                 set(PROVCLASS_KEY, getClass().getName()).set(MINMINORS_KEY, minimalMinors).set(SCALE_KEY, scale)
                 .set(Optional.ofNullable(roundingMode)
@@ -103,33 +124,83 @@ final class DefaultCashRounding implements MonetaryRounding, Serializable{
     @Override
     public MonetaryAmount apply(MonetaryAmount value){
         Objects.requireNonNull(value, "Amount required.");
-        // 1 extract BD value, round according the default fraction units
-        int scale = this.context.getInt(SCALE_KEY);
-        RoundingMode roundingMode = this.context.get(RoundingMode.class);
-        BigDecimal num = value.getNumber().numberValue(BigDecimal.class).setScale(scale, roundingMode);
+        if(value instanceof FastMoney && this.scale <= ((FastMoney) value).getScale()){
+            return round((FastMoney) value);
+        }
+        BigDecimal num = value.getNumber().numberValue(BigDecimal.class);
+        long minors;
+        if(num.precision() <= FixedPointArithmetic.MAX_POWER_OF_TEN){
+            // 1 round to the minor units of the currency, using long arithmetic
+            long unscaled = num.scale() == 0 ? num.longValue() : num.unscaledValue().longValue();
+            minors = FixedPointArithmetic.scaleByPowerOfTen(unscaled, this.scale - num.scale(), this.roundingMode);
+        }else{
+            // 1 extract BD value, round according the default fraction units
+            minors = num.setScale(this.scale, this.roundingMode).unscaledValue().longValueExact();
+        }
         // 2 evaluate minor units and remainder
-        long minors = num.movePointRight(num.scale()).longValueExact();
-        int minimalMinors = this.context.getInt(MINMINORS_KEY);
-        long factor = minors / minimalMinors;
-        long low = minimalMinors * factor;
-        long high = minimalMinors * (factor + 1);
+        minors = roundMinors(minors);
+        return value.getFactory().setCurrency(value.getCurrency()).setNumber(BigDecimal.valueOf(minors, this.scale))
+                .create();
+    }
+
+    /**
+     * Rounds a {@link FastMoney} directly on its unscaled {@code long} value.
+     *
+     * @param amount the amount, not null.
+     * @return the rounded amount.
+     * @throws ArithmeticException if the rounded value exceeds the range of {@link FastMoney}.
+     */
+    private FastMoney round(FastMoney amount){
+        long unscaled = amount.getUnscaledValue();
+        long rounded = roundUnscaled(unscaled, amount.getScale());
+        if(rounded == unscaled){
+            return amount;
+        }
+        return FastMoney.ofUnscaled(rounded, amount.getCurrency());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.javamoney.moneta.spi.BatchRounding#roundUnscaled(long, int)
+     */
+    @Override
+    public long roundUnscaled(long unscaledValue, int scale){
+        if(this.scale <= scale){
+            long factor = FixedPointArithmetic.powerOfTen(scale - this.scale);
+            long minors = roundMinors(FixedPointArithmetic.divide(unscaledValue, factor, this.roundingMode));
+            return Math.multiplyExact(minors, factor);
+        }
+        long factor = FixedPointArithmetic.powerOfTen(this.scale - scale);
+        long minors = roundMinors(Math.multiplyExact(unscaledValue, factor));
+        if(minors % factor != 0L){
+            throw new ArithmeticException("Cash rounding result can not be represented with scale " + scale);
+        }
+        return minors / factor;
+    }
+
+    /**
+     * Rounds the given minor units to a multiple of the minimal minor units.
+     *
+     * @param minors the minor units, already rounded to the target scale.
+     * @return the rounded minor units.
+     */
+    private long roundMinors(long minors){
+        long factor = minors / this.minimalMinors;
+        long low = this.minimalMinors * factor;
+        long high = this.minimalMinors * (factor + 1);
         if(minors - low > high - minors){
-            minors = high;
+            return high;
         }else if(minors - low < high - minors){
-            minors = low;
-        }else{
-            switch(roundingMode){
-                case HALF_UP:
-                case UP:
-                case HALF_EVEN:
-                    minors = high;
-                    break;
-                default:
-                    minors = low;
-            }
+            return low;
+        }
+        switch(this.roundingMode){
+            case HALF_UP:
+            case UP:
+            case HALF_EVEN:
+                return high;
+            default:
+                return low;
         }
-        return value.getFactory().setCurrency(value.getCurrency())
-                .setNumber(BigDecimal.valueOf(minors).movePointLeft(scale)).create();
     }
 
     @Override
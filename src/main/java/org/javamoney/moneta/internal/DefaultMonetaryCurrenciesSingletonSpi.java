@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal;
+
+import javax.money.CurrencyQuery;
+import javax.money.CurrencyUnit;
+import javax.money.spi.Bootstrap;
+import javax.money.spi.CurrencyProviderSpi;
+import javax.money.spi.MonetaryCurrenciesSingletonSpi;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Default implementation of the {@link MonetaryCurrenciesSingletonSpi}, combining the currencies of all
+ * registered {@link CurrencyProviderSpi} instances. Lookups by currency code without explicit providers are
+ * served by the {@link CurrencyUnitRegistry}, and only fall back to querying the providers, if the registry
+ * does not contain the code.
+ *
+ * @author Anatole Tresch
+ */
+public class DefaultMonetaryCurrenciesSingletonSpi implements MonetaryCurrenciesSingletonSpi{
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.spi.MonetaryCurrenciesSingletonSpi#getCurrencies(javax.money.CurrencyQuery)
+     */
+    @Override
+    public Set<CurrencyUnit> getCurrencies(CurrencyQuery query){
+        Set<CurrencyUnit> result = new HashSet<>();
+        for(CurrencyProviderSpi spi : Bootstrap.getServices(CurrencyProviderSpi.class)){
+            try{
+                result.addAll(spi.getCurrencies(query));
+            }
+            catch(Exception e){
+                Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName())
+                        .log(Level.SEVERE, "Error loading currencies from provider: " + spi.getClass().getName(), e);
+            }
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.spi.MonetaryCurrenciesSingletonSpi#getCurrency(java.lang.String, java.lang.String[])
+     */
+    @Override
+    public CurrencyUnit getCurrency(String currencyCode, String... providers){
+        if(providers.length == 0 && currencyCode != null){
+            CurrencyUnit currency = CurrencyUnitRegistry.getCurrency(currencyCode);
+            if(currency != null){
+                return currency;
+            }
+        }
+        return MonetaryCurrenciesSingletonSpi.super.getCurrency(currencyCode, providers);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.spi.MonetaryCurrenciesSingletonSpi#isCurrencyAvailable(java.lang.String,
+     * java.lang.String[])
+     */
+    @Override
+    public boolean isCurrencyAvailable(String code, String... providers){
+        if(providers.length == 0 && code != null && CurrencyUnitRegistry.getCurrency(code) != null){
+            return true;
+        }
+        return MonetaryCurrenciesSingletonSpi.super.isCurrencyAvailable(code, providers);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.spi.MonetaryCurrenciesSingletonSpi#getProviderNames()
+     */
+    @Override
+    public Set<String> getProviderNames(){
+        Set<String> result = new HashSet<>();
+        for(CurrencyProviderSpi spi : Bootstrap.getServices(CurrencyProviderSpi.class)){
+            try{
+                result.add(spi.getProviderName());
+            }
+            catch(Exception e){
+                Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName())
+                        .log(Level.SEVERE, "Error loading currency provider names for " + spi.getClass().getName(),
+                             e);
+            }
+        }
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.spi.MonetaryCurrenciesSingletonSpi#getDefaultProviderChain()
+     */
+    @Override
+    public List<String> getDefaultProviderChain(){
+        List<String> result = new ArrayList<>(getProviderNames());
+        Collections.sort(result);
+        return result;
+    }
+
+}
@@ -15,6 +15,10 @@
  */
 package org.javamoney.moneta.internal;
 
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.spi.BatchRounding;
+import org.javamoney.moneta.spi.FixedPointArithmetic;
+
 import javax.money.*;
 import java.io.Serializable;
 import java.math.BigDecimal;
@@ -33,7 +37,7 @@ import java.util.Optional;
  * @author Werner Keil
  * @see RoundingMode
  */
-final class DefaultRounding implements MonetaryRounding, Serializable{
+final class DefaultRounding implements BatchRounding, Serializable{
 
     /**
      * The scale key to be used.
@@ -50,6 +54,16 @@ final class DefaultRounding implements MonetaryRounding, Serializable{
      */
     private final RoundingContext context;
 
+    /**
+     * The target scale, as also contained in {@link #context}.
+     */
+    private final int scale;
+
+    /**
+     * The {@link RoundingMode} used, as also contained in {@link #context}.
+     */
+    private final RoundingMode roundingMode;
+
     /**
      * Creates an rounding instance.
      *
@@ -60,6 +74,8 @@ final class DefaultRounding implements MonetaryRounding, Serializable{
         if(scale < 0){
             scale = 0;
         }
+        this.scale = scale;
+        this.roundingMode = roundingMode;
         this.context = RoundingContextBuilder.of("default", "default").
                 set(PROVCLASS_KEY, getClass().getName()).set(SCALE_KEY, scale).set(Optional.ofNullable(roundingMode)
                                                                                            .orElseThrow(
@@ -88,9 +104,40 @@ final class DefaultRounding implements MonetaryRounding, Serializable{
      */
     @Override
     public MonetaryAmount apply(MonetaryAmount amount){
+        if(amount instanceof FastMoney){
+            return round((FastMoney) amount);
+        }
         return amount.getFactory().setCurrency(amount.getCurrency()).setNumber(
-                amount.getNumber().numberValue(BigDecimal.class)
-                        .setScale(this.context.getInt(SCALE_KEY), this.context.get(RoundingMode.class))).create();
+                amount.getNumber().numberValue(BigDecimal.class).setScale(this.scale, this.roundingMode)).create();
+    }
+
+    /**
+     * Rounds a {@link FastMoney} directly on its unscaled {@code long} value.
+     *
+     * @param amount the amount, not null.
+     * @return the rounded amount.
+     * @throws ArithmeticException if the rounded value exceeds the range of {@link FastMoney}.
+     */
+    private FastMoney round(FastMoney amount){
+        long unscaled = amount.getUnscaledValue();
+        long rounded = roundUnscaled(unscaled, amount.getScale());
+        if(rounded == unscaled){
+            return amount;
+        }
+        return FastMoney.ofUnscaled(rounded, amount.getCurrency());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.javamoney.moneta.spi.BatchRounding#roundUnscaled(long, int)
+     */
+    @Override
+    public long roundUnscaled(long unscaledValue, int scale){
+        if(this.scale >= scale){
+            return unscaledValue;
+        }
+        long factor = FixedPointArithmetic.powerOfTen(scale - this.scale);
+        return Math.multiplyExact(FixedPointArithmetic.divide(unscaledValue, factor, this.roundingMode), factor);
     }
 
     @Override
@@ -15,11 +15,16 @@
  */
 package org.javamoney.moneta.internal;
 
+import org.javamoney.moneta.spi.MonetaryConfig;
+
 import javax.money.*;
 import javax.money.spi.RoundingProviderSpi;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Defaulr implementation of a {@link javax.money.spi.RoundingProviderSpi} that creates instances of {@link org
@@ -29,8 +34,36 @@ import java.util.*;
 public class DefaultRoundingProvider implements RoundingProviderSpi{
 
     public static final String DEFAULT_ROUNDING_ID = "default";
+
+    /**
+     * The maximal number of roundings cached.
+     */
+    private static final int MAX_CACHED_ROUNDINGS = 1024;
+
+    /**
+     * Prefix of the configuration entries defining the minimal minor units used for cash rounding, followed by
+     * the currency code, e.g. {@code org.javamoney.moneta.cashRounding.minimalMinors.CHF=5}.
+     */
+    private static final String CASH_MINIMAL_MINORS_PREFIX = "org.javamoney.moneta.cashRounding.minimalMinors.";
+
+    /**
+     * The minimal minor units used for cash rounding per currency code. Currencies not contained use 1.
+     */
+    private static final Map<String, Integer> CASH_MINIMAL_MINORS = loadCashMinimalMinors();
+
     private Set<String> roundingsIds = new HashSet<>();
 
+    /**
+     * The roundings resolved so far.
+     */
+    private final Map<RoundingKey, MonetaryRounding> roundingCache = new ConcurrentHashMap<>();
+
+    /**
+     * The roundings resolved so far for queries only defining a currency, which are looked up without
+     * creating a key.
+     */
+    private final Map<CurrencyUnit, MonetaryRounding> currencyRoundingCache = new ConcurrentHashMap<>();
+
     public DefaultRoundingProvider(){
         roundingsIds.add(DEFAULT_ROUNDING_ID);
         roundingsIds = Collections.unmodifiableSet(roundingsIds);
@@ -42,7 +75,8 @@ public class DefaultRoundingProvider implements RoundingProviderSpi{
     }
 
     /**
-     * Evaluate the rounding that match the given query.
+     * Evaluate the rounding that match the given query. Roundings resolved are cached, so repeated queries
+     * return the same (immutable) instance.
      *
      * @return the (shared) default rounding instances matching, never null.
      */
@@ -50,15 +84,45 @@ public class DefaultRoundingProvider implements RoundingProviderSpi{
         if(roundingQuery.getTimestamp() != null){
             return null;
         }
+        CurrencyUnit currency = roundingQuery.getCurrency();
+        if(currency != null && roundingQuery.get(RoundingMode.class, null) == null &&
+                !roundingQuery.getBoolean("cashRounding", false)){
+            MonetaryRounding rounding = currencyRoundingCache.get(currency);
+            if(rounding == null){
+                rounding = new DefaultRounding(currency, RoundingMode.HALF_EVEN);
+                if(currencyRoundingCache.size() < MAX_CACHED_ROUNDINGS){
+                    MonetaryRounding existing = currencyRoundingCache.putIfAbsent(currency, rounding);
+                    if(existing != null){
+                        rounding = existing;
+                    }
+                }
+            }
+            return rounding;
+        }
+        RoundingKey key = new RoundingKey(roundingQuery);
+        MonetaryRounding rounding = roundingCache.get(key);
+        if(rounding == null){
+            rounding = createRounding(roundingQuery);
+            // only cache roundings determined by the key, not the shared default rounding
+            if(rounding instanceof DefaultRounding || rounding instanceof DefaultCashRounding){
+                if(roundingCache.size() < MAX_CACHED_ROUNDINGS){
+                    MonetaryRounding existing = roundingCache.putIfAbsent(key, rounding);
+                    if(existing != null){
+                        rounding = existing;
+                    }
+                }
+            }
+        }
+        return rounding;
+    }
+
+    private MonetaryRounding createRounding(RoundingQuery roundingQuery){
         CurrencyUnit currency = roundingQuery.getCurrency();
         if(currency != null){
             RoundingMode roundingMode = roundingQuery.get(RoundingMode.class, RoundingMode.HALF_EVEN);
             if(roundingQuery.getBoolean("cashRounding", false)){
-                if(currency.getCurrencyCode().equals("CHF")){
-                    return new DefaultCashRounding(currency, RoundingMode.HALF_UP, 5);
-                }else{
-                    return new DefaultCashRounding(currency, 1);
-                }
+                return new DefaultCashRounding(currency, RoundingMode.HALF_UP,
+                                               CASH_MINIMAL_MINORS.getOrDefault(currency.getCurrencyCode(), 1));
             }
             return new DefaultRounding(currency, roundingMode);
         }
@@ -83,6 +147,93 @@ public class DefaultRoundingProvider implements RoundingProviderSpi{
         return null;
     }
 
+    /**
+     * Checks if the given operator is a default rounding, which sets the {@code scale} of its
+     * {@link RoundingContext} using its {@link RoundingMode}, so it can be applied directly on a
+     * {@link java.math.BigDecimal}. Cash roundings are not scale roundings.
+     *
+     * @param rounding the operator, may be null.
+     * @return true, if the operator is a scale based default rounding.
+     */
+    public static boolean isScaleRounding(MonetaryOperator rounding){
+        return rounding instanceof DefaultRounding;
+    }
+
+    /**
+     * Loads the minimal minor units for cash rounding from the configuration. CHF uses 5 minor units, if not
+     * configured otherwise.
+     *
+     * @return the minimal minor units per currency code.
+     */
+    private static Map<String, Integer> loadCashMinimalMinors(){
+        Map<String, Integer> minimalMinors = new HashMap<>();
+        minimalMinors.put("CHF", 5);
+        for(Map.Entry<String, String> en : MonetaryConfig.getConfig().entrySet()){
+            if(en.getKey().startsWith(CASH_MINIMAL_MINORS_PREFIX)){
+                String currencyCode = en.getKey().substring(CASH_MINIMAL_MINORS_PREFIX.length());
+                try{
+                    int value = Integer.parseInt(en.getValue().trim());
+                    if(value <= 0){
+                        throw new NumberFormatException("Minimal minors must be positive: " + value);
+                    }
+                    minimalMinors.put(currencyCode, value);
+                }
+                catch(NumberFormatException e){
+                    Logger.getLogger(DefaultRoundingProvider.class.getName())
+                            .log(Level.WARNING, "Invalid cash rounding configuration: " + en.getKey(), e);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(minimalMinors);
+    }
+
+    /**
+     * Key of the rounding cache, modelling all query attributes a default rounding depends on.
+     */
+    private static final class RoundingKey{
+
+        private final CurrencyUnit currency;
+        private final RoundingMode roundingMode;
+        private final Integer scale;
+        private final boolean cashRounding;
+        private final MathContext mathContext;
+        private final String roundingName;
+        private final int hashCode;
+
+        RoundingKey(RoundingQuery roundingQuery){
+            this.currency = roundingQuery.getCurrency();
+            this.roundingMode = roundingQuery.get(RoundingMode.class, null);
+            this.scale = roundingQuery.getScale();
+            this.cashRounding = roundingQuery.getBoolean("cashRounding", false);
+            this.mathContext = roundingQuery.get(MathContext.class, null);
+            this.roundingName = roundingQuery.getRoundingName();
+            int hash = 31 + (currency == null ? 0 : currency.hashCode());
+            hash = 31 * hash + (roundingMode == null ? 0 : roundingMode.hashCode());
+            hash = 31 * hash + (scale == null ? 0 : scale);
+            hash = 31 * hash + (cashRounding ? 1231 : 1237);
+            hash = 31 * hash + (mathContext == null ? 0 : mathContext.hashCode());
+            this.hashCode = 31 * hash + (roundingName == null ? 0 : roundingName.hashCode());
+        }
+
+        @Override
+        public boolean equals(Object o){
+            if(this == o){
+                return true;
+            }
+            if(!(o instanceof RoundingKey)){
+                return false;
+            }
+            RoundingKey other = (RoundingKey) o;
+            return cashRounding == other.cashRounding && roundingMode == other.roundingMode &&
+                    Objects.equals(currency, other.currency) && Objects.equals(scale, other.scale) &&
+                    Objects.equals(mathContext, other.mathContext) && Objects.equals(roundingName, other.roundingName);
+        }
+
+        @Override
+        public int hashCode(){
+            return hashCode;
+        }
+    }
 
     @Override
     public Set<String> getRoundingNames(){
@@ -57,6 +57,10 @@ public class JDKCurrencyProvider implements CurrencyProviderSpi {
      * is provided by this provider.
      */
     public Set<CurrencyUnit> getCurrencies(CurrencyQuery currencyQuery){
+        if(currencyQuery.getCurrencyCodes().size() == 1) {
+            CurrencyUnit cu = CACHED.get(currencyQuery.getCurrencyCodes().iterator().next());
+            return cu == null ? Collections.emptySet() : Collections.singleton(cu);
+        }
         Set<CurrencyUnit> result = new HashSet<>();
         if(!currencyQuery.getCurrencyCodes().isEmpty()) {
             for (String code : currencyQuery.getCurrencyCodes()) {
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import javax.money.*;
+
+import org.javamoney.moneta.ScaledFastMoney;
+import org.javamoney.moneta.spi.AbstractAmountBuilder;
+import org.javamoney.moneta.spi.DefaultNumberValue;
+
+/**
+ * Implementation of {@link javax.money.MonetaryAmountFactory} creating instances of {@link ScaledFastMoney}.
+ * If the {@link MonetaryContext} set defines a max scale, it is used as scale of the amounts created,
+ * otherwise the default scale of the currency is used.
+ *
+ * @author Anatole Tresch
+ */
+public class ScaledFastMoneyAmountBuilder extends AbstractAmountBuilder<ScaledFastMoney>{
+
+    static final MonetaryContext DEFAULT_CONTEXT =
+            MonetaryContextBuilder.of(ScaledFastMoney.class).setPrecision(19).setFixedScale(true)
+                    .set(RoundingMode.HALF_EVEN).build();
+    static final MonetaryContext MAX_CONTEXT =
+            MonetaryContextBuilder.of(ScaledFastMoney.class).setPrecision(19).setMaxScale(ScaledFastMoney.MAX_SCALE)
+                    .setFixedScale(true).set(RoundingMode.HALF_EVEN).build();
+
+    /**
+     * The bounds at the maximal scale, which can be represented at every scale.
+     */
+    private static final NumberValue MAX_NUMBER =
+            new DefaultNumberValue(BigDecimal.valueOf(Long.MAX_VALUE, ScaledFastMoney.MAX_SCALE));
+    private static final NumberValue MIN_NUMBER =
+            new DefaultNumberValue(BigDecimal.valueOf(Long.MIN_VALUE, ScaledFastMoney.MAX_SCALE));
+
+    @Override
+    protected ScaledFastMoney create(Number number, CurrencyUnit currency, MonetaryContext monetaryContext){
+        int scale = monetaryContext.getMaxScale();
+        if(scale < 0){
+            return ScaledFastMoney.of(number, currency);
+        }
+        return ScaledFastMoney.of(number, currency, scale);
+    }
+
+    @Override
+    public Class<ScaledFastMoney> getAmountType(){
+        return ScaledFastMoney.class;
+    }
+
+    @Override
+    public NumberValue getMaxNumber(){
+        return MAX_NUMBER;
+    }
+
+    @Override
+    public NumberValue getMinNumber(){
+        return MIN_NUMBER;
+    }
+
+    @Override
+    protected MonetaryContext loadDefaultMonetaryContext(){
+        return DEFAULT_CONTEXT;
+    }
+
+    @Override
+    protected MonetaryContext loadMaxMonetaryContext(){
+        return MAX_CONTEXT;
+    }
+
+}
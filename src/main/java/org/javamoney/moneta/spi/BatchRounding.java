@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryRounding;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Platform RI: A {@link MonetaryRounding} that additionally supports rounding of many amounts at once, either
+ * given as {@link MonetaryAmount} instances, or as column of unscaled {@code long} values, as used by
+ * {@link org.javamoney.moneta.FastMoney}. The results are the same as calling {@link #apply(Object)} for each
+ * single amount, but the amounts are processed in one loop. The {@code parallel} variants split large inputs
+ * and process them concurrently in the common {@link java.util.concurrent.ForkJoinPool}.
+ * <p>
+ * The default roundings returned by {@link javax.money.MonetaryRoundings} implement this interface.
+ * </p>
+ *
+ * @author Anatole Tresch
+ */
+public interface BatchRounding extends MonetaryRounding{
+
+    /**
+     * The minimal number of elements, for which the parallel variants process the input concurrently.
+     */
+    int MIN_PARALLEL_SIZE = 1 << 13;
+
+    /**
+     * Rounds an unscaled value, hereby applying the same rounding as {@link #apply(Object)}.
+     *
+     * @param unscaledValue the unscaled value, this is the numeric value multiplied by 10^{@code scale}.
+     * @param scale         the scale of {@code unscaledValue}, &gt;= 0.
+     * @return the rounded unscaled value, with the same scale.
+     * @throws ArithmeticException if the rounded value can not be represented as {@code long}.
+     */
+    long roundUnscaled(long unscaledValue, int scale);
+
+    /**
+     * Rounds all amounts of the given array, replacing each element by its rounded value.
+     *
+     * @param amounts the amounts, not null, with no null elements.
+     */
+    default void roundAll(MonetaryAmount[] amounts){
+        for(int i = 0; i < amounts.length; i++){
+            amounts[i] = apply(amounts[i]);
+        }
+    }
+
+    /**
+     * Rounds all amounts of the given array, replacing each element by its rounded value. Large arrays are
+     * processed concurrently.
+     *
+     * @param amounts the amounts, not null, with no null elements.
+     */
+    default void roundAllParallel(MonetaryAmount[] amounts){
+        if(amounts.length < MIN_PARALLEL_SIZE){
+            roundAll(amounts);
+        }else{
+            Arrays.parallelSetAll(amounts, i -> apply(amounts[i]));
+        }
+    }
+
+    /**
+     * Rounds all amounts of the given list.
+     *
+     * @param amounts the amounts, not null, with no null elements.
+     * @return a new list containing the rounded amounts, in the same order.
+     */
+    default List<MonetaryAmount> roundAll(List<? extends MonetaryAmount> amounts){
+        List<MonetaryAmount> result = new ArrayList<>(amounts.size());
+        for(MonetaryAmount amount : amounts){
+            result.add(apply(amount));
+        }
+        return result;
+    }
+
+    /**
+     * Rounds all amounts of the given list. Large lists are processed concurrently.
+     *
+     * @param amounts the amounts, not null, with no null elements.
+     * @return a new list containing the rounded amounts, in the same order.
+     */
+    default List<MonetaryAmount> roundAllParallel(List<? extends MonetaryAmount> amounts){
+        if(amounts.size() < MIN_PARALLEL_SIZE){
+            return roundAll(amounts);
+        }
+        return amounts.parallelStream().map(this::apply).collect(Collectors.toList());
+    }
+
+    /**
+     * Rounds all unscaled values of the given array in place, e.g. the unscaled values of
+     * {@link org.javamoney.moneta.FastMoney} instances.
+     *
+     * @param unscaledValues the unscaled values, not null.
+     * @param scale          the scale of the values, &gt;= 0.
+     * @throws ArithmeticException if a rounded value can not be represented as {@code long}.
+     */
+    default void roundAllUnscaled(long[] unscaledValues, int scale){
+        Objects.requireNonNull(unscaledValues);
+        for(int i = 0; i < unscaledValues.length; i++){
+            unscaledValues[i] = roundUnscaled(unscaledValues[i], scale);
+        }
+    }
+
+    /**
+     * Rounds all unscaled values of the given array in place, e.g. the unscaled values of
+     * {@link org.javamoney.moneta.FastMoney} instances. Large arrays are processed concurrently.
+     *
+     * @param unscaledValues the unscaled values, not null.
+     * @param scale          the scale of the values, &gt;= 0.
+     * @throws ArithmeticException if a rounded value can not be represented as {@code long}.
+     */
+    default void roundAllUnscaledParallel(long[] unscaledValues, int scale){
+        if(unscaledValues.length < MIN_PARALLEL_SIZE){
+            roundAllUnscaled(unscaledValues, scale);
+        }else{
+            Arrays.parallelSetAll(unscaledValues, i -> roundUnscaled(unscaledValues[i], scale));
+        }
+    }
+
+}
@@ -0,0 +1,313 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Platform RI: This utility class provides exact arithmetic on scaled {@code long} values, as used by
+ * {@code long} based {@link javax.money.MonetaryAmount} implementations such as
+ * {@link org.javamoney.moneta.FastMoney}. Products are calculated using 128 bit intermediates
+ * (a high and a low {@code long}), so no precision is lost as long as the final result fits into a
+ * {@code long}. Results that require rounding are rounded using the {@link RoundingMode} passed. If the
+ * final result can not be represented as {@code long} an {@link ArithmeticException} is thrown, so
+ * callers can fall back to {@link BigDecimal} as needed.
+ *
+ * @author Anatole Tresch
+ */
+public final class FixedPointArithmetic{
+
+    /**
+     * The maximal exponent n, where 10^n can be represented as {@code long}.
+     */
+    public static final int MAX_POWER_OF_TEN = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_POWER_OF_TEN + 1];
+
+    static{
+        long value = 1L;
+        for(int i = 0; i < POWERS_OF_TEN.length; i++){
+            POWERS_OF_TEN[i] = value;
+            value *= 10L;
+        }
+    }
+
+    private FixedPointArithmetic(){
+    }
+
+    /**
+     * Access the power of ten for the given exponent.
+     *
+     * @param n the exponent, 0 <= n <= {@link #MAX_POWER_OF_TEN}.
+     * @return 10^n
+     * @throws ArithmeticException if 10^n exceeds the {@code long} range.
+     */
+    public static long powerOfTen(int n){
+        if(n < 0 || n > MAX_POWER_OF_TEN){
+            throw new ArithmeticException("10^" + n + " can not be represented as long.");
+        }
+        return POWERS_OF_TEN[n];
+    }
+
+    /**
+     * Multiplies the given value with 10^n. A negative {@code n} divides the value, hereby applying the
+     * given {@link RoundingMode}.
+     *
+     * @param value        the value
+     * @param n            the power of ten
+     * @param roundingMode the rounding mode, not null.
+     * @return value * 10^n
+     * @throws ArithmeticException if the result overflows, or rounding is required, but
+     *                             {@link RoundingMode#UNNECESSARY} was passed.
+     */
+    public static long scaleByPowerOfTen(long value, int n, RoundingMode roundingMode){
+        if(n == 0 || value == 0L){
+            return value;
+        }
+        if(n > 0){
+            return Math.multiplyExact(value, powerOfTen(n));
+        }
+        if(n < -MAX_POWER_OF_TEN){
+            return BigDecimal.valueOf(value).scaleByPowerOfTen(n).setScale(0, roundingMode).longValueExact();
+        }
+        return divide(value, powerOfTen(-n), roundingMode);
+    }
+
+    /**
+     * Divides the given dividend by the divisor, hereby applying the given {@link RoundingMode}.
+     *
+     * @param dividend     the dividend
+     * @param divisor      the divisor, not 0.
+     * @param roundingMode the rounding mode, not null.
+     * @return dividend / divisor, rounded.
+     * @throws ArithmeticException if the divisor is 0, the result overflows, or rounding is required,
+     *                             but {@link RoundingMode#UNNECESSARY} was passed.
+     */
+    public static long divide(long dividend, long divisor, RoundingMode roundingMode){
+        Objects.requireNonNull(roundingMode, "RoundingMode required.");
+        if(divisor == 0L){
+            throw new ArithmeticException("Division by zero");
+        }
+        if(dividend == Long.MIN_VALUE && divisor == -1L){
+            throw new ArithmeticException("Overflow: " + dividend + " / " + divisor);
+        }
+        long quotient = dividend / divisor;
+        long remainder = dividend - quotient * divisor;
+        if(remainder == 0L){
+            return quotient;
+        }
+        boolean negative = (dividend ^ divisor) < 0;
+        return round(Math.abs(quotient), Math.abs(remainder), Math.abs(divisor), negative, roundingMode);
+    }
+
+    /**
+     * Calculates {@code (a * b) / c} exactly, using a 128 bit intermediate product, hereby applying the
+     * given {@link RoundingMode} once on the final result.
+     *
+     * @param a            the first factor
+     * @param b            the second factor
+     * @param c            the divisor, not 0.
+     * @param roundingMode the rounding mode, not null.
+     * @return (a * b) / c, rounded.
+     * @throws ArithmeticException if the divisor is 0, the result overflows, or rounding is required,
+     *                             but {@link RoundingMode#UNNECESSARY} was passed.
+     */
+    public static long multiplyAndDivide(long a, long b, long c, RoundingMode roundingMode){
+        Objects.requireNonNull(roundingMode, "RoundingMode required.");
+        if(c == 0L){
+            throw new ArithmeticException("Division by zero");
+        }
+        if(a == 0L || b == 0L){
+            return 0L;
+        }
+        boolean negative = ((a ^ b) ^ c) < 0;
+        // magnitudes as unsigned values, Long.MIN_VALUE maps to 2^63
+        long absA = a < 0 ? -a : a;
+        long absB = b < 0 ? -b : b;
+        long absC = c < 0 ? -c : c;
+        long low = absA * absB;
+        long high = unsignedMultiplyHigh(absA, absB);
+        long quotient;
+        long remainder;
+        if(high == 0L && low >= 0L && absC > 0L){
+            quotient = low / absC;
+            remainder = low - quotient * absC;
+        }else{
+            if(Long.compareUnsigned(high, absC) >= 0){
+                throw new ArithmeticException("Overflow: " + a + " * " + b + " / " + c);
+            }
+            // restoring long division of the 128 bit value (high, low) by absC
+            for(int i = 0; i < 64; i++){
+                boolean carry = high < 0L;
+                high = (high << 1) | (low >>> 63);
+                low <<= 1;
+                if(carry || Long.compareUnsigned(high, absC) >= 0){
+                    high -= absC;
+                    low |= 1L;
+                }
+            }
+            quotient = low;
+            remainder = high;
+        }
+        return round(quotient, remainder, absC, negative, roundingMode);
+    }
+
+    /**
+     * Calculates {@code a * factor}, where {@code factor} is an arbitrary decimal value. This is the
+     * typical operation for multiplying a scaled {@code long} amount with a decimal factor.
+     *
+     * @param a            the scaled value
+     * @param factor       the factor, not null.
+     * @param roundingMode the rounding mode, not null.
+     * @return the product, with the same scale as {@code a}.
+     * @throws ArithmeticException if the result overflows, or rounding is required, but
+     *                             {@link RoundingMode#UNNECESSARY} was passed.
+     */
+    public static long multiply(long a, BigDecimal factor, RoundingMode roundingMode){
+        if(a == 0L){
+            return 0L;
+        }
+        int scale = factor.scale();
+        if(factor.precision() <= MAX_POWER_OF_TEN){
+            long unscaled = factor.unscaledValue().longValue();
+            if(scale <= 0){
+                return Math.multiplyExact(a, scaleByPowerOfTen(unscaled, -scale, roundingMode));
+            }
+            if(scale <= MAX_POWER_OF_TEN){
+                return multiplyAndDivide(a, unscaled, POWERS_OF_TEN[scale], roundingMode);
+            }
+        }
+        return BigDecimal.valueOf(a).multiply(factor).setScale(0, roundingMode).longValueExact();
+    }
+
+    /**
+     * Calculates {@code a / b}, where {@code b} is an arbitrary decimal divisor. This is the typical
+     * operation for dividing a scaled {@code long} amount by an arbitrary decimal value.
+     *
+     * @param a            the scaled value
+     * @param divisor      the divisor, not null, not 0.
+     * @param roundingMode the rounding mode, not null.
+     * @return the quotient, with the same scale as {@code a}.
+     * @throws ArithmeticException if the divisor is 0, the result overflows, or rounding is required,
+     *                             but {@link RoundingMode#UNNECESSARY} was passed.
+     */
+    public static long divide(long a, BigDecimal divisor, RoundingMode roundingMode){
+        int scale = divisor.scale();
+        if(divisor.precision() <= MAX_POWER_OF_TEN && scale <= MAX_POWER_OF_TEN){
+            long unscaled = divisor.unscaledValue().longValue();
+            if(scale == 0){
+                return divide(a, unscaled, roundingMode);
+            }
+            if(scale > 0){
+                return multiplyAndDivide(a, POWERS_OF_TEN[scale], unscaled, roundingMode);
+            }
+        }
+        if(divisor.signum() == 0){
+            throw new ArithmeticException("Division by zero");
+        }
+        return BigDecimal.valueOf(a).divide(divisor, 0, roundingMode).longValueExact();
+    }
+
+    /**
+     * Calculates the high 64 bits of the unsigned 128 bit product of the two values.
+     *
+     * @param x the first factor, interpreted as unsigned value.
+     * @param y the second factor, interpreted as unsigned value.
+     * @return the high 64 bits of {@code x * y}.
+     */
+    public static long unsignedMultiplyHigh(long x, long y){
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+        long p00 = x0 * y0;
+        long p01 = x0 * y1;
+        long p10 = x1 * y0;
+        long p11 = x1 * y1;
+        long middle = (p00 >>> 32) + (p01 & 0xFFFFFFFFL) + (p10 & 0xFFFFFFFFL);
+        return p11 + (p01 >>> 32) + (p10 >>> 32) + (middle >>> 32);
+    }
+
+    /**
+     * Evaluates if the magnitude of a quotient must be incremented, given its remainder.
+     *
+     * @param quotient     the (unsigned) quotient.
+     * @param remainder    the (unsigned) remainder, not 0.
+     * @param divisor      the (unsigned) divisor.
+     * @param negative     the sign of the exact result.
+     * @param roundingMode the rounding mode.
+     * @return true, if the magnitude must be incremented.
+     */
+    private static boolean isIncrementRequired(long quotient, long remainder, long divisor, boolean negative,
+                                               RoundingMode roundingMode){
+        switch(roundingMode){
+            case UP:
+                return true;
+            case DOWN:
+                return false;
+            case CEILING:
+                return !negative;
+            case FLOOR:
+                return negative;
+            case UNNECESSARY:
+                throw new ArithmeticException("Rounding necessary");
+            default:
+                int compare = Long.compareUnsigned(remainder, divisor - remainder);
+                switch(roundingMode){
+                    case HALF_UP:
+                        return compare >= 0;
+                    case HALF_DOWN:
+                        return compare > 0;
+                    default:
+                        return compare > 0 || (compare == 0 && (quotient & 1L) == 1L);
+                }
+        }
+    }
+
+    /**
+     * Applies the rounding and the sign to an unsigned quotient.
+     *
+     * @param magnitude    the (unsigned) quotient.
+     * @param remainder    the (unsigned) remainder.
+     * @param divisor      the (unsigned) divisor.
+     * @param negative     the sign of the exact result.
+     * @param roundingMode the rounding mode.
+     * @return the signed, rounded result.
+     * @throws ArithmeticException if the result can not be represented as {@code long}.
+     */
+    private static long round(long magnitude, long remainder, long divisor, boolean negative,
+                              RoundingMode roundingMode){
+        if(remainder != 0L && isIncrementRequired(magnitude, remainder, divisor, negative, roundingMode)){
+            magnitude++;
+            if(magnitude == 0L){
+                throw new ArithmeticException("Overflow");
+            }
+        }
+        if(negative){
+            if(magnitude < 0L && magnitude != Long.MIN_VALUE){
+                throw new ArithmeticException("Overflow");
+            }
+            return -magnitude;
+        }
+        if(magnitude < 0L){
+            throw new ArithmeticException("Overflow");
+        }
+        return magnitude;
+    }
+
+}
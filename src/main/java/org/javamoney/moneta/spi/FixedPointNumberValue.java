@@ -0,0 +1,330 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import javax.money.NumberValue;
+
+/**
+ * Implementation of {@link NumberValue} backed by an unscaled {@code long} and a scale, as used by
+ * {@code long} based {@link javax.money.MonetaryAmount} implementations such as
+ * {@link org.javamoney.moneta.FastMoney}. Scale, precision, the amount fraction and the primitive
+ * conversions are evaluated arithmetically, a {@link BigDecimal} is only created, when explicitly
+ * requested, e.g. by {@link #numberValue(Class)}. The results are the same as for a
+ * {@link DefaultNumberValue} wrapping the according {@link BigDecimal}.
+ *
+ * @author Anatole Tresch
+ */
+public final class FixedPointNumberValue extends NumberValue{
+
+    /**
+     * serialVersionUID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The maximal exponent n, where 10^n can be represented exactly as {@code double}.
+     */
+    private static final int MAX_EXACT_DOUBLE_POWER_OF_TEN = 22;
+
+    private static final double[] DOUBLE_POWERS_OF_TEN = new double[MAX_EXACT_DOUBLE_POWER_OF_TEN + 1];
+
+    static{
+        double value = 1.0d;
+        for(int i = 0; i < DOUBLE_POWERS_OF_TEN.length; i++){
+            DOUBLE_POWERS_OF_TEN[i] = value;
+            value *= 10.0d;
+        }
+    }
+
+    /**
+     * The unscaled value, as passed.
+     */
+    private final long unscaled;
+
+    /**
+     * The scale, as passed.
+     */
+    private final int scale;
+
+    /**
+     * The unscaled value, with trailing zeros removed.
+     */
+    private final long strippedUnscaled;
+
+    /**
+     * The scale of {@link #strippedUnscaled}.
+     */
+    private final int strippedScale;
+
+    /**
+     * Creates a new instance, representing {@code unscaled * 10^-scale}.
+     *
+     * @param unscaled the unscaled value.
+     * @param scale    the scale.
+     */
+    public FixedPointNumberValue(long unscaled, int scale){
+        this.unscaled = unscaled;
+        this.scale = scale;
+        if(unscaled == 0L){
+            this.strippedUnscaled = 0L;
+            this.strippedScale = 0;
+        }else if(scale > 0){
+            // same normalization as applied by ConvertBigDecimal
+            long value = unscaled;
+            int valueScale = scale;
+            while(value % 10L == 0L){
+                value /= 10L;
+                valueScale--;
+            }
+            this.strippedUnscaled = value;
+            this.strippedScale = valueScale;
+        }else{
+            this.strippedUnscaled = unscaled;
+            this.strippedScale = scale;
+        }
+    }
+
+    /**
+     * Creates a new instance of {@link NumberValue}, representing {@code unscaled * 10^-scale}.
+     *
+     * @param unscaled the unscaled value.
+     * @param scale    the scale.
+     * @return A new instance of {@link NumberValue}.
+     */
+    public static NumberValue of(long unscaled, int scale){
+        return new FixedPointNumberValue(unscaled, scale);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#getNumberType()
+     */
+    @Override
+    public Class<?> getNumberType(){
+        return BigDecimal.class;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#getPrecision()
+     */
+    @Override
+    public int getPrecision(){
+        if(strippedUnscaled == Long.MIN_VALUE){
+            return FixedPointArithmetic.MAX_POWER_OF_TEN + 1;
+        }
+        long abs = Math.abs(strippedUnscaled);
+        int precision = 1;
+        while(precision <= FixedPointArithmetic.MAX_POWER_OF_TEN && abs >= FixedPointArithmetic.powerOfTen(precision)){
+            precision++;
+        }
+        return precision;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#getScale()
+     */
+    @Override
+    public int getScale(){
+        return strippedScale;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#getIntValue()
+     */
+    @Override
+    public int intValue(){
+        return (int) longValue();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#getIntValueExact()
+     */
+    @Override
+    public int intValueExact(){
+        return Math.toIntExact(longValueExact());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#getLongValue()
+     */
+    @Override
+    public long longValue(){
+        if(strippedScale <= 0){
+            if(strippedScale < -FixedPointArithmetic.MAX_POWER_OF_TEN){
+                return getBigDecimal().longValue();
+            }
+            return strippedUnscaled * FixedPointArithmetic.powerOfTen(-strippedScale);
+        }
+        if(strippedScale > FixedPointArithmetic.MAX_POWER_OF_TEN){
+            return 0L;
+        }
+        return strippedUnscaled / FixedPointArithmetic.powerOfTen(strippedScale);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#getLongValueExact()
+     */
+    @Override
+    public long longValueExact(){
+        if(strippedScale > 0){
+            throw new ArithmeticException("Rounding necessary");
+        }
+        return FixedPointArithmetic.scaleByPowerOfTen(strippedUnscaled, -strippedScale, RoundingMode.UNNECESSARY);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#getFloatValue()
+     */
+    @Override
+    public float floatValue(){
+        return getBigDecimal().floatValue();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#getDoubleValue()
+     */
+    @Override
+    public double doubleValue(){
+        // both operands are exact doubles, so the division is rounded correctly
+        if(Math.abs(strippedUnscaled) < (1L << 53)){
+            if(strippedScale == 0){
+                return strippedUnscaled;
+            }
+            if(strippedScale > 0 && strippedScale <= MAX_EXACT_DOUBLE_POWER_OF_TEN){
+                return strippedUnscaled / DOUBLE_POWERS_OF_TEN[strippedScale];
+            }
+        }
+        return getBigDecimal().doubleValue();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#getDoubleValueExact()
+     */
+    @Override
+    public double doubleValueExact(){
+        double d = doubleValue();
+        if(d == Double.NEGATIVE_INFINITY || d == Double.POSITIVE_INFINITY){
+            throw new ArithmeticException("Unable to convert to double: " + this);
+        }
+        return d;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#getAmountFractionNumerator()
+     */
+    @Override
+    public long getAmountFractionNumerator(){
+        if(strippedScale <= 0){
+            return 0L;
+        }
+        if(strippedScale > FixedPointArithmetic.MAX_POWER_OF_TEN){
+            return strippedUnscaled;
+        }
+        return strippedUnscaled % FixedPointArithmetic.powerOfTen(strippedScale);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#getAmountFractionDenominator()
+     */
+    @Override
+    public long getAmountFractionDenominator(){
+        if(strippedScale <= 0){
+            return 1L;
+        }
+        return FixedPointArithmetic.powerOfTen(strippedScale);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#getNumberValue(java.lang.Class)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Number> T numberValue(Class<T> numberType){
+        if(BigDecimal.class == numberType){
+            return (T) getBigDecimal();
+        }
+        if(Long.class == numberType){
+            return (T) Long.valueOf(longValue());
+        }
+        if(Double.class == numberType){
+            return (T) Double.valueOf(doubleValue());
+        }
+        return ConvertNumberValue.of(numberType, getBigDecimal());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#numberValueExact(java.lang.Class)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Number> T numberValueExact(Class<T> numberType){
+        if(BigDecimal.class == numberType){
+            return (T) getBigDecimal();
+        }
+        if(Long.class == numberType){
+            return (T) Long.valueOf(longValueExact());
+        }
+        return ConvertNumberValue.ofExact(numberType, getBigDecimal());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see javax.money.NumberValue#compareTo(javax.money.NumberValue)
+     */
+    @Override
+    public int compareTo(NumberValue o){
+        if(o instanceof FixedPointNumberValue && ((FixedPointNumberValue) o).scale == this.scale){
+            return Long.compare(this.unscaled, ((FixedPointNumberValue) o).unscaled);
+        }
+        return super.compareTo(o);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString(){
+        return BigDecimal.valueOf(unscaled, scale).toString();
+    }
+
+    /**
+     * Creates the normalized {@link BigDecimal} representation, as returned by
+     * {@link #numberValue(Class)}.
+     *
+     * @return the {@link BigDecimal} value.
+     */
+    private BigDecimal getBigDecimal(){
+        return BigDecimal.valueOf(strippedUnscaled, strippedScale);
+    }
+
+}
@@ -22,7 +22,9 @@ import javax.money.MonetaryException;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Platform RI: This utility class simplifies implementing {@link MonetaryAmount},
@@ -36,6 +38,15 @@ import java.util.Objects;
  */
 public final class MoneyUtils{
 
+    /**
+     * The maximal number of {@link MathContext} instances cached by {@link #getMathContext(MonetaryContext)}.
+     */
+    private static final int MAX_CACHED_MATH_CONTEXTS = 256;
+
+    /**
+     * The {@link MathContext} instances evaluated by {@link #getMathContext(MonetaryContext)}.
+     */
+    private static final Map<MonetaryContext, MathContext> MATH_CONTEXTS = new ConcurrentHashMap<>();
 
     private MoneyUtils(){
     }
@@ -79,7 +90,8 @@ public final class MoneyUtils{
     /**
      * Creates a {@link BigDecimal} from the given {@link Number} doing the
      * valid conversion depending the type given, if a {@link MonetaryContext}
-     * is given, it is applied to the number returned.
+     * is given, it is applied to the number returned. The number is only rounded, if its precision exceeds
+     * the precision of the {@link MonetaryContext}.
      *
      * @param num the number type
      * @return the corresponding {@link BigDecimal}
@@ -87,11 +99,34 @@ public final class MoneyUtils{
     public static BigDecimal getBigDecimal(Number num, MonetaryContext moneyContext){
         BigDecimal bd = getBigDecimal(num);
         if(Objects.nonNull(moneyContext)){
-            return new BigDecimal(bd.toString(), getMathContext(moneyContext, RoundingMode.HALF_EVEN));
+            MathContext mathContext = getMathContext(moneyContext);
+            if(mathContext.getPrecision() > 0 && bd.precision() > mathContext.getPrecision()){
+                return bd.round(mathContext);
+            }
         }
         return bd;
     }
 
+    /**
+     * Evaluates the {@link MathContext} from the given {@link MonetaryContext}, using
+     * {@link RoundingMode#HALF_EVEN}, if no {@link RoundingMode} is set. Since {@link MonetaryContext} instances
+     * are immutable, the result is cached.
+     *
+     * @param monetaryContext the {@link MonetaryContext}
+     * @return the corresponding {@link MathContext}
+     * @see #getMathContext(MonetaryContext, RoundingMode)
+     */
+    public static MathContext getMathContext(MonetaryContext monetaryContext){
+        MathContext ctx = MATH_CONTEXTS.get(monetaryContext);
+        if(Objects.isNull(ctx)){
+            ctx = getMathContext(monetaryContext, RoundingMode.HALF_EVEN);
+            if(MATH_CONTEXTS.size() < MAX_CACHED_MATH_CONTEXTS){
+                MATH_CONTEXTS.put(monetaryContext, ctx);
+            }
+        }
+        return ctx;
+    }
+
     /**
      * Evaluates the {@link MathContext} from the given {@link MonetaryContext}.
      *
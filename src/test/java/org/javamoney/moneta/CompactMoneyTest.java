@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.testng.annotations.Test;
+
+import javax.money.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link org.javamoney.moneta.CompactMoney}.
+ */
+public class CompactMoneyTest{
+
+    private static final CurrencyUnit EURO = MonetaryCurrencies.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = MonetaryCurrencies.getCurrency("USD");
+
+    private static void assertSameValue(CompactMoney compact, Money money){
+        assertEquals(compact.getCurrency(), money.getCurrency());
+        assertEquals(compact.getNumber().numberValue(BigDecimal.class), money.getNumber().numberValue(BigDecimal.class),
+                     compact + " <> " + money);
+    }
+
+    @Test
+    public void testOf(){
+        CompactMoney m = CompactMoney.of(new BigDecimal("10.2500"), EURO);
+        assertTrue(m.isCompact());
+        assertEquals(m.getNumber().numberValue(BigDecimal.class), new BigDecimal("10.25"));
+        assertEquals(m.toString(), "EUR 10.25");
+        assertEquals(CompactMoney.of(100, "EUR").toString(), "EUR 100");
+        assertEquals(CompactMoney.of(new BigDecimal("0.000"), EURO).toString(), "EUR 0");
+        assertEquals(CompactMoney.of(10, EURO).getMonetaryContext(), CompactMoney.DEFAULT_MONETARY_CONTEXT);
+        assertFalse(CompactMoney.of(new BigDecimal("1234567890123456789012.5"), EURO).isCompact());
+    }
+
+    @Test
+    public void testFrom(){
+        CompactMoney m = CompactMoney.from(Money.of(new BigDecimal("1.5"), EURO));
+        assertEquals(m, CompactMoney.of(new BigDecimal("1.5"), EURO));
+        assertSame(CompactMoney.from(m), m);
+        assertEquals(m.getFactory().setNumber(2).create(), CompactMoney.of(2, EURO));
+        assertEquals(CompactMoney.from(FastMoney.of(new BigDecimal("1.5"), EURO)), m);
+    }
+
+    @Test
+    public void testAddOverflowsToBigDecimal(){
+        CompactMoney max = CompactMoney.of(Long.MAX_VALUE, EURO);
+        assertTrue(max.isCompact());
+        CompactMoney sum = max.add(CompactMoney.of(1, EURO));
+        assertFalse(sum.isCompact());
+        assertEquals(sum.getNumber().numberValue(BigDecimal.class),
+                     BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE));
+        CompactMoney back = sum.subtract(CompactMoney.of(2, EURO));
+        assertTrue(back.isCompact());
+        assertEquals(back, CompactMoney.of(Long.MAX_VALUE - 1, EURO));
+    }
+
+    @Test
+    public void testAddDifferentScales(){
+        CompactMoney m =
+                CompactMoney.of(new BigDecimal("1.5"), EURO).add(CompactMoney.of(new BigDecimal("0.125"), EURO));
+        assertTrue(m.isCompact());
+        assertEquals(m.getNumber().numberValue(BigDecimal.class), new BigDecimal("1.625"));
+        assertEquals(m.subtract(CompactMoney.of(new BigDecimal("0.625"), EURO)).toString(), "EUR 1");
+        assertEquals(m.add(FastMoney.of(new BigDecimal("0.375"), EURO)).toString(), "EUR 2");
+        assertEquals(m.add(Money.of(new BigDecimal("0.375"), EURO)).toString(), "EUR 2");
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testAddCurrencyMismatch(){
+        CompactMoney.of(1, EURO).add(CompactMoney.of(1, DOLLAR));
+    }
+
+    @Test
+    public void testArithmeticLikeMoney(){
+        Random random = new Random(42L);
+        for(int i = 0; i < 1000; i++){
+            BigDecimal a = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(10));
+            BigDecimal b = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(10));
+            long l = random.nextInt(2000) - 1000;
+            CompactMoney ca = CompactMoney.of(a, EURO);
+            CompactMoney cb = CompactMoney.of(b, EURO);
+            Money ma = Money.of(a, EURO);
+            Money mb = Money.of(b, EURO);
+            assertSameValue(ca.add(cb), ma.add(mb));
+            assertSameValue(ca.subtract(cb), ma.subtract(mb));
+            assertSameValue(ca.multiply(b), ma.multiply(b));
+            assertSameValue(ca.multiply(l), ma.multiply(l));
+            assertSameValue(ca.negate(), ma.negate());
+            assertSameValue(ca.abs(), ma.abs());
+            assertSameValue(ca.scaleByPowerOfTen(3), ma.scaleByPowerOfTen(3));
+            assertEquals(ca.compareTo(cb), ma.compareTo(mb));
+            assertEquals(ca.equals(cb), ma.equals(mb));
+            assertEquals(ca.signum(), ma.signum());
+            if(l != 0){
+                assertSameValue(ca.divide(l), ma.divide(l));
+                if(l != 1){
+                    // Money.remainder(1) returns the amount itself
+                    assertSameValue(ca.remainder(l), ma.remainder(l));
+                }
+                assertSameValue(ca.divideToIntegralValue(l), ma.divideToIntegralValue(l));
+                CompactMoney[] cdr = ca.divideAndRemainder(l);
+                Money[] mdr = ma.divideAndRemainder(l);
+                assertSameValue(cdr[0], mdr[0]);
+                assertSameValue(cdr[1], mdr[1]);
+            }
+        }
+    }
+
+    @Test
+    public void testDivide(){
+        assertEquals(CompactMoney.of(10, EURO).divide(4).toString(), "EUR 2.5");
+        assertSameValue(CompactMoney.of(10, EURO).divide(3), Money.of(10, EURO).divide(3));
+        assertEquals(CompactMoney.of(Long.MIN_VALUE, EURO).divide(-1L).getNumber().numberValue(BigDecimal.class),
+                     BigDecimal.valueOf(Long.MIN_VALUE).negate());
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testDivideByZero(){
+        CompactMoney.of(10, EURO).divide(0L);
+    }
+
+    @Test
+    public void testPrecision(){
+        MonetaryContext context =
+                MonetaryContextBuilder.of(CompactMoney.class).setPrecision(5).set(RoundingMode.HALF_UP).build();
+        CompactMoney m = CompactMoney.of(new BigDecimal("1234.567"), EURO, context);
+        assertEquals(m.getNumber().numberValue(BigDecimal.class), new BigDecimal("1234.6"));
+        assertEquals(m.getMonetaryContext(), context);
+        CompactMoney sum = m.add(CompactMoney.of(new BigDecimal("0.06"), EURO));
+        assertEquals(sum.getNumber().numberValue(BigDecimal.class), new BigDecimal("1234.7"));
+        assertEquals(sum.getMonetaryContext(), context);
+    }
+
+    @Test
+    public void testEqualsAndHashCode(){
+        CompactMoney compact = CompactMoney.of(new BigDecimal("12345678901234567890"), EURO);
+        assertFalse(compact.isCompact());
+        CompactMoney scaled = CompactMoney.of(new BigDecimal("1234567890123456789"), EURO).multiply(10);
+        assertEquals(scaled, compact);
+        assertEquals(scaled.hashCode(), compact.hashCode());
+        CompactMoney a = CompactMoney.of(1000, EURO);
+        CompactMoney b = CompactMoney.of(new BigDecimal("1E+3"), EURO);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, CompactMoney.of(1000, DOLLAR));
+        assertNotEquals(a, Money.of(1000, EURO));
+    }
+
+    @Test
+    public void testStripTrailingZeros(){
+        assertEquals(CompactMoney.of(1000, EURO).stripTrailingZeros().getNumber().numberValue(BigDecimal.class),
+                     new BigDecimal("1E+3"));
+        assertEquals(CompactMoney.of(0, EURO).stripTrailingZeros().toString(), "EUR 0");
+    }
+
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.testng.annotations.Test;
+
+import javax.money.*;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link org.javamoney.moneta.ConcurrentFastMoneyAccumulator}.
+ */
+public class ConcurrentFastMoneyAccumulatorTest{
+
+    private static final CurrencyUnit EURO = MonetaryCurrencies.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = MonetaryCurrencies.getCurrency("USD");
+
+    @Test
+    public void testConcurrentAdd() throws Exception{
+        ConcurrentFastMoneyAccumulator acc = new ConcurrentFastMoneyAccumulator();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try{
+            List<Future<?>> futures = new ArrayList<>();
+            for(int t = 0; t < 8; t++){
+                futures.add(executor.submit(() -> {
+                    for(int i = 0; i < 10000; i++){
+                        acc.add(FastMoney.of(new BigDecimal("0.01"), EURO));
+                        acc.add(Money.of(1, DOLLAR));
+                        acc.subtract(FastMoney.of(new BigDecimal("0.5"), DOLLAR));
+                    }
+                }));
+            }
+            for(Future<?> future : futures){
+                future.get();
+            }
+        }
+        finally{
+            executor.shutdown();
+        }
+        assertEquals(acc.sum(EURO), FastMoney.of(800, EURO));
+        assertEquals(acc.sum(DOLLAR), FastMoney.of(40000, DOLLAR));
+        Map<CurrencyUnit, FastMoney> sums = acc.sums();
+        assertEquals(sums.size(), 2);
+        assertEquals(sums.get(EURO), FastMoney.of(800, EURO));
+        assertEquals(acc.sum(MonetaryCurrencies.getCurrency("CHF")), FastMoney.of(0, "CHF"));
+    }
+
+    @Test
+    public void testStripeOverflowIsExact(){
+        ConcurrentFastMoneyAccumulator acc = new ConcurrentFastMoneyAccumulator(1);
+        acc.add(FastMoney.MAX_VALUE);
+        acc.add(FastMoney.MAX_VALUE);
+        acc.subtract(FastMoney.MAX_VALUE);
+        assertEquals(acc.sum(FastMoney.MAX_VALUE.getCurrency()), FastMoney.MAX_VALUE);
+        acc.add(FastMoney.MIN_VALUE);
+        acc.subtract(FastMoney.MIN_VALUE);
+        assertEquals(acc.sum(FastMoney.MAX_VALUE.getCurrency()), FastMoney.MAX_VALUE);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testSumOverflow(){
+        ConcurrentFastMoneyAccumulator acc = new ConcurrentFastMoneyAccumulator(4);
+        acc.add(FastMoney.MAX_VALUE);
+        acc.add(FastMoney.of(1, "XXX"));
+        acc.sum(FastMoney.MAX_VALUE.getCurrency());
+    }
+
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.testng.annotations.Test;
+
+import javax.money.*;
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link org.javamoney.moneta.FastMoney128}.
+ */
+public class FastMoney128Test{
+
+    private static final CurrencyUnit EURO = MonetaryCurrencies.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = MonetaryCurrencies.getCurrency("USD");
+
+    private static final BigDecimal LARGE = new BigDecimal("123456789012345678901234567890.12345");
+
+    @Test
+    public void testOf(){
+        assertEquals(FastMoney128.of(LARGE, EURO).getNumber().numberValue(BigDecimal.class).compareTo(LARGE), 0);
+        assertEquals(FastMoney128.of(new BigDecimal("-10.25"), "EUR").getNumber().numberValue(BigDecimal.class)
+                             .compareTo(new BigDecimal("-10.25")), 0);
+        assertEquals(FastMoney128.of(10, EURO).toString(), "EUR 10.00000");
+        assertEquals(FastMoney128.of(LARGE.negate(), EURO).toString(), "EUR -" + LARGE);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testOfScaleExceeded(){
+        FastMoney128.of(new BigDecimal("1.123456"), EURO);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testOfOverflow(){
+        FastMoney128.of(FastMoney128.MAX_VALUE.getNumber().numberValue(BigDecimal.class).add(BigDecimal.ONE), EURO);
+    }
+
+    @Test
+    public void testFrom(){
+        FastMoney128 m = FastMoney128.from(FastMoney.of(new BigDecimal("1.5"), EURO));
+        assertEquals(m, FastMoney128.of(new BigDecimal("1.5"), EURO));
+        assertSame(FastMoney128.from(m), m);
+        assertEquals(m.getFactory().setNumber(2).create(), FastMoney128.of(2, EURO));
+    }
+
+    @Test
+    public void testAddSubtractCarry(){
+        Random random = new Random(42L);
+        for(int i = 0; i < 2000; i++){
+            BigDecimal a = new BigDecimal(random.nextLong()).multiply(BigDecimal.valueOf(random.nextInt()))
+                    .movePointLeft(5);
+            BigDecimal b = BigDecimal.valueOf(random.nextLong(), random.nextInt(6));
+            FastMoney128 ma = FastMoney128.of(a, EURO);
+            FastMoney128 mb = FastMoney128.of(b, EURO);
+            assertEquals(ma.add(mb).getNumber().numberValue(BigDecimal.class).compareTo(a.add(b)), 0);
+            assertEquals(ma.subtract(mb).getNumber().numberValue(BigDecimal.class).compareTo(a.subtract(b)), 0);
+            assertEquals(mb.subtract(ma).getNumber().numberValue(BigDecimal.class).compareTo(b.subtract(a)), 0);
+            assertEquals(ma.negate().getNumber().numberValue(BigDecimal.class).compareTo(a.negate()), 0);
+            assertEquals(Integer.signum(ma.compareTo(mb)), a.compareTo(b));
+            assertEquals(ma.signum(), a.signum());
+        }
+        FastMoney128 max = FastMoney128.from(FastMoney.MAX_VALUE);
+        assertEquals(max.add(FastMoney128.of(new BigDecimal("0.00001"), "XXX")).getNumber()
+                             .numberValue(BigDecimal.class),
+                     new BigDecimal(Long.MAX_VALUE).add(BigDecimal.ONE).movePointLeft(5));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testAddOverflow(){
+        FastMoney128.MAX_VALUE.add(FastMoney128.of(new BigDecimal("0.00001"), "XXX"));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testSubtractOverflow(){
+        FastMoney128.MIN_VALUE.subtract(FastMoney128.of(new BigDecimal("0.00001"), "XXX"));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testNegateOverflow(){
+        FastMoney128.MIN_VALUE.negate();
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testAddMixedCurrency(){
+        FastMoney128.of(1, EURO).add(FastMoney128.of(1, DOLLAR));
+    }
+
+    @Test
+    public void testCompareMixedTypes(){
+        FastMoney128 m = FastMoney128.of(LARGE, EURO);
+        assertTrue(m.isGreaterThan(Money.of(1, EURO)));
+        assertTrue(m.isEqualTo(Money.of(LARGE, EURO)));
+        assertTrue(FastMoney128.of(1, EURO).isLessThan(FastMoney128.of(1, DOLLAR).getFactory().setCurrency(EURO)
+                                                               .setNumber(2).create()));
+        assertTrue(FastMoney128.of(1, DOLLAR).compareTo(FastMoney128.of(1, EURO)) > 0);
+    }
+
+    @Test
+    public void testMultiplyDivide(){
+        FastMoney128 m = FastMoney128.of(LARGE, EURO);
+        assertEquals(m.multiply(2).getNumber().numberValue(BigDecimal.class).compareTo(LARGE.multiply(
+                BigDecimal.valueOf(2))), 0);
+        assertEquals(FastMoney128.of(1, EURO).divide(3).getNumber().numberValue(BigDecimal.class)
+                             .compareTo(new BigDecimal("0.33333")), 0);
+        FastMoney128[] res = FastMoney128.of(10, EURO).divideAndRemainder(3);
+        assertEquals(res[0], FastMoney128.of(3, EURO));
+        assertEquals(res[1], FastMoney128.of(1, EURO));
+    }
+
+    @Test
+    public void testEqualsHashCode(){
+        assertEquals(FastMoney128.of(LARGE, EURO), FastMoney128.of(LARGE, EURO));
+        assertEquals(FastMoney128.of(LARGE, EURO).hashCode(), FastMoney128.of(LARGE, EURO).hashCode());
+        assertNotEquals(FastMoney128.of(LARGE, EURO), FastMoney128.of(LARGE, DOLLAR));
+        assertNotEquals(FastMoney128.of(LARGE, EURO), FastMoney128.of(LARGE.negate(), EURO));
+    }
+
+}
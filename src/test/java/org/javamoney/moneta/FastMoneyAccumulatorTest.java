@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.testng.annotations.Test;
+
+import javax.money.*;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link org.javamoney.moneta.FastMoneyAccumulator}.
+ */
+public class FastMoneyAccumulatorTest{
+
+    private static final CurrencyUnit EURO = MonetaryCurrencies.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = MonetaryCurrencies.getCurrency("USD");
+
+    @Test
+    public void testAddSubtract(){
+        FastMoneyAccumulator acc = new FastMoneyAccumulator(EURO);
+        assertEquals(acc.toAmount(), FastMoney.of(0, EURO));
+        acc.add(FastMoney.of(new BigDecimal("10.5"), EURO)).add(Money.of(new BigDecimal("0.25"), EURO))
+                .subtract(FastMoney.of(1, EURO));
+        assertEquals(acc.toAmount(), FastMoney.of(new BigDecimal("9.75"), EURO));
+        assertEquals(acc.getCurrency(), EURO);
+        assertEquals(acc.reset().toAmount(), FastMoney.of(0, EURO));
+        assertEquals(new FastMoneyAccumulator(FastMoney.of(3, EURO)).add(FastMoney.of(2, EURO)).toAmount(),
+                     FastMoney.of(5, EURO));
+    }
+
+    @Test
+    public void testAddAll(){
+        List<MonetaryAmount> amounts = Arrays.asList(FastMoney.of(1, EURO), Money.of(new BigDecimal("2.5"), EURO),
+                                                     FastMoney.of(new BigDecimal("0.00001"), EURO));
+        FastMoneyAccumulator acc = new FastMoneyAccumulator(EURO).addAll(amounts);
+        assertEquals(acc.toAmount(), FastMoney.of(new BigDecimal("3.50001"), EURO));
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testAddMixedCurrency(){
+        new FastMoneyAccumulator(EURO).add(FastMoney.of(1, DOLLAR));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testAddOverflow(){
+        new FastMoneyAccumulator(FastMoney.MAX_VALUE).add(FastMoney.of(1, "XXX"));
+    }
+
+}
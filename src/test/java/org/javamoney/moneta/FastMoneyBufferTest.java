@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.testng.annotations.Test;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryCurrencies;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link org.javamoney.moneta.FastMoneyBuffer}.
+ */
+public class FastMoneyBufferTest{
+
+    private static final CurrencyUnit EURO = MonetaryCurrencies.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = MonetaryCurrencies.getCurrency("USD");
+
+    private static List<FastMoney> createAmounts(int count){
+        Random random = new Random(42L);
+        List<FastMoney> amounts = new ArrayList<>();
+        for(int i = 0; i < count; i++){
+            amounts.add(FastMoney.of(BigDecimal.valueOf(random.nextInt(2000000) - 1000000, 2),
+                                     random.nextBoolean() ? EURO : DOLLAR));
+        }
+        return amounts;
+    }
+
+    private static void assertContent(FastMoneyBuffer buffer, List<FastMoney> amounts){
+        assertEquals(buffer.size(), amounts.size());
+        FastMoneyBuffer.Cursor cursor = buffer.cursor();
+        for(FastMoney amount : amounts){
+            assertTrue(cursor.next());
+            assertEquals(cursor.getCurrency(), amount.getCurrency());
+            assertEquals(cursor.getUnscaledValue(), amount.getUnscaledValue());
+            assertTrue(cursor.isEqualTo(amount));
+            assertEquals(cursor.toFastMoney(), amount);
+            assertEquals(buffer.get(cursor.getIndex()), amount);
+        }
+        assertFalse(cursor.next());
+        FastMoneyColumn column = FastMoneyColumn.of(amounts);
+        for(CurrencyUnit currency : Arrays.asList(EURO, DOLLAR)){
+            assertEquals(buffer.sum(currency), column.sum(currency));
+            assertEquals(buffer.count(currency), column.count(currency));
+            assertEquals(buffer.min(currency), column.min(currency));
+            assertEquals(buffer.max(currency), column.max(currency));
+        }
+        assertEquals(buffer.sumByCurrency(), column.sumByCurrency());
+    }
+
+    @Test
+    public void testDirect(){
+        List<FastMoney> amounts = createAmounts(1000);
+        FastMoneyBuffer buffer = FastMoneyBuffer.allocateDirect(amounts.size(), 6);
+        for(FastMoney amount : amounts){
+            buffer.add(amount);
+        }
+        assertContent(buffer, amounts);
+    }
+
+    @Test
+    public void testMapped() throws IOException{
+        List<FastMoney> amounts = createAmounts(1000);
+        File file = File.createTempFile("amounts", ".bin");
+        file.deleteOnExit();
+        try(FileChannel channel = FileChannel
+                .open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)){
+            FastMoneyBuffer buffer = FastMoneyBuffer.map(channel, FileChannel.MapMode.READ_WRITE, 2000, 8);
+            assertEquals(buffer.size(), 0L);
+            for(FastMoney amount : amounts.subList(0, 600)){
+                buffer.add(amount);
+            }
+            buffer.force();
+            channel.truncate(buffer.size() * FastMoneyBuffer.RECORD_SIZE);
+        }
+        try(FileChannel channel = FileChannel
+                .open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)){
+            FastMoneyBuffer buffer = FastMoneyBuffer.map(channel, FileChannel.MapMode.READ_WRITE, 1000, 8);
+            assertEquals(buffer.size(), 600L);
+            assertEquals(buffer.capacity(), 1000L);
+            for(FastMoney amount : amounts.subList(600, 1000)){
+                buffer.add(amount);
+            }
+            assertContent(buffer, amounts);
+        }
+        try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+            assertContent(FastMoneyBuffer.map(channel, FileChannel.MapMode.READ_ONLY), amounts);
+        }
+    }
+
+    @Test
+    public void testCursor(){
+        FastMoneyBuffer buffer = FastMoneyBuffer.allocateDirect(3);
+        buffer.add(Money.of(new BigDecimal("1.5"), EURO)).add(FastMoney.of(2, EURO)).add(FastMoney.of(-1, DOLLAR));
+        FastMoneyBuffer.Cursor cursor = buffer.cursor().moveTo(1);
+        assertEquals(cursor.getNumericCode(), 978);
+        assertTrue(cursor.isGreaterThan(Money.of(new BigDecimal("1.99999"), EURO)));
+        assertTrue(cursor.isLessThan(FastMoney.of(3, EURO)));
+        assertEquals(cursor.add(FastMoney.of(1, EURO)), FastMoney.of(3, EURO));
+        assertEquals(cursor.getNumber().numberValue(BigDecimal.class).compareTo(new BigDecimal(2)), 0);
+        assertEquals(cursor.toString(), "EUR 2.00000");
+        assertTrue(cursor.moveTo(2).isNegative());
+        assertFalse(cursor.next());
+        assertTrue(cursor.reset().next());
+        assertEquals(cursor.getIndex(), 0L);
+    }
+
+    @Test(expectedExceptions = BufferOverflowException.class)
+    public void testOverflow(){
+        FastMoneyBuffer.allocateDirect(1).add(FastMoney.of(1, EURO)).add(FastMoney.of(1, EURO));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNoNumericCode(){
+        FastMoneyBuffer.allocateDirect(1)
+                .add(FastMoney.of(1, CurrencyUnitBuilder.of("FOO", "test").setNumericCode(-1).build()));
+    }
+
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.testng.annotations.Test;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryCurrencies;
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link org.javamoney.moneta.FastMoneyColumn}.
+ */
+public class FastMoneyColumnTest{
+
+    private static final CurrencyUnit EURO = MonetaryCurrencies.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = MonetaryCurrencies.getCurrency("USD");
+    private static final CurrencyUnit FRANC = MonetaryCurrencies.getCurrency("CHF");
+
+    @Test
+    public void testAddAndGet(){
+        FastMoneyColumn column = new FastMoneyColumn(1);
+        assertTrue(column.isEmpty());
+        column.add(FastMoney.of(new BigDecimal("1.5"), EURO)).add(Money.of(new BigDecimal("2.25"), DOLLAR))
+                .addUnscaled(FastMoney.of(3, EURO).getUnscaledValue(), EURO);
+        assertEquals(column.size(), 3);
+        assertEquals(column.get(0), FastMoney.of(new BigDecimal("1.5"), EURO));
+        assertEquals(column.get(1), FastMoney.of(new BigDecimal("2.25"), DOLLAR));
+        assertEquals(column.get(2), FastMoney.of(3, EURO));
+        assertEquals(column.getCurrency(1), DOLLAR);
+        assertEquals(column.getUnscaledValue(0), 150000L);
+        assertEquals(column.getCurrencies(), Arrays.asList(EURO, DOLLAR));
+        assertEquals(column.toList(), Arrays.asList(column.get(0), column.get(1), column.get(2)));
+        List<FastMoney> iterated = new ArrayList<>();
+        for(FastMoney amount : column){
+            iterated.add(amount);
+        }
+        assertEquals(iterated, column.toList());
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds(){
+        new FastMoneyColumn().add(FastMoney.of(1, EURO)).get(1);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testAddNotRepresentable(){
+        new FastMoneyColumn().add(Money.of(new BigDecimal("0.000001"), EURO));
+    }
+
+    @Test
+    public void testKernels(){
+        Random random = new Random(42L);
+        List<MonetaryAmount> amounts = new ArrayList<>();
+        CurrencyUnit[] currencies = {EURO, DOLLAR, FRANC};
+        for(int i = 0; i < 1000; i++){
+            amounts.add(FastMoney.of(BigDecimal.valueOf(random.nextInt(2000000) - 1000000, 2),
+                                     currencies[random.nextInt(2)]));
+        }
+        FastMoneyColumn column = FastMoneyColumn.of(amounts);
+        assertEquals(column.size(), amounts.size());
+        Map<CurrencyUnit, FastMoney> sums = column.sumByCurrency();
+        Map<CurrencyUnit, Integer> counts = column.countByCurrency();
+        Map<CurrencyUnit, FastMoneyColumn> groups = column.groupByCurrency();
+        for(CurrencyUnit currency : currencies){
+            FastMoney sum = FastMoney.of(0, currency);
+            int count = 0;
+            FastMoney min = null;
+            FastMoney max = null;
+            for(MonetaryAmount amount : amounts){
+                if(amount.getCurrency().equals(currency)){
+                    sum = sum.add(amount);
+                    count++;
+                    min = min == null || amount.isLessThan(min) ? (FastMoney) amount : min;
+                    max = max == null || amount.isGreaterThan(max) ? (FastMoney) amount : max;
+                }
+            }
+            assertEquals(column.sum(currency), sum);
+            assertEquals(column.count(currency), count);
+            assertEquals(column.min(currency), Optional.ofNullable(min));
+            assertEquals(column.max(currency), Optional.ofNullable(max));
+            if(count > 0){
+                assertEquals(sums.get(currency), sum);
+                assertEquals(counts.get(currency).intValue(), count);
+                FastMoneyColumn group = groups.get(currency);
+                assertEquals(group.size(), count);
+                assertEquals(group.getCurrencies(), Collections.singletonList(currency));
+                assertEquals(group.sum(currency), sum);
+                assertEquals(group.count(currency), count);
+            }else{
+                assertFalse(sums.containsKey(currency));
+                assertFalse(groups.containsKey(currency));
+            }
+        }
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testSumOverflow(){
+        new FastMoneyColumn().addUnscaled(Long.MAX_VALUE, EURO).addUnscaled(1L, EURO).sum(EURO);
+    }
+
+}
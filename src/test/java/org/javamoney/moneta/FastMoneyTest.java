@@ -21,6 +21,9 @@ import javax.money.*;
 import java.io.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.testng.Assert.*;
 
@@ -262,6 +265,32 @@ public class FastMoneyTest{
         assertEquals(11d, moneyResult.getNumber().doubleValue(), 0d);
     }
 
+    @Test
+    public void testAddSameTypeMixedCurrency(){
+        FastMoney money1 = FastMoney.of(BigDecimal.TEN, EURO);
+        try{
+            money1.add(FastMoney.of(BigDecimal.ONE, DOLLAR));
+            fail("Currency mismatch expected.");
+        }
+        catch(MonetaryException e){
+            // expected
+        }
+        assertEquals(FastMoney.of(new BigDecimal("10.5"), EURO),
+                     money1.add(Money.of(new BigDecimal("0.5"), EURO)));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testAddSameTypeOverflow(){
+        FastMoney max = FastMoney.from(FastMoney.MAX_VALUE);
+        max.add(FastMoney.of(BigDecimal.ONE, max.getCurrency()));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testSubtractSameTypeOverflow(){
+        FastMoney min = FastMoney.from(FastMoney.MIN_VALUE);
+        min.subtract(FastMoney.of(BigDecimal.ONE, min.getCurrency()));
+    }
+
     /**
      * Test method for {@link org.javamoney.moneta.FastMoney#divide(java.lang.Number)}.
      */
@@ -316,6 +345,34 @@ public class FastMoneyTest{
         assertEquals(FastMoney.of(new BigDecimal("50.0"), "CHF"), m.multiply(0.5));
     }
 
+    @Test
+    public void testMultiplyNumberExact(){
+        FastMoney m = FastMoney.of(new BigDecimal("12345678901234.56789"), "CHF");
+        assertEquals(m.multiply(new BigDecimal("0.5")), FastMoney.of(new BigDecimal("6172839450617.28394"), "CHF"));
+        assertEquals(m.multiply(new BigDecimal("0.5")).getNumber().numberValue(BigDecimal.class),
+                     new BigDecimal("12345678901234.56789").multiply(new BigDecimal("0.5"))
+                             .setScale(5, RoundingMode.HALF_EVEN));
+        assertEquals(m.multiply(3L), FastMoney.of(new BigDecimal("37037036703703.70367"), "CHF"));
+        assertEquals(FastMoney.of(new BigDecimal("0.00001"), "CHF").multiply(new BigDecimal("0.5")),
+                     FastMoney.of(0, "CHF"));
+        assertEquals(FastMoney.of(new BigDecimal("0.00003"), "CHF").multiply(new BigDecimal("0.5")),
+                     FastMoney.of(new BigDecimal("0.00002"), "CHF"));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testMultiplyOverflow(){
+        FastMoney.of(new BigDecimal("90000000000000"), "CHF").multiply(2L);
+    }
+
+    @Test
+    public void testDivideNumberExact(){
+        FastMoney m = FastMoney.of(new BigDecimal("12345678901234.56789"), "CHF");
+        assertEquals(m.divide(new BigDecimal("0.5")), FastMoney.of(new BigDecimal("24691357802469.13578"), "CHF"));
+        assertEquals(m.divide(3L), FastMoney.of(new BigDecimal("4115226300411.52263"), "CHF"));
+        assertEquals(FastMoney.of(1, "CHF").divide(3), FastMoney.of(new BigDecimal("0.33333"), "CHF"));
+        assertEquals(FastMoney.of(2, "CHF").divide(3), FastMoney.of(new BigDecimal("0.66667"), "CHF"));
+    }
+
     /**
      * Test method for {@link org.javamoney.moneta.FastMoney#negate()}.
      */
@@ -760,6 +817,21 @@ public class FastMoneyTest{
      * Test method for {@link org.javamoney.moneta.FastMoney#isEqualTo(javax.money.MonetaryAmount)}
      * .
      */
+    @Test
+    public void testCompareSameTypeMixedCurrency(){
+        FastMoney money1 = FastMoney.of(BigDecimal.TEN, EURO);
+        FastMoney money2 = FastMoney.of(BigDecimal.TEN, DOLLAR);
+        assertTrue(money1.compareTo(money2) < 0);
+        assertTrue(money2.compareTo(money1) > 0);
+        try{
+            money1.isLessThan(money2);
+            fail("Currency mismatch expected.");
+        }
+        catch(MonetaryException e){
+            // expected
+        }
+    }
+
     @Test
     public void testIsEqualTo(){
         assertTrue(FastMoney.of(BigDecimal.valueOf(0d), "CHF").isEqualTo(FastMoney.of(BigDecimal.valueOf(0), "CHF")));
@@ -920,4 +992,79 @@ public class FastMoneyTest{
         assertEquals(m, m2);
     }
 
+    @Test
+    public void testCachedAmounts(){
+        assertSame(FastMoney.of(0, EURO), FastMoney.of(BigDecimal.ZERO, EURO));
+        assertSame(FastMoney.of(1, EURO), FastMoney.of(new BigDecimal("1.00"), "EUR"));
+        assertSame(FastMoney.of(10, EURO).subtract(FastMoney.of(10, EURO)), FastMoney.of(0, EURO));
+        assertSame(FastMoney.of(10, EURO).divideAndRemainder(5)[1], FastMoney.of(0, EURO));
+        assertNotSame(FastMoney.of(11, EURO), FastMoney.of(11, EURO));
+        assertNotSame(FastMoney.of(-1, EURO), FastMoney.of(-1, EURO));
+        assertEquals(FastMoney.of(0, EURO).getCurrency(), EURO);
+        assertEquals(FastMoney.of(0, DOLLAR).getCurrency(), DOLLAR);
+    }
+
+    @Test
+    public void testCachedAmountsBounded(){
+        FastMoney.of(0, EURO);
+        List<CurrencyUnit> currencies = new ArrayList<>();
+        try{
+            for(int i = 0; i <= FastMoney.MAX_CACHED_CURRENCIES; i++){
+                CurrencyUnit currency = CurrencyUnitBuilder.of("CACHE" + i, "test").build();
+                currencies.add(currency);
+                assertEquals(FastMoney.of(0, currency).getCurrency(), currency);
+                assertTrue(FastMoney.getCachedCurrencies().size() <= FastMoney.MAX_CACHED_CURRENCIES);
+            }
+            assertEquals(FastMoney.getCachedCurrencies().size(), FastMoney.MAX_CACHED_CURRENCIES);
+            CurrencyUnit uncached = currencies.get(currencies.size() - 1);
+            assertFalse(FastMoney.getCachedCurrencies().contains(uncached));
+            assertNotSame(FastMoney.of(1, uncached), FastMoney.of(1, uncached));
+            assertEquals(FastMoney.of(1, uncached), FastMoney.of(1, uncached));
+            assertSame(FastMoney.of(0, EURO), FastMoney.of(0, EURO));
+        }
+        finally{
+            FastMoney.getCachedCurrencies().removeAll(currencies);
+        }
+    }
+
+    @Test
+    public void testAppendTo() throws IOException{
+        long[] values = {0L, 1L, -1L, 99999L, 100000L, -100001L, 123456789L, Long.MAX_VALUE, Long.MIN_VALUE};
+        for(long value : values){
+            FastMoney m = FastMoney.of(BigDecimal.valueOf(value, 5), EURO);
+            String expected = "EUR " + BigDecimal.valueOf(value, 5);
+            assertEquals(m.toString(), expected);
+            assertEquals(m.appendTo(new StringBuilder("x")).toString(), 'x' + expected);
+            Writer writer = new StringWriter();
+            m.appendTo(writer);
+            assertEquals(writer.toString(), expected);
+            assertEquals(FastMoney.parse(expected), m);
+        }
+    }
+
+    @Test
+    public void testParse(){
+        assertEquals(FastMoney.parse("EUR 25"), FastMoney.of(25, EURO));
+        assertEquals(FastMoney.parse("EUR -0.5"), FastMoney.of(new BigDecimal("-0.5"), EURO));
+        assertEquals(FastMoney.parse("EUR +.5"), FastMoney.of(new BigDecimal("0.5"), EURO));
+        assertEquals(FastMoney.parse("EUR 1.23450"), FastMoney.of(new BigDecimal("1.2345"), EURO));
+        assertEquals(FastMoney.parse("EUR 1E+2"), FastMoney.of(100, EURO));
+        assertEquals(FastMoney.parse(new StringBuilder("USD 10.1")), FastMoney.of(new BigDecimal("10.1"), DOLLAR));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testParseScaleExceeded(){
+        FastMoney.parse("EUR 1.234567");
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testParseOverflow(){
+        FastMoney.parse("EUR 92233720368547.75808");
+    }
+
+    @Test(expectedExceptions = NumberFormatException.class)
+    public void testParseInvalidNumber(){
+        FastMoney.parse("EUR 1.2.3");
+    }
+
 }
@@ -44,10 +44,13 @@ public class MonetaryAmountsRegistrationTest{
     @Test
     public void testGetTypes(){
         assertNotNull(MonetaryAmounts.getAmountTypes());
-        assertTrue(MonetaryAmounts.getAmountTypes().size() == 3);
+        assertTrue(MonetaryAmounts.getAmountTypes().size() == 6);
         assertTrue(MonetaryAmounts.getAmountTypes().contains(FastMoney.class));
         assertTrue(MonetaryAmounts.getAmountTypes().contains(Money.class));
         assertTrue(MonetaryAmounts.getAmountTypes().contains(RoundedMoney.class));
+        assertTrue(MonetaryAmounts.getAmountTypes().contains(ScaledFastMoney.class));
+        assertTrue(MonetaryAmounts.getAmountTypes().contains(FastMoney128.class));
+        assertTrue(MonetaryAmounts.getAmountTypes().contains(CompactMoney.class));
     }
 
     /**
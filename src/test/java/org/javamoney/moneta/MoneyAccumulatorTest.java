@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.testng.annotations.Test;
+
+import javax.money.*;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link org.javamoney.moneta.MoneyAccumulator}.
+ */
+public class MoneyAccumulatorTest{
+
+    private static final CurrencyUnit EURO = MonetaryCurrencies.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = MonetaryCurrencies.getCurrency("USD");
+
+    @Test
+    public void testAddSubtract(){
+        MoneyAccumulator acc = new MoneyAccumulator(EURO);
+        assertEquals(acc.toAmount(), Money.of(0, EURO));
+        acc.add(Money.of(new BigDecimal("10.5"), EURO)).add(FastMoney.of(new BigDecimal("0.25"), EURO))
+                .subtract(Money.of(1000, EURO));
+        assertEquals(acc.toAmount(), Money.of(new BigDecimal("-989.25"), EURO));
+        assertEquals(acc.reset().toAmount(), Money.of(0, EURO));
+    }
+
+    @Test
+    public void testAddAll(){
+        List<MonetaryAmount> amounts = Arrays.asList(Money.of(1, EURO), Money.of(new BigDecimal("2.5"), EURO),
+                                                     FastMoney.of(new BigDecimal("0.00001"), EURO));
+        assertEquals(new MoneyAccumulator(EURO).addAll(amounts).toAmount(),
+                     Money.of(new BigDecimal("3.50001"), EURO));
+    }
+
+    @Test
+    public void testOverflowToBigDecimal(){
+        Random random = new Random(7L);
+        MoneyAccumulator acc = new MoneyAccumulator(EURO);
+        BigDecimal expected = BigDecimal.ZERO;
+        for(int i = 0; i < 1000; i++){
+            BigDecimal value = BigDecimal.valueOf(random.nextLong(), random.nextInt(20) - 2);
+            expected = i % 3 == 0 ? expected.subtract(value) : expected.add(value);
+            if(i % 3 == 0){
+                acc.subtract(Money.of(value, EURO));
+            }else{
+                acc.add(Money.of(value, EURO));
+            }
+        }
+        assertEquals(acc.toAmount(), Money.of(expected, EURO));
+        acc = new MoneyAccumulator(EURO).add(Money.of(Long.MAX_VALUE, EURO)).add(Money.of(Long.MAX_VALUE, EURO));
+        assertEquals(acc.toAmount(),
+                     Money.of(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2)), EURO));
+        acc.subtract(Money.of(Long.MAX_VALUE, EURO));
+        assertEquals(acc.toAmount(), Money.of(Long.MAX_VALUE, EURO));
+    }
+
+    @Test
+    public void testMonetaryContext(){
+        MonetaryContext context = MonetaryContextBuilder.of(Money.class).setPrecision(10).build();
+        assertEquals(new MoneyAccumulator(EURO, context).add(Money.of(1, EURO)).toAmount().getMonetaryContext(),
+                     context);
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testAddMixedCurrency(){
+        new MoneyAccumulator(EURO).add(Money.of(1, DOLLAR));
+    }
+
+}
@@ -19,6 +19,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -30,6 +31,8 @@ import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.money.CurrencyUnit;
 import javax.money.MonetaryAmount;
@@ -1110,4 +1113,52 @@ public class MoneyTest{
         Money m2 = Money.of(BigDecimal.TEN, "CHF");
         m1.subtract(m2);
     }
+
+    @Test
+    public void testCachedAmounts(){
+        assertSame(Money.of(0, EURO), Money.of(BigDecimal.ZERO, EURO));
+        assertSame(Money.of(1L, EURO), Money.of(BigDecimal.ONE, "EUR"));
+        assertSame(Money.of(BigDecimal.TEN, EURO).divideAndRemainder(1)[1], Money.of(0, EURO));
+        assertSame(Money.of(new BigDecimal("0.00"), EURO), Money.of(0, EURO));
+        assertNotSame(Money.of(11, EURO), Money.of(11, EURO));
+        assertEquals(Money.of(0, DOLLAR).getCurrency(), DOLLAR);
+    }
+
+    @Test
+    public void testCachedAmountsBounded(){
+        Money.of(0, EURO);
+        List<CurrencyUnit> currencies = new ArrayList<>();
+        try{
+            for(int i = 0; i <= Money.MAX_CACHED_CURRENCIES; i++){
+                CurrencyUnit currency = CurrencyUnitBuilder.of("CACHE" + i, "test").build();
+                currencies.add(currency);
+                assertEquals(Money.of(0, currency).getCurrency(), currency);
+                assertTrue(Money.getCachedCurrencies().size() <= Money.MAX_CACHED_CURRENCIES);
+            }
+            assertEquals(Money.getCachedCurrencies().size(), Money.MAX_CACHED_CURRENCIES);
+            CurrencyUnit uncached = currencies.get(currencies.size() - 1);
+            assertFalse(Money.getCachedCurrencies().contains(uncached));
+            assertNotSame(Money.of(1, uncached), Money.of(1, uncached));
+            assertEquals(Money.of(1, uncached), Money.of(1, uncached));
+            assertSame(Money.of(0, EURO), Money.of(0, EURO));
+        }
+        finally{
+            Money.getCachedCurrencies().removeAll(currencies);
+        }
+    }
+
+    @Test
+    public void testCompareIgnoresScale(){
+        Money m1 = Money.of(new BigDecimal("1.50"), EURO, MonetaryContextBuilder.of(Money.class).setPrecision(10)
+                .build());
+        Money m2 = Money.of(new BigDecimal("1.5"), EURO);
+        assertEquals(m1, m2);
+        assertEquals(m1.hashCode(), m2.hashCode());
+        assertEquals(m1.compareTo(m2), 0);
+        assertTrue(m1.isEqualTo(FastMoney.of(new BigDecimal("1.5"), EURO)));
+        assertTrue(m1.isLessThan(FastMoney.of(2, EURO)));
+        assertTrue(m1.isGreaterThanOrEqualTo(m2));
+        assertEquals(m1.getNumberStripped(), new BigDecimal("1.5"));
+        assertEquals(Money.of(new BigDecimal("0.00"), EURO).getNumberStripped(), BigDecimal.ZERO);
+    }
 }
@@ -19,6 +19,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -30,6 +31,9 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 
 import javax.money.*;
 
@@ -1071,6 +1075,93 @@ public class RoundedMoneyTest{
         assertTrue(m != m2);
     }
 
+    @Test
+    public void testDefaultProfilesBounded(){
+        RoundedMoney.of(BigDecimal.ONE, EURO);
+        List<CurrencyUnit> currencies = new ArrayList<>();
+        try{
+            for(int i = 0; i <= RoundedMoney.MAX_CACHED_CURRENCIES; i++){
+                CurrencyUnit currency =
+                        CurrencyUnitBuilder.of("CACHE" + i, "test").setDefaultFractionDigits(2).build();
+                currencies.add(currency);
+                RoundedMoney m = RoundedMoney.of(new BigDecimal("1.234"), currency);
+                assertEquals(m.getCurrency(), currency);
+                assertEquals(m.add(m).getNumber().numberValue(BigDecimal.class), new BigDecimal("2.47"));
+                assertTrue(RoundedMoney.getCachedCurrencies().size() <= RoundedMoney.MAX_CACHED_CURRENCIES);
+            }
+            assertEquals(RoundedMoney.getCachedCurrencies().size(), RoundedMoney.MAX_CACHED_CURRENCIES);
+            assertFalse(RoundedMoney.getCachedCurrencies().contains(currencies.get(currencies.size() - 1)));
+            assertTrue(RoundedMoney.getCachedCurrencies().contains(EURO));
+        }
+        finally{
+            RoundedMoney.getCachedCurrencies().removeAll(currencies);
+        }
+    }
+
+    @Test
+    public void testSerializationRoundTrip() throws IOException, ClassNotFoundException{
+        RoundedMoney[] amounts = {RoundedMoney.of(new BigDecimal("1.23"), EURO),
+                RoundedMoney.of(new BigDecimal("1.2345"), EURO, MonetaryRoundings.getRounding(
+                        RoundingQueryBuilder.of().setScale(3).set(RoundingMode.DOWN).build())),
+                new RoundedMoney(new BigDecimal("1.2345"), EURO, MathContext.DECIMAL32)};
+        for(RoundedMoney m : amounts){
+            RoundedMoney m2 = (RoundedMoney) deserialize(serialize(m));
+            assertEquals(m2, m);
+            assertEquals(m2.getMonetaryContext().get(MathContext.class), m.getMonetaryContext().get(MathContext.class));
+            assertEquals(m2.getMonetaryContext().getAmountType(), RoundedMoney.class);
+            assertEquals(m2.add(m2), m.add(m));
+            assertEquals(m2.multiply(new BigDecimal("1.00051")), m.multiply(new BigDecimal("1.00051")));
+        }
+    }
+
+    /**
+     * Amounts serialized before the {@code RoundingProfile} was introduced, storing the {@link MonetaryContext}
+     * and the rounding, must still be readable.
+     */
+    @Test
+    public void testDeserializeEarlierForm() throws IOException, ClassNotFoundException{
+        // RoundedMoney.of(new BigDecimal("1.23"), "EUR"), serialized by an earlier version
+        String serialized =
+            "rO0ABXNyACFvcmcuamF2YW1vbmV5Lm1vbmV0YS5Sb3VuZGVkTW9uZXkFFiHOgluXtQIABEwACGN1cnJlbmN5dAAaTGphdmF4" +
+            "L21vbmV5L0N1cnJlbmN5VW5pdDtMAA9tb25ldGFyeUNvbnRleHR0AB1MamF2YXgvbW9uZXkvTW9uZXRhcnlDb250ZXh0O0wA" +
+            "Bm51bWJlcnQAFkxqYXZhL21hdGgvQmlnRGVjaW1hbDtMAAhyb3VuZGluZ3QAHkxqYXZheC9tb25leS9Nb25ldGFyeU9wZXJh" +
+            "dG9yO3hwc3IAMG9yZy5qYXZhbW9uZXkubW9uZXRhLmludGVybmFsLkpES0N1cnJlbmN5QWRhcHRlcvTrNFiSYMe7AgACTAAH" +
+            "Q09OVEVYVHQAHUxqYXZheC9tb25leS9DdXJyZW5jeUNvbnRleHQ7TAAMYmFzZUN1cnJlbmN5dAAUTGphdmEvdXRpbC9DdXJy" +
+            "ZW5jeTt4cHNyABtqYXZheC5tb25leS5DdXJyZW5jeUNvbnRleHR1RYjyyWBuKAIAAHhyABtqYXZheC5tb25leS5BYnN0cmFj" +
+            "dENvbnRleHRy3PwN/2r+lwIAAUwABGRhdGF0AA9MamF2YS91dGlsL01hcDt4cHNyABFqYXZhLnV0aWwuSGFzaE1hcAUH2sHD" +
+            "FmDRAwACRgAKbG9hZEZhY3RvckkACXRocmVzaG9sZHhwP0AAAAAAAAx3CAAAABAAAAABdnIAEGphdmEubGFuZy5TdHJpbmeg" +
+            "8KQ4ejuzQgIAAHhwc3EAfgAOP0AAAAAAAAF3CAAAAAIAAAABdAAIcHJvdmlkZXJ0ABJqYXZhLnV0aWwuQ3VycmVuY3l4eHNy" +
+            "ABJqYXZhLnV0aWwuQ3VycmVuY3n9zZNKWRGpHwIAAUwADGN1cnJlbmN5Q29kZXQAEkxqYXZhL2xhbmcvU3RyaW5nO3hwdAAD" +
+            "RVVSc3IAG2phdmF4Lm1vbmV5Lk1vbmV0YXJ5Q29udGV4dAby7IT3VcfjAgAAeHEAfgALc3EAfgAOP0AAAAAAAAx3CAAAABAA" +
+            "AAACdnIAD2phdmEubGFuZy5DbGFzcyx+VQPZv5VTAgAAeHBzcQB+AA4/QAAAAAAAAXcIAAAAAgAAAAF0AAphbW91bnRUeXBl" +
+            "dnEAfgAAeHZyABxqYXZheC5tb25leS5Nb25ldGFyeU9wZXJhdG9yAAAAAAAAAAAAAAB4cHNxAH4ADj9AAAAAAAABdwgAAAAC" +
+            "AAAAAXQACHJvdW5kaW5nc3IANWphdmF4Lm1vbmV5Lk1vbmV0YXJ5Um91bmRpbmdzJERlZmF1bHRDdXJyZW5jeVJvdW5kaW5n" +
+            "YWHz4KN3RvQCAAB4cHh4c3IAFGphdmEubWF0aC5CaWdEZWNpbWFsVMcVV/mBKE8DAAJJAAVzY2FsZUwABmludFZhbHQAFkxq" +
+            "YXZhL21hdGgvQmlnSW50ZWdlcjt4cgAQamF2YS5sYW5nLk51bWJlcoaslR0LlOCLAgAAeHAAAAACc3IAFGphdmEubWF0aC5C" +
+            "aWdJbnRlZ2VyjPyfH6k7+x0DAAZJAAhiaXRDb3VudEkACWJpdExlbmd0aEkAE2ZpcnN0Tm9uemVyb0J5dGVOdW1JAAxsb3dl" +
+            "c3RTZXRCaXRJAAZzaWdudW1bAAltYWduaXR1ZGV0AAJbQnhxAH4AKf///////////////v////4AAAABdXIAAltCrPMX+AYI" +
+            "VOACAAB4cAAAAAF7eHhxAH4AJg==";
+        RoundedMoney m = (RoundedMoney) deserialize(Base64.getDecoder().decode(serialized));
+        assertEquals(m, RoundedMoney.of(new BigDecimal("1.23"), EURO));
+        assertEquals(m.add(m), RoundedMoney.of(new BigDecimal("2.46"), EURO));
+        assertEquals(m.divide(3), RoundedMoney.of(new BigDecimal("0.41"), EURO));
+        assertEquals(deserialize(serialize(m)), m);
+    }
+
+    private static byte[] serialize(Object o) throws IOException{
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try(ObjectOutputStream oos = new ObjectOutputStream(bos)){
+            oos.writeObject(o);
+        }
+        return bos.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException{
+        try(ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))){
+            return ois.readObject();
+        }
+    }
+
     // Bad Cases
 
     /**
@@ -1109,4 +1200,39 @@ public class RoundedMoneyTest{
         m1.subtract(m2);
     }
 
+    /**
+     * Test that arithmetic results keep the rounding and {@link MonetaryContext} of the amount they were
+     * derived from.
+     */
+    @Test
+    public void testResultsKeepRounding(){
+        MonetaryOperator rounding = MonetaryRoundings.getRounding(RoundingQueryBuilder.of().setScale(3)
+                                                                          .set(RoundingMode.DOWN).build());
+        RoundedMoney m = RoundedMoney.of(new BigDecimal("1.0005"), EURO, rounding);
+        RoundedMoney sum = m.add(RoundedMoney.of(new BigDecimal("1.0009"), EURO));
+        assertEquals(sum.getNumber().numberValue(BigDecimal.class), new BigDecimal("2.001"));
+        assertSame(sum.getMonetaryContext(), m.getMonetaryContext());
+        RoundedMoney product = sum.multiply(new BigDecimal("1.0009"));
+        assertEquals(product.getNumber().numberValue(BigDecimal.class), new BigDecimal("2.002"));
+        assertSame(product.getMonetaryContext(), m.getMonetaryContext());
+        assertSame(m.divide(3).getMonetaryContext(), m.getMonetaryContext());
+        assertSame(m.negate().getMonetaryContext(), m.getMonetaryContext());
+    }
+
+    /**
+     * Test that the inline rounding of arithmetic results equals applying the rounding operator.
+     */
+    @Test
+    public void testInlineRoundingSameAsOperator(){
+        RoundedMoney m = RoundedMoney.of(new BigDecimal("10.555"), EURO);
+        RoundedMoney unrounded = RoundedMoney.of(new BigDecimal("10.555").multiply(new BigDecimal("3.3333")), EURO);
+        assertEquals(m.multiply(new BigDecimal("3.3333")),
+                     unrounded.with(MonetaryRoundings.getDefaultRounding()));
+        MonetaryOperator custom = amount -> amount.getFactory()
+                .setNumber(amount.getNumber().numberValue(BigDecimal.class).setScale(1, RoundingMode.CEILING)).create();
+        RoundedMoney c = RoundedMoney.of(new BigDecimal("1.01"), EURO, custom);
+        assertEquals(c.add(RoundedMoney.of(new BigDecimal("1.01"), EURO)).getNumber().numberValue(BigDecimal.class),
+                     new BigDecimal("2.1"));
+    }
+
 }
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.testng.annotations.Test;
+
+import javax.money.*;
+import java.math.BigDecimal;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link org.javamoney.moneta.ScaledFastMoney}.
+ */
+public class ScaledFastMoneyTest{
+
+    private static final CurrencyUnit EURO = MonetaryCurrencies.getCurrency("EUR");
+    private static final CurrencyUnit YEN = MonetaryCurrencies.getCurrency("JPY");
+    private static final CurrencyUnit DOLLAR = MonetaryCurrencies.getCurrency("USD");
+
+    @Test
+    public void testOfDefaultScale(){
+        assertEquals(ScaledFastMoney.of(10, EURO).getScale(), 2);
+        assertEquals(ScaledFastMoney.of(10, YEN).getScale(), 0);
+        assertEquals(ScaledFastMoney.of(new BigDecimal("10.25"), EURO).getUnscaledValue(), 1025L);
+        assertEquals(ScaledFastMoney.of(new BigDecimal("10.25"), EURO).getNumber().numberValue(BigDecimal.class),
+                     new BigDecimal("10.25"));
+    }
+
+    @Test
+    public void testOfExplicitScale(){
+        ScaledFastMoney m = ScaledFastMoney.of(new BigDecimal("0.12345678"), "EUR", 8);
+        assertEquals(m.getScale(), 8);
+        assertEquals(m.getUnscaledValue(), 12345678L);
+        assertEquals(m.getMonetaryContext().getMaxScale(), 8);
+        assertEquals(m, ScaledFastMoney.ofUnscaled(12345678L, EURO, 8));
+        assertEquals(m.toString(), "EUR 0.12345678");
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testOfScaleExceeded(){
+        ScaledFastMoney.of(new BigDecimal("10.255"), EURO);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testOfInvalidScale(){
+        ScaledFastMoney.of(1, EURO, ScaledFastMoney.MAX_SCALE + 1);
+    }
+
+    @Test
+    public void testLargeRangeWithSmallScale(){
+        BigDecimal large = new BigDecimal("92233720368547758.07");
+        assertEquals(ScaledFastMoney.of(large, EURO).getNumber().numberValue(BigDecimal.class), large);
+    }
+
+    @Test
+    public void testAddSubtractSameScale(){
+        ScaledFastMoney m1 = ScaledFastMoney.of(new BigDecimal("10.25"), EURO);
+        ScaledFastMoney m2 = ScaledFastMoney.of(new BigDecimal("0.75"), EURO);
+        assertEquals(m1.add(m2), ScaledFastMoney.of(11, EURO));
+        assertEquals(m1.subtract(m2), ScaledFastMoney.of(new BigDecimal("9.5"), EURO));
+        assertTrue(m1 == m1.add(ScaledFastMoney.of(0, EURO)));
+    }
+
+    @Test
+    public void testAddSubtractMixedScale(){
+        ScaledFastMoney m1 = ScaledFastMoney.of(new BigDecimal("10.25"), EURO);
+        ScaledFastMoney m2 = ScaledFastMoney.of(new BigDecimal("0.12345678"), EURO, 8);
+        ScaledFastMoney sum = m1.add(m2);
+        assertEquals(sum.getScale(), 8);
+        assertEquals(sum.getNumber().numberValue(BigDecimal.class), new BigDecimal("10.37345678"));
+        assertEquals(m2.add(m1), sum);
+        assertEquals(m1.subtract(m2).getNumber().numberValue(BigDecimal.class), new BigDecimal("10.12654322"));
+        assertEquals(m1.add(Money.of(new BigDecimal("1.5"), EURO)), ScaledFastMoney.of(new BigDecimal("11.75"), EURO));
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testAddCurrencyMismatch(){
+        ScaledFastMoney.of(1, EURO).add(ScaledFastMoney.of(1, DOLLAR));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testAddOverflow(){
+        ScaledFastMoney.ofUnscaled(Long.MAX_VALUE, EURO, 2).add(ScaledFastMoney.ofUnscaled(1L, EURO, 2));
+    }
+
+    @Test
+    public void testCompare(){
+        ScaledFastMoney m1 = ScaledFastMoney.of(new BigDecimal("10.25"), EURO);
+        ScaledFastMoney m2 = ScaledFastMoney.of(new BigDecimal("10.25"), EURO, 8);
+        ScaledFastMoney m3 = ScaledFastMoney.of(new BigDecimal("10.26"), EURO, 8);
+        assertTrue(m1.isEqualTo(m2));
+        assertEquals(m1, m2);
+        assertEquals(m1.hashCode(), m2.hashCode());
+        assertNotEquals(m1, m3);
+        assertEquals(ScaledFastMoney.ofUnscaled(10L, EURO, 1), ScaledFastMoney.ofUnscaled(100L, EURO, 2));
+        assertEquals(ScaledFastMoney.ofUnscaled(10L, EURO, 1).hashCode(),
+                     ScaledFastMoney.ofUnscaled(100L, EURO, 2).hashCode());
+        assertNotEquals(ScaledFastMoney.ofUnscaled(10L, EURO, 1), ScaledFastMoney.ofUnscaled(101L, EURO, 2));
+        assertNotEquals(ScaledFastMoney.ofUnscaled(0L, EURO, 1), ScaledFastMoney.ofUnscaled(0L, DOLLAR, 2));
+        assertTrue(m1.isLessThan(m3));
+        assertTrue(m3.isGreaterThan(m1));
+        assertTrue(m1.isLessThanOrEqualTo(m2));
+        assertTrue(m1.isGreaterThanOrEqualTo(m2));
+        assertEquals(m1.compareTo(m2), 0);
+        assertTrue(m1.compareTo(m3) < 0);
+        assertTrue(m1.isEqualTo(FastMoney.of(new BigDecimal("10.25"), EURO)));
+        assertTrue(ScaledFastMoney.ofUnscaled(Long.MAX_VALUE, EURO, 0).isGreaterThan(m2));
+    }
+
+    @Test
+    public void testMultiplyDivide(){
+        ScaledFastMoney m = ScaledFastMoney.of(100, EURO);
+        assertEquals(m.multiply(new BigDecimal("0.015")), ScaledFastMoney.of(new BigDecimal("1.5"), EURO));
+        assertEquals(m.multiply(3), ScaledFastMoney.of(300, EURO));
+        assertEquals(m.divide(3), ScaledFastMoney.of(new BigDecimal("33.33"), EURO));
+        assertEquals(ScaledFastMoney.of(200, EURO).divide(3), ScaledFastMoney.of(new BigDecimal("66.67"), EURO));
+        assertEquals(ScaledFastMoney.of(1000, YEN).divide(3), ScaledFastMoney.of(333, YEN));
+    }
+
+    @Test
+    public void testDivideAndRemainder(){
+        ScaledFastMoney m = ScaledFastMoney.of(new BigDecimal("100.5"), EURO);
+        ScaledFastMoney[] result = m.divideAndRemainder(3);
+        assertEquals(result[0], ScaledFastMoney.of(33, EURO));
+        assertEquals(result[1], ScaledFastMoney.of(new BigDecimal("1.5"), EURO));
+        assertEquals(m.divideToIntegralValue(3), ScaledFastMoney.of(33, EURO));
+        assertEquals(m.remainder(new BigDecimal("0.2")), ScaledFastMoney.of(new BigDecimal("0.1"), EURO));
+    }
+
+    @Test
+    public void testWithScale(){
+        ScaledFastMoney m = ScaledFastMoney.of(new BigDecimal("10.25"), EURO);
+        assertEquals(m.withScale(4).getUnscaledValue(), 102500L);
+        assertEquals(m.withScale(1).getUnscaledValue(), 102L);
+        assertTrue(m.withScale(4).isEqualTo(m));
+    }
+
+    @Test
+    public void testFactory(){
+        MonetaryAmountFactory<ScaledFastMoney> factory = MonetaryAmounts.getAmountFactory(ScaledFastMoney.class);
+        ScaledFastMoney m = factory.setCurrency(YEN).setNumber(1234).create();
+        assertEquals(m.getScale(), 0);
+        m = factory.setCurrency(EURO).setNumber(new BigDecimal("0.12345678"))
+                .setContext(MonetaryContextBuilder.of(ScaledFastMoney.class).setMaxScale(8).build()).create();
+        assertEquals(m.getScale(), 8);
+        assertEquals(m.getFactory().create(), m);
+        assertEquals(m.getFactory().setNumber(1).create().getScale(), 8);
+        m = factory.setCurrency(EURO).setNumber(factory.getMaxNumber()).setContext(
+                MonetaryContextBuilder.of(ScaledFastMoney.class).setMaxScale(ScaledFastMoney.MAX_SCALE).build())
+                .create();
+        assertEquals(m.getUnscaledValue(), Long.MAX_VALUE);
+        assertEquals(factory.getMinNumber().numberValue(BigDecimal.class),
+                     BigDecimal.valueOf(Long.MIN_VALUE, ScaledFastMoney.MAX_SCALE));
+    }
+
+    @Test
+    public void testNegateAbs(){
+        ScaledFastMoney m = ScaledFastMoney.of(new BigDecimal("-10.25"), EURO);
+        assertEquals(m.negate(), ScaledFastMoney.of(new BigDecimal("10.25"), EURO));
+        assertEquals(m.abs(), m.negate());
+        assertEquals(m.signum(), -1);
+        assertTrue(m.isNegative());
+    }
+}
@@ -1,6 +1,7 @@
 package org.javamoney.moneta.function;
 
 import static org.javamoney.moneta.function.MonetaryFunctions.groupBySummarizingMonetary;
+import static org.javamoney.moneta.function.MonetaryFunctions.groupBySummarizingMonetaryConcurrent;
 import static org.javamoney.moneta.function.MonetaryFunctions.isCurrency;
 import static org.javamoney.moneta.function.MonetaryFunctions.max;
 import static org.javamoney.moneta.function.MonetaryFunctions.min;
@@ -14,14 +15,31 @@ import static org.javamoney.moneta.function.StreamFactory.streamNormal;
 import static org.javamoney.moneta.function.StreamFactory.streamNull;
 import static org.testng.Assert.assertEquals;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.money.CurrencyUnit;
 import javax.money.MonetaryAmount;
 import javax.money.MonetaryException;
+import javax.money.convert.ConversionContext;
+import javax.money.convert.ConversionQuery;
+import javax.money.convert.CurrencyConversion;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ExchangeRateProvider;
+import javax.money.convert.ProviderContext;
 
+import org.javamoney.moneta.ExchangeRateBuilder;
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.spi.DefaultNumberValue;
+import org.javamoney.moneta.spi.LazyBoundCurrencyConversion;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -124,4 +142,117 @@ public class MonetaryFunctionsAgregatorTest {
 		assertEquals(mapSummary.keySet().size(), 3);
 	}
 
+	@Test
+	public void groupByCurrencyUnitConcurrentTest() {
+		Map<CurrencyUnit, List<MonetaryAmount>> groupBy = currencies().parallel().collect(
+				MonetaryFunctions.groupByCurrencyUnitConcurrent());
+		assertEquals(3, groupBy.entrySet().size());
+		assertEquals(3, groupBy.get(BRAZILIAN_REAL).size());
+		assertEquals(3, groupBy.get(StreamFactory.DOLLAR).size());
+		assertEquals(3, groupBy.get(StreamFactory.EURO).size());
+	}
+
+	@Test
+	public void groupBySummarizingMonetaryConcurrentTest() {
+		List<MonetaryAmount> amounts = new ArrayList<>();
+		for (int i = 0; i < 10000; i++) {
+			amounts.add(Money.of(i % 100, i % 3 == 0 ? BRAZILIAN_REAL : StreamFactory.EURO));
+		}
+		GroupMonetarySummaryStatistics expected = amounts.stream().collect(groupBySummarizingMonetary());
+		GroupMonetarySummaryStatistics group = amounts.parallelStream().collect(
+				groupBySummarizingMonetaryConcurrent());
+		Map<CurrencyUnit, MonetarySummaryStatistics> mapSummary = group.get();
+		assertEquals(mapSummary.keySet().size(), 2);
+		for (CurrencyUnit currency : mapSummary.keySet()) {
+			MonetarySummaryStatistics summary = mapSummary.get(currency);
+			MonetarySummaryStatistics expectedSummary = expected.get().get(currency);
+			assertEquals(summary.getCount(), expectedSummary.getCount());
+			assertEquals(summary.getSum().getNumber().longValue(), expectedSummary.getSum().getNumber().longValue());
+			assertEquals(summary.getMin().getNumber().longValue(), 0L);
+			assertEquals(summary.getMax().getNumber().longValue(), 99L);
+		}
+	}
+
+	@Test
+	public void sumByCurrencyParallelTest() {
+		List<MonetaryAmount> amounts = new ArrayList<>();
+		BigDecimal expectedReal = BigDecimal.ZERO;
+		for (int i = 0; i < 50000; i++) {
+			BigDecimal number = BigDecimal.valueOf(i % 1000, 2);
+			if (i % 3 == 0) {
+				amounts.add(Money.of(number, StreamFactory.EURO));
+			} else {
+				amounts.add(FastMoney.of(number, BRAZILIAN_REAL));
+				expectedReal = expectedReal.add(number);
+			}
+		}
+		Map<CurrencyUnit, MonetaryAmount> totals = MonetaryFunctions.sumByCurrencyParallel(amounts);
+		assertEquals(totals.size(), 2);
+		assertEquals(totals.get(BRAZILIAN_REAL), FastMoney.of(expectedReal, BRAZILIAN_REAL));
+		assertEquals(totals.get(StreamFactory.EURO).getNumber().numberValue(BigDecimal.class).compareTo(
+				amounts.stream().filter(isCurrency(StreamFactory.EURO)).reduce(sum()).get().getNumber()
+						.numberValue(BigDecimal.class)), 0);
+		assertEquals(MonetaryFunctions.sumByCurrencyParallel(new LinkedList<>(amounts)), totals);
+		assertEquals(MonetaryFunctions.sumByCurrencyParallel(amounts.toArray(new MonetaryAmount[0])), totals);
+	}
+
+	@Test
+	public void sumParallelTest() {
+		MonetaryAmount max = FastMoney.MAX_VALUE.getFactory().setCurrency(BRAZILIAN_REAL).create();
+		MonetaryAmount[] amounts = new MonetaryAmount[10000];
+		Arrays.fill(amounts, max);
+		MonetaryAmount total = MonetaryFunctions.sumParallel(amounts, BRAZILIAN_REAL);
+		assertEquals(total.getNumber().numberValue(BigDecimal.class).compareTo(
+				max.getNumber().numberValue(BigDecimal.class).multiply(BigDecimal.valueOf(10000))), 0);
+		assertEquals(MonetaryFunctions.sumParallel(new ArrayList<>(), BRAZILIAN_REAL),
+				FastMoney.of(0, BRAZILIAN_REAL));
+	}
+
+	@Test(expectedExceptions = MonetaryException.class)
+	public void sumParallelCurrencyMismatchTest() {
+		MonetaryFunctions.sumParallel(currencies().collect(Collectors.toList()), BRAZILIAN_REAL);
+	}
+
+	@Test
+	public void summingConvertedTest() {
+		CountingRateProvider provider = new CountingRateProvider();
+		List<MonetaryAmount> amounts = new ArrayList<>();
+		for (int i = 0; i < 3000; i++) {
+			amounts.add(i % 2 == 0 ? Money.of(1, BRAZILIAN_REAL) : FastMoney.of(2, StreamFactory.DOLLAR));
+			amounts.add(Money.of(new BigDecimal("0.5"), StreamFactory.EURO));
+		}
+		MonetaryAmount total = amounts.parallelStream().collect(
+				MonetaryFunctions.summingConverted(provider, StreamFactory.EURO));
+		assertEquals(total.getCurrency(), StreamFactory.EURO);
+		// 1500 BRL * 0.25 + 3000 USD * 0.75 + 1500 EUR
+		assertEquals(total.getNumber().numberValue(BigDecimal.class).compareTo(new BigDecimal("4125")), 0);
+		Assert.assertTrue(provider.lookups.get() <= 2, "lookups: " + provider.lookups);
+		assertEquals(Stream.<MonetaryAmount>empty().collect(
+				MonetaryFunctions.summingConverted(provider, StreamFactory.EURO)), Money.of(0, StreamFactory.EURO));
+	}
+
+	private static final class CountingRateProvider implements ExchangeRateProvider {
+
+		private final AtomicInteger lookups = new AtomicInteger();
+
+		@Override
+		public ProviderContext getProviderContext() {
+			return ProviderContext.of("counting");
+		}
+
+		@Override
+		public ExchangeRate getExchangeRate(ConversionQuery conversionQuery) {
+			lookups.incrementAndGet();
+			BigDecimal factor = conversionQuery.getBaseCurrency().equals(BRAZILIAN_REAL) ? new BigDecimal("0.25")
+					: new BigDecimal("0.75");
+			return new ExchangeRateBuilder(ConversionContext.of()).setBase(conversionQuery.getBaseCurrency())
+					.setTerm(conversionQuery.getCurrency()).setFactor(DefaultNumberValue.of(factor)).build();
+		}
+
+		@Override
+		public CurrencyConversion getCurrencyConversion(ConversionQuery conversionQuery) {
+			return new LazyBoundCurrencyConversion(conversionQuery.getCurrency(), this, ConversionContext.of());
+		}
+	}
+
 }
@@ -0,0 +1,127 @@
+package org.javamoney.moneta.function;
+
+import static org.javamoney.moneta.function.StreamFactory.BRAZILIAN_REAL;
+import static org.javamoney.moneta.function.StreamFactory.DOLLAR;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryException;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class MonetaryQuantileSketchTest {
+
+	private static final int SIZE = 200000;
+
+	@Test
+	public void shouldBeEmpty() {
+		MonetaryQuantileSketch sketch = new MonetaryQuantileSketch(BRAZILIAN_REAL);
+		Assert.assertEquals(sketch.getCount(), 0L);
+		Assert.assertEquals(sketch.getQuantile(0.5), FastMoney.of(0, BRAZILIAN_REAL));
+		Assert.assertEquals(sketch.getMin(), FastMoney.of(0, BRAZILIAN_REAL));
+	}
+
+	@Test(expectedExceptions = MonetaryException.class)
+	public void shouldErrorWhenIsDifferentCurrency() {
+		new MonetaryQuantileSketch(BRAZILIAN_REAL).accept(Money.of(10, DOLLAR));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void shouldErrorWhenQuantileIsInvalid() {
+		new MonetaryQuantileSketch(BRAZILIAN_REAL).getQuantile(1.5);
+	}
+
+	@Test
+	public void shouldBeExactForFewAmounts() {
+		MonetaryQuantileSketch sketch = new MonetaryQuantileSketch(BRAZILIAN_REAL);
+		for (int i = 100; i > 0; i--) {
+			sketch.accept(Money.of(i, BRAZILIAN_REAL));
+		}
+		Assert.assertEquals(sketch.getQuantile(0.5), FastMoney.of(50, BRAZILIAN_REAL));
+		Assert.assertEquals(sketch.getQuantile(0.99), FastMoney.of(99, BRAZILIAN_REAL));
+		Assert.assertEquals(sketch.getQuantile(0), FastMoney.of(1, BRAZILIAN_REAL));
+		Assert.assertEquals(sketch.getQuantile(1), FastMoney.of(100, BRAZILIAN_REAL));
+	}
+
+	@Test
+	public void shouldEstimateQuantiles() {
+		List<MonetaryAmount> amounts = createAmounts();
+		MonetaryQuantileSketch sketch = amounts.stream().collect(
+				MonetaryFunctions.summarizingQuantiles(BRAZILIAN_REAL));
+		verifySketch(sketch, amounts);
+		Assert.assertTrue(sketch.getRetained() < 4 * MonetaryQuantileSketch.DEFAULT_K, sketch.toString());
+	}
+
+	@Test
+	public void shouldCombineCorrectly() {
+		List<MonetaryAmount> amounts = createAmounts();
+		Map<CurrencyUnit, MonetaryQuantileSketch> sketches = amounts.parallelStream().collect(
+				MonetaryFunctions.groupBySummarizingQuantiles());
+		Assert.assertEquals(sketches.keySet(), Collections.singleton(BRAZILIAN_REAL));
+		verifySketch(sketches.get(BRAZILIAN_REAL), amounts);
+	}
+
+	@Test
+	public void shouldCombineUnevenSketches() {
+		List<MonetaryAmount> amounts = createAmounts();
+		for (int size : new int[]{1000, 5000, SIZE}) {
+			List<MonetaryAmount> large = amounts.subList(0, size);
+			MonetaryQuantileSketch empty = new MonetaryQuantileSketch(BRAZILIAN_REAL);
+			MonetaryQuantileSketch small = new MonetaryQuantileSketch(BRAZILIAN_REAL);
+			small.accept(large.get(0));
+			MonetaryQuantileSketch largeSketch = large.stream().skip(1).collect(
+					MonetaryFunctions.summarizingQuantiles(BRAZILIAN_REAL));
+			verifySketch(empty.combine(large.stream().collect(
+					MonetaryFunctions.summarizingQuantiles(BRAZILIAN_REAL))), large);
+			verifySketch(small.combine(largeSketch), large);
+		}
+	}
+
+	@Test
+	public void shouldBeReproducible() {
+		List<MonetaryAmount> amounts = createAmounts();
+		MonetaryAmount[] first = amounts.stream().collect(MonetaryFunctions.summarizingQuantiles(BRAZILIAN_REAL))
+				.getQuantiles(0.5, 0.99);
+		MonetaryAmount[] second = amounts.stream().collect(MonetaryFunctions.summarizingQuantiles(BRAZILIAN_REAL))
+				.getQuantiles(0.5, 0.99);
+		Assert.assertEquals(first, second);
+	}
+
+	private void verifySketch(MonetaryQuantileSketch sketch, List<MonetaryAmount> amounts) {
+		Assert.assertEquals(sketch.getCount(), amounts.size());
+		BigDecimal[] sorted = new BigDecimal[amounts.size()];
+		for (int i = 0; i < sorted.length; i++) {
+			sorted[i] = amounts.get(i).getNumber().numberValue(BigDecimal.class);
+		}
+		Arrays.sort(sorted);
+		Assert.assertEquals(sketch.getMin().getNumber().numberValue(BigDecimal.class).compareTo(sorted[0]), 0);
+		double[] quantiles = {0.01, 0.25, 0.5, 0.95, 0.99};
+		MonetaryAmount[] estimates = sketch.getQuantiles(quantiles);
+		for (int q = 0; q < quantiles.length; q++) {
+			BigDecimal estimate = estimates[q].getNumber().numberValue(BigDecimal.class);
+			int rank = Math.abs(Arrays.binarySearch(sorted, estimate));
+			Assert.assertEquals(rank / (double) sorted.length, quantiles[q], 0.02, "quantile " + quantiles[q]);
+		}
+	}
+
+	private List<MonetaryAmount> createAmounts() {
+		Random random = new Random(42L);
+		List<MonetaryAmount> amounts = new ArrayList<>();
+		for (int i = 0; i < SIZE; i++) {
+			amounts.add(FastMoney.of(BigDecimal.valueOf(random.nextInt(10000000), 2), BRAZILIAN_REAL));
+		}
+		return amounts;
+	}
+
+}
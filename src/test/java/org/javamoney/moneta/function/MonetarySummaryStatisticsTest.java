@@ -3,10 +3,13 @@ package org.javamoney.moneta.function;
 import static org.javamoney.moneta.function.StreamFactory.BRAZILIAN_REAL;
 import static org.javamoney.moneta.function.StreamFactory.DOLLAR;
 
+import java.math.BigDecimal;
+
 import javax.money.MonetaryException;
 
 import junit.framework.Assert;
 
+import org.javamoney.moneta.FastMoney;
 import org.javamoney.moneta.Money;
 import org.testng.annotations.Test;
 
@@ -72,6 +75,65 @@ public class MonetarySummaryStatisticsTest {
 		Assert.assertEquals(70L, summaryA.getAverage().getNumber().longValue());
 	}
 
+	@Test
+	public void varianceTest() {
+		MonetarySummaryStatistics summary = createSummary();
+		Assert.assertEquals(1866.6666, summary.getVariance(), 0.0001);
+		Assert.assertEquals(Math.sqrt(summary.getVariance()), summary.getStandardDeviation(), 0d);
+		MonetarySummaryStatistics summaryB = createSummary();
+		summary.combine(summaryB);
+		Assert.assertEquals(1866.6666, summary.getVariance(), 0.0001);
+		Assert.assertEquals(0d, new MonetarySummaryStatistics(BRAZILIAN_REAL).getVariance(), 0d);
+	}
+
+	@Test
+	public void fastMoneyTest() {
+		MonetarySummaryStatistics summary = new MonetarySummaryStatistics(
+				BRAZILIAN_REAL);
+		summary.accept(FastMoney.of(10, BRAZILIAN_REAL));
+		summary.accept(FastMoney.of(new BigDecimal("90.5"), BRAZILIAN_REAL));
+		summary.accept(FastMoney.of(-110, BRAZILIAN_REAL));
+		Assert.assertEquals(FastMoney.of(-110, BRAZILIAN_REAL), summary.getMin());
+		Assert.assertEquals(FastMoney.of(new BigDecimal("90.5"), BRAZILIAN_REAL), summary.getMax());
+		Assert.assertEquals(FastMoney.of(new BigDecimal("-9.5"), BRAZILIAN_REAL), summary.getSum());
+		Assert.assertEquals(FastMoney.of(new BigDecimal("-3.16667"), BRAZILIAN_REAL), summary.getAverage());
+		summary.accept(Money.of(200, BRAZILIAN_REAL));
+		Assert.assertEquals(4L, summary.getCount());
+		Assert.assertEquals(FastMoney.of(-110, BRAZILIAN_REAL), summary.getMin());
+		Assert.assertEquals(Money.of(200, BRAZILIAN_REAL), summary.getMax());
+		Assert.assertEquals(FastMoney.of(new BigDecimal("190.5"), BRAZILIAN_REAL), summary.getSum());
+	}
+
+	@Test
+	public void fastMoneyOverflowTest() {
+		MonetarySummaryStatistics summary = new MonetarySummaryStatistics(
+				BRAZILIAN_REAL);
+		summary.accept(FastMoney.MAX_VALUE.getFactory().setCurrency(BRAZILIAN_REAL).create());
+		summary.accept(FastMoney.MAX_VALUE.getFactory().setCurrency(BRAZILIAN_REAL).create());
+		summary.accept(FastMoney.MIN_VALUE.getFactory().setCurrency(BRAZILIAN_REAL).create());
+		Assert.assertEquals(3L, summary.getCount());
+		Assert.assertEquals(FastMoney.MAX_VALUE.getNumber().numberValue(BigDecimal.class),
+				summary.getSum().getNumber().numberValue(BigDecimal.class).add(new BigDecimal("0.00001")));
+		MonetarySummaryStatistics combined = new MonetarySummaryStatistics(BRAZILIAN_REAL);
+		combined.combine(summary);
+		Assert.assertEquals(summary.getSum(), combined.getSum());
+		Assert.assertEquals(summary.getMin(), combined.getMin());
+	}
+
+	@Test
+	public void fastMoneySumOverflowTest() {
+		MonetarySummaryStatistics summary = new MonetarySummaryStatistics(
+				BRAZILIAN_REAL);
+		summary.accept(FastMoney.of(new BigDecimal("9E13"), BRAZILIAN_REAL));
+		summary.accept(FastMoney.of(new BigDecimal("9E13"), BRAZILIAN_REAL));
+		Assert.assertEquals(2L, summary.getCount());
+		Assert.assertEquals(Money.of(new BigDecimal("1.8E14"), BRAZILIAN_REAL), summary.getSum());
+		Assert.assertEquals(FastMoney.of(new BigDecimal("9E13"), BRAZILIAN_REAL), summary.getAverage());
+		summary.accept(FastMoney.of(1, BRAZILIAN_REAL));
+		Assert.assertEquals(FastMoney.of(new BigDecimal("60000000000000.33333"), BRAZILIAN_REAL),
+				summary.getAverage());
+	}
+
 	private MonetarySummaryStatistics createSummary() {
 		MonetarySummaryStatistics summary = new MonetarySummaryStatistics(
 				BRAZILIAN_REAL);
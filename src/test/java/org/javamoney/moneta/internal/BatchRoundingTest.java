@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.spi.BatchRounding;
+import org.testng.annotations.Test;
+
+import javax.money.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for the {@link BatchRounding} support of {@link DefaultRounding} and {@link DefaultCashRounding}.
+ */
+public class BatchRoundingTest{
+
+    private static final CurrencyUnit CHF = MonetaryCurrencies.getCurrency("CHF");
+
+    private static BatchRounding[] roundings(){
+        return new BatchRounding[]{new DefaultRounding(2, RoundingMode.HALF_EVEN),
+                new DefaultRounding(0, RoundingMode.UP), new DefaultCashRounding(CHF, RoundingMode.HALF_UP, 5),
+                new DefaultCashRounding(CHF, 1)};
+    }
+
+    private static MonetaryAmount[] createAmounts(int size){
+        Random random = new Random(size);
+        MonetaryAmount[] amounts = new MonetaryAmount[size];
+        for(int i = 0; i < size; i++){
+            BigDecimal value = BigDecimal.valueOf(random.nextInt() / 7, 5);
+            amounts[i] = i % 2 == 0 ? FastMoney.of(value, CHF) : Money.of(value, CHF);
+        }
+        return amounts;
+    }
+
+    @Test
+    public void testDefaultRoundingsSupportBatch(){
+        assertTrue(MonetaryRoundings.getRounding(CHF) instanceof BatchRounding);
+        assertTrue(MonetaryRoundings.getRounding(RoundingQueryBuilder.of().setCurrency(MonetaryCurrencies.getCurrency(
+                "EUR")).set("cashRounding", true).build()) instanceof BatchRounding);
+    }
+
+    @Test
+    public void testRoundAllSameAsApply(){
+        for(int size : new int[]{0, 17, BatchRounding.MIN_PARALLEL_SIZE * 4}){
+            MonetaryAmount[] amounts = createAmounts(size);
+            for(BatchRounding rounding : roundings()){
+                MonetaryAmount[] expected = new MonetaryAmount[size];
+                for(int i = 0; i < size; i++){
+                    expected[i] = amounts[i].with(rounding);
+                }
+                MonetaryAmount[] sequential = amounts.clone();
+                rounding.roundAll(sequential);
+                assertEquals(sequential, expected);
+                MonetaryAmount[] parallel = amounts.clone();
+                rounding.roundAllParallel(parallel);
+                assertEquals(parallel, expected);
+                assertEquals(rounding.roundAll(Arrays.asList(amounts)), Arrays.asList(expected));
+                List<MonetaryAmount> parallelList = rounding.roundAllParallel(Arrays.asList(amounts));
+                assertEquals(parallelList, Arrays.asList(expected));
+            }
+        }
+    }
+
+    @Test
+    public void testRoundAllUnscaledSameAsApply(){
+        for(int size : new int[]{0, 17, BatchRounding.MIN_PARALLEL_SIZE * 4}){
+            MonetaryAmount[] amounts = createAmounts(size);
+            long[] values = new long[size];
+            for(int i = 0; i < size; i++){
+                values[i] = FastMoney.from(amounts[i]).getUnscaledValue();
+            }
+            for(BatchRounding rounding : roundings()){
+                long[] expected = new long[size];
+                for(int i = 0; i < size; i++){
+                    expected[i] = FastMoney.from(amounts[i]).with(rounding).getUnscaledValue();
+                }
+                long[] sequential = values.clone();
+                rounding.roundAllUnscaled(sequential, 5);
+                assertEquals(sequential, expected);
+                long[] parallel = values.clone();
+                rounding.roundAllUnscaledParallel(parallel, 5);
+                assertEquals(parallel, expected);
+            }
+        }
+    }
+
+    @Test
+    public void testRoundUnscaledLowerScale(){
+        BatchRounding rounding = new DefaultRounding(2, RoundingMode.HALF_EVEN);
+        assertEquals(rounding.roundUnscaled(12345L, 1), 12345L);
+        BatchRounding cash = new DefaultCashRounding(CHF, RoundingMode.HALF_UP, 5);
+        assertEquals(cash.roundUnscaled(12345L, 1), 12345L);
+        assertEquals(cash.roundUnscaled(12345L, 3), 12350L);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testRoundUnscaledNotRepresentable(){
+        new DefaultCashRounding(2, RoundingMode.HALF_UP, 3).roundUnscaled(11L, 1);
+    }
+
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal;
+
+import org.javamoney.moneta.CurrencyUnitBuilder;
+import org.javamoney.moneta.FastMoney;
+import org.testng.annotations.Test;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryCurrencies;
+import javax.money.UnknownCurrencyException;
+import java.util.Currency;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link org.javamoney.moneta.internal.CurrencyUnitRegistry}.
+ */
+public class CurrencyUnitRegistryTest{
+
+    @Test
+    public void testIsoCurrencies(){
+        for(Currency currency : Currency.getAvailableCurrencies()){
+            CurrencyUnit unit = CurrencyUnitRegistry.getCurrency(currency.getCurrencyCode());
+            assertNotNull(unit, currency.getCurrencyCode());
+            assertEquals(unit.getCurrencyCode(), currency.getCurrencyCode());
+            assertSame(MonetaryCurrencies.getCurrency(currency.getCurrencyCode()), unit);
+        }
+        assertNull(CurrencyUnitRegistry.getCurrency("QQQ"));
+        assertNull(CurrencyUnitRegistry.getCurrency("eur"));
+        assertNull(CurrencyUnitRegistry.getCurrency(""));
+        assertEquals(FastMoney.of(1, "CHF").getCurrency(), MonetaryCurrencies.getCurrency("CHF"));
+    }
+
+    @Test
+    public void testRegistration(){
+        assertFalse(MonetaryCurrencies.isCurrencyAvailable("QQR"));
+        CurrencyUnit threeLetters = CurrencyUnitBuilder.of("QQR", "test").build(true);
+        CurrencyUnit other = CurrencyUnitBuilder.of("Registry-Test", "test").build(true);
+        try{
+            assertSame(CurrencyUnitRegistry.getCurrency("QQR"), threeLetters);
+            assertSame(MonetaryCurrencies.getCurrency("QQR"), threeLetters);
+            assertSame(MonetaryCurrencies.getCurrency("Registry-Test"), other);
+            assertTrue(MonetaryCurrencies.isCurrencyAvailable("Registry-Test"));
+        }
+        finally{
+            ConfigurableCurrencyUnitProvider.removeCurrencyUnit("QQR");
+            ConfigurableCurrencyUnitProvider.removeCurrencyUnit("Registry-Test");
+        }
+        assertNull(CurrencyUnitRegistry.getCurrency("QQR"));
+        assertFalse(MonetaryCurrencies.isCurrencyAvailable("Registry-Test"));
+    }
+
+    @Test(expectedExceptions = UnknownCurrencyException.class)
+    public void testUnknownCurrency(){
+        MonetaryCurrencies.getCurrency("QQS");
+    }
+
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.function.MonetaryUtil;
+import org.testng.annotations.Test;
+
+import javax.money.*;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link DefaultRoundingProvider}.
+ */
+public class DefaultRoundingProviderTest{
+
+    private static final CurrencyUnit EURO = MonetaryCurrencies.getCurrency("EUR");
+    private static final CurrencyUnit CHF = MonetaryCurrencies.getCurrency("CHF");
+
+    @Test
+    public void testRoundingsAreCached(){
+        DefaultRoundingProvider provider = new DefaultRoundingProvider();
+        MonetaryRounding rounding = provider.getRounding(RoundingQueryBuilder.of().setCurrency(EURO).build());
+        assertTrue(rounding instanceof DefaultRounding);
+        assertSame(provider.getRounding(RoundingQueryBuilder.of().setCurrency(EURO).build()), rounding);
+        assertSame(provider.getRounding(RoundingQueryBuilder.of().setCurrency(EURO).setScale(5).build()), rounding);
+        assertNotSame(provider.getRounding(RoundingQueryBuilder.of().setCurrency(CHF).build()), rounding);
+        assertSame(provider.getRounding(RoundingQueryBuilder.of().setCurrency(EURO).set(RoundingMode.HALF_UP)
+                                                .build()),
+                   provider.getRounding(RoundingQueryBuilder.of().setCurrency(EURO).set(RoundingMode.HALF_UP)
+                                                .build()));
+        assertSame(provider.getRounding(RoundingQueryBuilder.of().setScale(3).set(MathContext.DECIMAL32).build()),
+                   provider.getRounding(RoundingQueryBuilder.of().setScale(3).set(MathContext.DECIMAL32).build()));
+        MonetaryRounding cash = provider.getRounding(
+                RoundingQueryBuilder.of().setCurrency(CHF).set("cashRounding", true).build());
+        assertTrue(cash instanceof DefaultCashRounding);
+        assertSame(provider.getRounding(RoundingQueryBuilder.of().setCurrency(CHF).set("cashRounding", true).build()),
+                   cash);
+    }
+
+    @Test
+    public void testIsScaleRounding(){
+        DefaultRoundingProvider provider = new DefaultRoundingProvider();
+        assertTrue(DefaultRoundingProvider.isScaleRounding(
+                provider.getRounding(RoundingQueryBuilder.of().setCurrency(EURO).build())));
+        assertTrue(DefaultRoundingProvider.isScaleRounding(new DefaultRounding(3, RoundingMode.HALF_UP)));
+        assertFalse(DefaultRoundingProvider.isScaleRounding(
+                provider.getRounding(RoundingQueryBuilder.of().setCurrency(CHF).set("cashRounding", true).build())));
+        assertFalse(DefaultRoundingProvider.isScaleRounding(MonetaryUtil.majorPart()));
+        assertFalse(DefaultRoundingProvider.isScaleRounding(null));
+    }
+
+    @Test
+    public void testDifferentQueriesDifferentRoundings(){
+        DefaultRoundingProvider provider = new DefaultRoundingProvider();
+        MonetaryRounding rounding = provider.getRounding(RoundingQueryBuilder.of().setCurrency(EURO).build());
+        assertNotSame(provider.getRounding(RoundingQueryBuilder.of().setCurrency(CHF).build()), rounding);
+        assertNotSame(provider.getRounding(RoundingQueryBuilder.of().setCurrency(EURO).set("cashRounding", true)
+                                                   .build()), rounding);
+        assertNotSame(provider.getRounding(RoundingQueryBuilder.of().setCurrency(EURO).set(RoundingMode.DOWN).build()),
+                      rounding);
+        assertNotSame(provider.getRounding(RoundingQueryBuilder.of().setScale(2).set(RoundingMode.DOWN).build()),
+                      provider.getRounding(RoundingQueryBuilder.of().setScale(3).set(RoundingMode.DOWN).build()));
+        assertSame(provider.getRounding(RoundingQueryBuilder.of().setRoundingName("default").build()),
+                   MonetaryRoundings.getDefaultRounding());
+    }
+
+    @Test
+    public void testFastMoneyRoundingSameAsMoney(){
+        Random random = new Random(7L);
+        for(int i = 0; i < 2000; i++){
+            BigDecimal value = BigDecimal.valueOf(random.nextLong() >> random.nextInt(50), 5);
+            FastMoney fastMoney = FastMoney.of(value, CHF);
+            Money money = Money.of(value, CHF);
+            for(RoundingMode mode : RoundingMode.values()){
+                if(mode == RoundingMode.UNNECESSARY){
+                    continue;
+                }
+                for(int scale = 0; scale <= 6; scale++){
+                    assertRoundedSame(new DefaultRounding(scale, mode), fastMoney, money);
+                }
+                assertRoundedSame(new DefaultCashRounding(CHF, mode, 5), fastMoney, money);
+            }
+        }
+    }
+
+    @Test
+    public void testFastMoneyRoundingReturnsSameInstance(){
+        FastMoney amount = FastMoney.of(new BigDecimal("1.25"), EURO);
+        assertSame(new DefaultRounding(2, RoundingMode.HALF_EVEN).apply(amount), amount);
+        assertSame(new DefaultCashRounding(EURO, RoundingMode.HALF_UP, 5).apply(amount), amount);
+        assertEquals(new DefaultRounding(1, RoundingMode.HALF_EVEN).apply(amount),
+                     FastMoney.of(new BigDecimal("1.2"), EURO));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testFastMoneyRoundingUnnecessary(){
+        new DefaultRounding(1, RoundingMode.UNNECESSARY).apply(FastMoney.of(new BigDecimal("1.25"), EURO));
+    }
+
+    private static void assertRoundedSame(MonetaryRounding rounding, FastMoney fastMoney, Money money){
+        MonetaryAmount fastResult = rounding.apply(fastMoney);
+        assertTrue(fastResult instanceof FastMoney);
+        assertEquals(fastResult.getNumber().numberValue(BigDecimal.class)
+                             .compareTo(rounding.apply(money).getNumber().numberValue(BigDecimal.class)), 0,
+                     fastMoney + " " + rounding.getRoundingContext());
+    }
+
+    @Test
+    public void testConfiguredCashRoundings(){
+        DefaultRoundingProvider provider = new DefaultRoundingProvider();
+        assertCashRounded(provider, "CHF", "1.025", "1.05");
+        assertCashRounded(provider, "CHF", "1.02", "1");
+        assertCashRounded(provider, "CAD", "1.02", "1");
+        assertCashRounded(provider, "CAD", "1.03", "1.05");
+        assertCashRounded(provider, "SEK", "10.49", "10");
+        assertCashRounded(provider, "SEK", "10.50", "11");
+        assertCashRounded(provider, "DKK", "10.74", "10.5");
+        assertCashRounded(provider, "NZD", "10.05", "10.1");
+        assertCashRounded(provider, "EUR", "10.005", "10.01");
+        assertCashRounded(provider, "EUR", "10.004", "10");
+    }
+
+    private static void assertCashRounded(DefaultRoundingProvider provider, String currencyCode, String value,
+                                          String expected){
+        CurrencyUnit currency = MonetaryCurrencies.getCurrency(currencyCode);
+        MonetaryRounding rounding =
+                provider.getRounding(RoundingQueryBuilder.of().setCurrency(currency).set("cashRounding", true).build());
+        MonetaryAmount money = rounding.apply(Money.of(new BigDecimal(value), currency));
+        assertEquals(money.getNumber().numberValue(BigDecimal.class).compareTo(new BigDecimal(expected)), 0,
+                     currencyCode + " " + value + " -> " + money);
+        MonetaryAmount fastMoney = rounding.apply(FastMoney.of(new BigDecimal(value), currency));
+        assertEquals(fastMoney.getNumber().numberValue(BigDecimal.class).compareTo(new BigDecimal(expected)), 0,
+                     currencyCode + " " + value + " -> " + fastMoney);
+    }
+
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link org.javamoney.moneta.spi.FixedPointArithmetic}.
+ */
+public class FixedPointArithmeticTest {
+
+	private static final long[] VALUES = { 0L, 1L, -1L, 2L, -3L, 5L, 7L, 10L, 15L, -25L, 99999L, 123456789L,
+			-987654321987L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE / 3, Long.MIN_VALUE / 7 };
+
+	@Test
+	public void multiplyAndDivideTest() {
+		for (long a : VALUES) {
+			for (long b : VALUES) {
+				for (long c : VALUES) {
+					if (c == 0L) {
+						continue;
+					}
+					for (RoundingMode mode : RoundingMode.values()) {
+						assertSameResult(a, b, c, mode);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void multiplyAndDivideRandomTest() {
+		Random random = new Random(4711L);
+		for (int i = 0; i < 10000; i++) {
+			long c = random.nextInt(Integer.MAX_VALUE) + 1L;
+			assertSameResult(random.nextLong(), random.nextInt(), c, RoundingMode.HALF_EVEN);
+			assertSameResult(random.nextLong(), random.nextLong() >> random.nextInt(64), random.nextLong(),
+					RoundingMode.HALF_UP);
+		}
+	}
+
+	@Test(expectedExceptions = ArithmeticException.class)
+	public void multiplyAndDivideByZeroTest() {
+		FixedPointArithmetic.multiplyAndDivide(1L, 1L, 0L, RoundingMode.HALF_EVEN);
+	}
+
+	@Test
+	public void divideTest() {
+		Assert.assertEquals(FixedPointArithmetic.divide(5L, 2L, RoundingMode.HALF_EVEN), 2L);
+		Assert.assertEquals(FixedPointArithmetic.divide(7L, 2L, RoundingMode.HALF_EVEN), 4L);
+		Assert.assertEquals(FixedPointArithmetic.divide(-5L, 2L, RoundingMode.HALF_UP), -3L);
+		Assert.assertEquals(FixedPointArithmetic.divide(-5L, 2L, RoundingMode.FLOOR), -3L);
+		Assert.assertEquals(FixedPointArithmetic.divide(-5L, 2L, RoundingMode.CEILING), -2L);
+		Assert.assertEquals(FixedPointArithmetic.divide(Long.MIN_VALUE, Long.MIN_VALUE, RoundingMode.UP), 1L);
+	}
+
+	@Test(expectedExceptions = ArithmeticException.class)
+	public void divideUnnecessaryTest() {
+		FixedPointArithmetic.divide(5L, 2L, RoundingMode.UNNECESSARY);
+	}
+
+	@Test
+	public void multiplyTest() {
+		Assert.assertEquals(FixedPointArithmetic.multiply(Long.MAX_VALUE / 2, new BigDecimal("1.5"),
+				RoundingMode.DOWN), new BigDecimal(Long.MAX_VALUE / 2).multiply(new BigDecimal("1.5")).longValue());
+		Assert.assertEquals(FixedPointArithmetic.multiply(100L, new BigDecimal("1E+3"), RoundingMode.DOWN), 100000L);
+		Assert.assertEquals(FixedPointArithmetic.multiply(100L, new BigDecimal("0.123456789012345678901"),
+				RoundingMode.HALF_EVEN), 12L);
+	}
+
+	@Test
+	public void scaleByPowerOfTenTest() {
+		Assert.assertEquals(FixedPointArithmetic.scaleByPowerOfTen(12345L, 2, RoundingMode.HALF_EVEN), 1234500L);
+		Assert.assertEquals(FixedPointArithmetic.scaleByPowerOfTen(12345L, -2, RoundingMode.HALF_EVEN), 123L);
+		Assert.assertEquals(FixedPointArithmetic.scaleByPowerOfTen(12355L, -1, RoundingMode.HALF_EVEN), 1236L);
+		Assert.assertEquals(FixedPointArithmetic.scaleByPowerOfTen(Long.MAX_VALUE, -30, RoundingMode.HALF_EVEN), 0L);
+	}
+
+	private static void assertSameResult(long a, long b, long c, RoundingMode mode) {
+		Long expected;
+		try {
+			expected = BigDecimal.valueOf(a).multiply(BigDecimal.valueOf(b))
+					.divide(BigDecimal.valueOf(c), 0, mode).longValueExact();
+		} catch (ArithmeticException e) {
+			expected = null;
+		}
+		try {
+			long result = FixedPointArithmetic.multiplyAndDivide(a, b, c, mode);
+			Assert.assertEquals(Long.valueOf(result), expected, a + " * " + b + " / " + c + ", " + mode);
+		} catch (ArithmeticException e) {
+			Assert.assertNull(expected, a + " * " + b + " / " + c + ", " + mode + ": " + e);
+		}
+	}
+}
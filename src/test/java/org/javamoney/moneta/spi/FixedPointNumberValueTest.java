@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import org.testng.annotations.Test;
+
+import javax.money.NumberValue;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+/**
+ * Tests for {@link org.javamoney.moneta.spi.FixedPointNumberValue}, comparing its results with
+ * {@link org.javamoney.moneta.spi.DefaultNumberValue}.
+ */
+public class FixedPointNumberValueTest{
+
+    private static void assertSameAsDefault(long unscaled, int scale){
+        NumberValue expected = new DefaultNumberValue(BigDecimal.valueOf(unscaled, scale));
+        NumberValue value = new FixedPointNumberValue(unscaled, scale);
+        String msg = unscaled + "E-" + scale;
+        assertEquals(value.numberValue(BigDecimal.class), expected.numberValue(BigDecimal.class), msg);
+        assertEquals(value.getScale(), expected.getScale(), msg);
+        assertEquals(value.getPrecision(), expected.getPrecision(), msg);
+        assertEquals(value.longValue(), expected.longValue(), msg);
+        assertEquals(value.intValue(), expected.intValue(), msg);
+        assertEquals(value.doubleValue(), expected.doubleValue(), msg);
+        assertEquals(value.floatValue(), expected.floatValue(), msg);
+        assertEquals(value.getNumberType(), expected.getNumberType(), msg);
+        assertEquals(value.toString(), expected.toString(), msg);
+        assertEquals(value.numberValue(Long.class), expected.numberValue(Long.class), msg);
+        assertEquals(value.numberValue(BigInteger.class), expected.numberValue(BigInteger.class), msg);
+        assertEquals(value.compareTo(expected), 0, msg);
+        if(expected.getScale() > 0 && expected.getScale() <= FixedPointArithmetic.MAX_POWER_OF_TEN){
+            assertEquals(value.getAmountFractionNumerator(), expected.getAmountFractionNumerator(), msg);
+            assertEquals(value.getAmountFractionDenominator(), expected.getAmountFractionDenominator(), msg);
+        }
+        try{
+            long exact = expected.longValueExact();
+            assertEquals(value.longValueExact(), exact, msg);
+        }
+        catch(ArithmeticException e){
+            try{
+                value.longValueExact();
+                fail("ArithmeticException expected for " + msg);
+            }
+            catch(ArithmeticException ignored){
+            }
+        }
+    }
+
+    @Test
+    public void testSameAsDefaultNumberValue(){
+        long[] values = {0L, 1L, -1L, 5L, 10L, 100000L, 150000L, -150000L, 123456789L, Long.MAX_VALUE,
+                Long.MIN_VALUE, Long.MAX_VALUE - 1, 9007199254740993L};
+        for(long value : values){
+            for(int scale = 0; scale <= 20; scale++){
+                assertSameAsDefault(value, scale);
+            }
+        }
+        Random random = new Random(3L);
+        for(int i = 0; i < 10000; i++){
+            long value = random.nextInt(4) == 0 ? random.nextLong() : random.nextInt(10000000) - 5000000;
+            assertSameAsDefault(value, random.nextInt(19));
+        }
+    }
+
+    @Test
+    public void testAmountFraction(){
+        NumberValue value = new FixedPointNumberValue(-1250000L, 5);
+        assertEquals(value.getAmountFractionNumerator(), -5L);
+        assertEquals(value.getAmountFractionDenominator(), 10L);
+        assertEquals(new FixedPointNumberValue(10000000L, 5).getAmountFractionNumerator(), 0L);
+        assertEquals(new FixedPointNumberValue(10000000L, 5).getAmountFractionDenominator(), 1L);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void testLongValueExactFraction(){
+        new FixedPointNumberValue(150000L, 5).longValueExact();
+    }
+
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2012, 2014, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import javax.money.MonetaryContext;
+import javax.money.MonetaryContextBuilder;
+
+import org.javamoney.moneta.Money;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link org.javamoney.moneta.spi.MoneyUtils}.
+ */
+public class MoneyUtilsTest {
+
+	private static final MonetaryContext CONTEXT = MonetaryContextBuilder.of(Money.class).setPrecision(5)
+			.set(RoundingMode.HALF_UP).build();
+
+	@Test
+	public void getBigDecimalRoundsOnlyIfRequired() {
+		BigDecimal value = new BigDecimal("123.45");
+		Assert.assertEquals(MoneyUtils.getBigDecimal(value, CONTEXT), value);
+		Assert.assertEquals(MoneyUtils.getBigDecimal(new BigDecimal("123.455"), CONTEXT), new BigDecimal("123.46"));
+		Assert.assertEquals(MoneyUtils.getBigDecimal(123456L, CONTEXT), new BigDecimal("1.2346E+5"));
+		Assert.assertEquals(MoneyUtils.getBigDecimal(new BigDecimal("123.455"), null), new BigDecimal("123.455"));
+	}
+
+	@Test
+	public void getBigDecimalSameAsStringRounding() {
+		String[] values = { "0", "1", "-1.5", "99999.5", "-99999.49", "0.000012345678", "123456789.987654321" };
+		MathContext mathContext = new MathContext(5, RoundingMode.HALF_UP);
+		for (String value : values) {
+			BigDecimal bd = new BigDecimal(value);
+			Assert.assertEquals(MoneyUtils.getBigDecimal(bd, CONTEXT), new BigDecimal(bd.toString(), mathContext),
+					value);
+		}
+	}
+
+	@Test
+	public void getMathContextIsCached() {
+		MathContext mathContext = MoneyUtils.getMathContext(CONTEXT);
+		Assert.assertEquals(mathContext, new MathContext(5, RoundingMode.HALF_UP));
+		Assert.assertSame(MoneyUtils.getMathContext(CONTEXT), mathContext);
+		Assert.assertSame(MoneyUtils.getMathContext(MonetaryContextBuilder.of(Money.class).setPrecision(5)
+				.set(RoundingMode.HALF_UP).build()), mathContext);
+		Assert.assertEquals(MoneyUtils.getMathContext(MonetaryContextBuilder.of(Money.class).setPrecision(7).build()),
+				new MathContext(7, RoundingMode.HALF_EVEN));
+	}
+
+}